@@ -19,6 +19,7 @@ import static com.github.tomakehurst.wiremock.common.ParameterUtils.checkState;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 
 import com.github.tomakehurst.wiremock.admin.model.*;
+import com.github.tomakehurst.wiremock.client.BatchVerificationBuilder;
 import com.github.tomakehurst.wiremock.client.CountMatchingStrategy;
 import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.client.VerificationException;
@@ -154,7 +155,13 @@ public class WireMockServer implements Container, Stubbing, Admin {
   }
 
   public void stop() {
+    wireMockApp.closeServeEventStreams();
+    wireMockApp.persistPendingState();
     httpServer.stop();
+    wireMockApp.releaseResources();
+    if (notifier instanceof AsyncNotifier) {
+      ((AsyncNotifier) notifier).close();
+    }
   }
 
   public void start() {
@@ -294,6 +301,11 @@ public class WireMockServer implements Container, Stubbing, Admin {
     client.verifyThat(requestPatternBuilder);
   }
 
+  @Override
+  public void verify(BatchVerificationBuilder batch) {
+    client.verifyThat(batch);
+  }
+
   @Override
   public void verify(int count, RequestPatternBuilder requestPatternBuilder) {
     client.verifyThat(count, requestPatternBuilder);
@@ -360,6 +372,16 @@ public class WireMockServer implements Container, Stubbing, Admin {
     return wireMockApp.getStubMapping(id);
   }
 
+  @Override
+  public SingleStubStatsResult getStubStats(UUID id) {
+    return wireMockApp.getStubStats(id);
+  }
+
+  @Override
+  public ListStubStatsResult getAllStubStats() {
+    return wireMockApp.getAllStubStats();
+  }
+
   @Override
   public void saveMappings() {
     wireMockApp.saveMappings();
@@ -410,6 +432,11 @@ public class WireMockServer implements Container, Stubbing, Admin {
     return wireMockApp.countRequestsMatching(requestPattern);
   }
 
+  @Override
+  public BatchVerificationResult verifyRequests(BatchVerification batchVerification) {
+    return wireMockApp.verifyRequests(batchVerification);
+  }
+
   @Override
   public FindRequestsResult findRequestsMatching(RequestPattern requestPattern) {
     return wireMockApp.findRequestsMatching(requestPattern);
@@ -22,32 +22,61 @@ import static com.github.tomakehurst.wiremock.http.RequestMethod.*;
 import com.github.tomakehurst.wiremock.admin.tasks.*;
 import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.verification.ServeEventBroadcaster;
 import com.google.common.collect.ImmutableBiMap;
 import java.util.Collections;
-import java.util.Map.Entry;
+import java.util.HashMap;
+import java.util.Map;
 
 public class AdminRoutes {
 
   private final ImmutableBiMap<RequestSpec, AdminTask> routes;
+  private final RouteTable routeTable;
+  private final Map<Class<? extends AdminTask>, RequestSpec> requestSpecsByTaskClass;
   private final Iterable<AdminApiExtension> apiExtensions;
   private final Stores stores;
+  private final ServeEventBroadcaster serveEventBroadcaster;
+  private final Metrics metrics;
 
   public static AdminRoutes forClient() {
-    return new AdminRoutes(Collections.emptyList(), null);
+    return new AdminRoutes(Collections.emptyList(), null, null, Metrics.DISABLED);
   }
 
   public static AdminRoutes forServer(Iterable<AdminApiExtension> apiExtensions, Stores stores) {
     return new AdminRoutes(apiExtensions, stores);
   }
 
+  public static AdminRoutes forServer(
+      Iterable<AdminApiExtension> apiExtensions,
+      Stores stores,
+      ServeEventBroadcaster serveEventBroadcaster,
+      Metrics metrics) {
+    return new AdminRoutes(apiExtensions, stores, serveEventBroadcaster, metrics);
+  }
+
   protected AdminRoutes(Iterable<AdminApiExtension> apiExtensions, Stores stores) {
+    this(
+        apiExtensions, stores, new ServeEventBroadcaster(Collections.emptyMap()), Metrics.DISABLED);
+  }
+
+  protected AdminRoutes(
+      Iterable<AdminApiExtension> apiExtensions,
+      Stores stores,
+      ServeEventBroadcaster serveEventBroadcaster,
+      Metrics metrics) {
     this.apiExtensions = apiExtensions;
     this.stores = stores;
+    this.serveEventBroadcaster = serveEventBroadcaster;
+    this.metrics = metrics;
     RouteBuilder routeBuilder = new RouteBuilder();
     initDefaultRoutes(routeBuilder);
     initAdditionalRoutes(routeBuilder);
     routes = routeBuilder.build();
+    routeTable = new RouteTable(routes);
+    requestSpecsByTaskClass = new HashMap<>();
+    routes.forEach((spec, task) -> requestSpecsByTaskClass.putIfAbsent(task.getClass(), spec));
   }
 
   private void initDefaultRoutes(Router router) {
@@ -64,7 +93,9 @@ public class AdminRoutes {
 
     router.add(POST, "/mappings/save", new SaveMappingsTask());
     router.add(POST, "/mappings/reset", new ResetToDefaultMappingsTask());
+    router.add(GET, "/mappings/stats", new GetAllStubStatsTask());
     router.add(GET, "/mappings/{id}", new GetStubMappingTask());
+    router.add(GET, "/mappings/{id}/stats", new GetStubStatsTask());
     router.add(PUT, "/mappings/{id}", new EditStubMappingTask());
     router.add(POST, "/mappings/remove", new RemoveMatchingStubMappingTask());
     router.add(DELETE, "/mappings/{id}", new RemoveStubMappingByIdTask());
@@ -83,9 +114,12 @@ public class AdminRoutes {
     router.add(GET, "/requests", new GetAllRequestsTask());
     router.add(DELETE, "/requests", new ResetRequestsTask());
     router.add(POST, "/requests/count", new GetRequestCountTask());
+    router.add(POST, "/requests/verify", new VerifyRequestsTask());
     router.add(POST, "/requests/find", new FindRequestsTask());
     router.add(GET, "/requests/unmatched", new FindUnmatchedRequestsTask());
     router.add(GET, "/requests/unmatched/near-misses", new FindNearMissesForUnmatchedTask());
+    router.add(GET, "/requests/stream", new StreamServeEventsTask(serveEventBroadcaster));
+    router.add(POST, "/requests/stream", new StreamServeEventsTask(serveEventBroadcaster));
     router.add(GET, "/requests/{id}", new GetServedStubTask());
     router.add(DELETE, "/requests/{id}", new RemoveServeEventTask());
     router.add(POST, "/requests/remove", new RemoveServeEventsByRequestPatternTask());
@@ -113,6 +147,7 @@ public class AdminRoutes {
     router.add(GET, "/certs/wiremock-ca.crt", new GetCaCertTask());
 
     router.add(GET, "/health", new HealthCheckTask());
+    router.add(GET, "/metrics", new GetMetricsTask(metrics));
 
     router.add(GET, "/version", new GetVersionTask());
   }
@@ -124,21 +159,16 @@ public class AdminRoutes {
   }
 
   public AdminTask taskFor(final RequestMethod method, final String path) {
-    return routes.entrySet().stream()
-        .filter(entry -> entry.getKey().matches(method, path))
-        .map(Entry::getValue)
-        .findFirst()
-        .orElseGet(NotFoundAdminTask::new);
+    AdminTask task = routeTable.find(method, path);
+    return task != null ? task : new NotFoundAdminTask();
   }
 
   public RequestSpec requestSpecForTask(final Class<? extends AdminTask> taskClass) {
-    return routes.entrySet().stream()
-        .filter(input -> input.getValue().getClass().equals(taskClass))
-        .map(Entry::getKey)
-        .findFirst()
-        .orElseThrow(
-            () ->
-                new NotFoundException("No route could be found for " + taskClass.getSimpleName()));
+    RequestSpec requestSpec = requestSpecsByTaskClass.get(taskClass);
+    if (requestSpec == null) {
+      throw new NotFoundException("No route could be found for " + taskClass.getSimpleName());
+    }
+    return requestSpec;
   }
 
   protected static class RouteBuilder implements Router {
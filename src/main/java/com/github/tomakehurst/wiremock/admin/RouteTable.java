@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin;
+
+import static com.github.tomakehurst.wiremock.http.RequestMethod.ANY;
+
+import com.github.tomakehurst.wiremock.common.url.PathTemplate;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The admin routes compiled into a tree of path segments, so that finding the task for a request
+ * takes time proportional to the depth of the path rather than the number of routes, and does not
+ * allocate.
+ *
+ * <p>Templates made up only of static segments, whole-segment variables and a trailing {@code **}
+ * go into the tree. Anything else, e.g. a variable sharing a segment with static text, is matched
+ * with its {@link PathTemplate} as before. Where several routes match, the one registered first
+ * wins, exactly as when the routes were searched in order.
+ */
+class RouteTable {
+
+  private static final Pattern VARIABLE_SEGMENT = Pattern.compile("\\{[^}]+}");
+  private static final String WILDCARD_SEGMENT = "**";
+
+  private final Node root = new Node(null);
+  private final List<Route> fallbackRoutes = new ArrayList<>();
+
+  RouteTable(Map<RequestSpec, AdminTask> routes) {
+    int index = 0;
+    for (Map.Entry<RequestSpec, AdminTask> entry : routes.entrySet()) {
+      add(new Route(index++, entry.getKey(), entry.getValue()));
+    }
+  }
+
+  private void add(Route route) {
+    String template = route.spec.getUriTemplate().toString();
+    if (!template.startsWith("/")) {
+      fallbackRoutes.add(route);
+      return;
+    }
+
+    String[] segments = template.substring(1).split("/", -1);
+    Node node = root;
+    for (int i = 0; i < segments.length; i++) {
+      String segment = segments[i];
+      boolean last = i == segments.length - 1;
+      if (last && segment.equals(WILDCARD_SEGMENT)) {
+        node.wildcardRoutes.add(route);
+        return;
+      } else if (VARIABLE_SEGMENT.matcher(segment).matches()) {
+        node = node.variableChild();
+      } else if (!PathTemplate.couldBePathTemplate(segment)) {
+        node = node.staticChild(segment);
+      } else {
+        fallbackRoutes.add(route);
+        return;
+      }
+    }
+    node.routes.add(route);
+  }
+
+  /**
+   * @return the task for the first registered route matching the request, or null if none match
+   */
+  AdminTask find(RequestMethod method, String path) {
+    int end = path.indexOf('?');
+    if (end == -1) {
+      end = path.length();
+    }
+
+    Route best = null;
+    if (path.startsWith("/")) {
+      best = find(root, method, path, 1, end, null);
+    }
+
+    for (Route route : fallbackRoutes) {
+      if (best != null && best.index < route.index) {
+        break;
+      }
+      if (route.spec.matches(method, path)) {
+        best = route;
+        break;
+      }
+    }
+
+    return best != null ? best.task : null;
+  }
+
+  private static Route find(
+      Node node, RequestMethod method, String path, int start, int end, Route best) {
+    best = first(node.wildcardRoutes, method, best);
+
+    int segmentEnd = path.indexOf('/', start);
+    boolean lastSegment = segmentEnd == -1 || segmentEnd >= end;
+    if (lastSegment) {
+      segmentEnd = end;
+    }
+
+    for (Node child : node.staticChildren) {
+      if (child.segmentMatches(path, start, segmentEnd)) {
+        best =
+            lastSegment
+                ? first(child.routes, method, best)
+                : find(child, method, path, segmentEnd + 1, end, best);
+        break;
+      }
+    }
+
+    if (node.variableChild != null && segmentEnd > start) {
+      Node child = node.variableChild;
+      best =
+          lastSegment
+              ? first(child.routes, method, best)
+              : find(child, method, path, segmentEnd + 1, end, best);
+    }
+
+    return best;
+  }
+
+  private static Route first(List<Route> routes, RequestMethod method, Route best) {
+    for (Route route : routes) {
+      if (best != null && best.index < route.index) {
+        return best;
+      }
+      if (route.spec.method().equals(ANY) || route.spec.method().equals(method)) {
+        return route;
+      }
+    }
+    return best;
+  }
+
+  private static class Node {
+    private final String segment;
+    private final List<Node> staticChildren = new ArrayList<>();
+    private Node variableChild;
+    private final List<Route> routes = new ArrayList<>();
+    private final List<Route> wildcardRoutes = new ArrayList<>();
+
+    Node(String segment) {
+      this.segment = segment;
+    }
+
+    Node staticChild(String segment) {
+      for (Node child : staticChildren) {
+        if (child.segment.equals(segment)) {
+          return child;
+        }
+      }
+      Node child = new Node(segment);
+      staticChildren.add(child);
+      return child;
+    }
+
+    Node variableChild() {
+      if (variableChild == null) {
+        variableChild = new Node(null);
+      }
+      return variableChild;
+    }
+
+    boolean segmentMatches(String path, int start, int end) {
+      return segment.length() == end - start && path.regionMatches(start, segment, 0, end - start);
+    }
+  }
+
+  private static class Route {
+    final int index;
+    final RequestSpec spec;
+    final AdminTask task;
+
+    Route(int index, RequestSpec spec, AdminTask task) {
+      this.index = index;
+      this.spec = spec;
+      this.task = task;
+    }
+  }
+}
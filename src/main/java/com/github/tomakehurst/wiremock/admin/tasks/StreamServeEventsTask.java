@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin.tasks;
+
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.jsonResponse;
+import static com.github.tomakehurst.wiremock.http.HttpHeader.httpHeader;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.github.tomakehurst.wiremock.admin.AdminTask;
+import com.github.tomakehurst.wiremock.admin.Conversions;
+import com.github.tomakehurst.wiremock.common.Errors;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.url.PathParams;
+import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.http.StreamingResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.ServeEventBroadcaster;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Streams serve events to the caller as Server-Sent Events as each request completes. A request
+ * pattern may be posted to receive only matching events. If the caller reads too slowly, events
+ * beyond its buffer are dropped and a "dropped" event reports the running total. Callers beyond the
+ * maximum number of subscribers get a 503.
+ */
+public class StreamServeEventsTask implements AdminTask {
+
+  static final long HEARTBEAT_INTERVAL_MILLIS = 10_000;
+
+  private final ServeEventBroadcaster broadcaster;
+
+  public StreamServeEventsTask(ServeEventBroadcaster broadcaster) {
+    this.broadcaster = broadcaster;
+  }
+
+  @Override
+  public ResponseDefinition execute(Admin admin, ServeEvent serveEvent, PathParams pathParams) {
+    Request request = serveEvent.getRequest();
+    RequestPattern filter =
+        request.getBody() != null && request.getBody().length > 0
+            ? Json.read(request.getBodyAsString(), RequestPattern.class)
+            : null;
+    Integer bufferSize = Conversions.toInt(request.queryParameter("bufferSize"));
+
+    Optional<ServeEventBroadcaster.Subscription> subscription =
+        broadcaster.subscribe(
+            filter,
+            bufferSize != null && bufferSize > 0
+                ? bufferSize
+                : ServeEventBroadcaster.DEFAULT_BUFFER_SIZE);
+    if (subscription.isEmpty()) {
+      return jsonResponse(
+          Errors.single(HTTP_UNAVAILABLE, "Too many serve event stream subscribers"),
+          HTTP_UNAVAILABLE);
+    }
+
+    return new StreamingResponseDefinition(
+        HTTP_OK,
+        new HttpHeaders(
+            httpHeader("Content-Type", "text/event-stream"),
+            httpHeader("Cache-Control", "no-cache")),
+        () -> new EventStreamInputStream(subscription.get()));
+  }
+
+  private static class EventStreamInputStream extends InputStream {
+
+    private final ServeEventBroadcaster.Subscription subscription;
+
+    private byte[] frame = ": connected\n\n".getBytes(UTF_8);
+    private int position;
+    private long droppedReported;
+
+    EventStreamInputStream(ServeEventBroadcaster.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public int read() {
+      if (!fill()) {
+        return -1;
+      }
+      return frame[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!fill()) {
+        return -1;
+      }
+
+      int count = Math.min(length, frame.length - position);
+      System.arraycopy(frame, position, bytes, offset, count);
+      position += count;
+      return count;
+    }
+
+    private boolean fill() {
+      if (position < frame.length) {
+        return true;
+      }
+
+      ServeEvent serveEvent;
+      try {
+        serveEvent = subscription.poll(HEARTBEAT_INTERVAL_MILLIS, MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } catch (IllegalStateException e) {
+        return false;
+      }
+
+      StringBuilder sb = new StringBuilder();
+      long dropped = subscription.getDroppedCount();
+      if (dropped > droppedReported) {
+        droppedReported = dropped;
+        appendEvent(sb, "dropped", null, "{\"dropped\":" + dropped + "}");
+      }
+
+      if (serveEvent != null) {
+        appendEvent(sb, "serveEvent", serveEvent.getId().toString(), Json.write(serveEvent));
+      } else if (sb.length() == 0) {
+        sb.append(": keepalive\n\n");
+      }
+
+      frame = sb.toString().getBytes(UTF_8);
+      position = 0;
+      return true;
+    }
+
+    private static void appendEvent(StringBuilder sb, String type, String id, String data) {
+      if (id != null) {
+        sb.append("id: ").append(id).append('\n');
+      }
+      sb.append("event: ").append(type).append('\n');
+      data.lines().forEach(line -> sb.append("data: ").append(line).append('\n'));
+      sb.append('\n');
+    }
+
+    @Override
+    public void close() {
+      subscription.close();
+    }
+  }
+}
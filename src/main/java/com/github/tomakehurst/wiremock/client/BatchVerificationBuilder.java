@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.moreThanOrExactly;
+
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects several verifications so that they can be checked against the request journal in one
+ * admin call rather than one call per verification.
+ */
+public class BatchVerificationBuilder {
+
+  private final List<CountMatchingStrategy> expectedCounts = new ArrayList<>();
+  private final List<RequestPatternBuilder> requestPatternBuilders = new ArrayList<>();
+
+  public BatchVerificationBuilder verify(RequestPatternBuilder requestPatternBuilder) {
+    return verify(moreThanOrExactly(1), requestPatternBuilder);
+  }
+
+  public BatchVerificationBuilder verify(
+      int expectedCount, RequestPatternBuilder requestPatternBuilder) {
+    return verify(exactly(expectedCount), requestPatternBuilder);
+  }
+
+  public BatchVerificationBuilder verify(
+      CountMatchingStrategy expectedCount, RequestPatternBuilder requestPatternBuilder) {
+    expectedCounts.add(expectedCount);
+    requestPatternBuilders.add(requestPatternBuilder);
+    return this;
+  }
+
+  List<CountMatchingStrategy> getExpectedCounts() {
+    return expectedCounts;
+  }
+
+  List<RequestPatternBuilder> getRequestPatternBuilders() {
+    return requestPatternBuilders;
+  }
+}
@@ -15,6 +15,11 @@
  */
 package com.github.tomakehurst.wiremock.client;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
 /** Matches the number of requests made using relational predicates. */
 public class CountMatchingStrategy {
 
@@ -83,6 +88,14 @@ public class CountMatchingStrategy {
         }
       };
 
+  private static final Map<String, CountMatchingMode> MODES_BY_NAME =
+      Map.of(
+          "LESS_THAN", LESS_THAN,
+          "LESS_THAN_OR_EQUAL", LESS_THAN_OR_EQUAL,
+          "EQUAL_TO", EQUAL_TO,
+          "GREATER_THAN_OR_EQUAL", GREATER_THAN_OR_EQUAL,
+          "GREATER_THAN", GREATER_THAN);
+
   private CountMatchingMode mode;
   private int expected;
 
@@ -91,10 +104,42 @@ public class CountMatchingStrategy {
     this.expected = expected;
   }
 
+  @JsonCreator
+  public static CountMatchingStrategy fromModeName(
+      @JsonProperty("mode") String modeName, @JsonProperty("expected") int expected) {
+    CountMatchingMode mode = MODES_BY_NAME.get(modeName);
+    if (mode == null) {
+      throw new IllegalArgumentException("Unknown count matching mode: " + modeName);
+    }
+    return new CountMatchingStrategy(mode, expected);
+  }
+
   public boolean match(int actual) {
     return mode.test(actual, expected);
   }
 
+  /**
+   * The name of one of the built-in modes, or null if this strategy uses a custom {@link
+   * CountMatchingMode} that can only be evaluated locally.
+   */
+  @JsonProperty("mode")
+  public String getModeName() {
+    return MODES_BY_NAME.entrySet().stream()
+        .filter(entry -> entry.getValue() == mode)
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElse(null);
+  }
+
+  @JsonIgnore
+  public boolean isBuiltInMode() {
+    return getModeName() != null;
+  }
+
+  public int getExpected() {
+    return expected;
+  }
+
   @Override
   public String toString() {
     return String.format("%s %d", mode.getFriendlyName(), expected);
@@ -49,6 +49,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
@@ -56,10 +57,14 @@ import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityTemplate;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.hc.core5.io.CloseMode;
 
-public class HttpAdminClient implements Admin {
+public class HttpAdminClient implements Admin, AutoCloseable {
 
   private static final String ADMIN_URL_PREFIX = "%s://%s:%d%s/__admin";
 
@@ -135,10 +140,28 @@ public class HttpAdminClient implements Admin {
     this(host, port, "");
   }
 
+  /** Closes this client's pooled connections, after which it can no longer be used. */
+  @Override
+  public void close() {
+    httpClient.close(CloseMode.GRACEFUL);
+  }
+
   private static StringEntity jsonStringEntity(String json) {
     return new StringEntity(json, StandardCharsets.UTF_8);
   }
 
+  private static HttpEntity gzippedJsonEntity(Object body) {
+    return new EntityTemplate(
+        -1,
+        ContentType.APPLICATION_JSON,
+        "gzip",
+        out -> {
+          try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            Json.getObjectMapper().writerWithView(Json.PublicView.class).writeValue(gzipOut, body);
+          }
+        });
+  }
+
   @Override
   public void addStubMapping(StubMapping stubMapping) {
     if (stubMapping.getRequest().hasInlineCustomMatcher()) {
@@ -189,6 +212,20 @@ public class HttpAdminClient implements Admin {
         SingleStubMappingResult.class);
   }
 
+  @Override
+  public SingleStubStatsResult getStubStats(UUID id) {
+    return executeRequest(
+        adminRoutes.requestSpecForTask(GetStubStatsTask.class),
+        PathParams.single("id", id),
+        SingleStubStatsResult.class);
+  }
+
+  @Override
+  public ListStubStatsResult getAllStubStats() {
+    return executeRequest(
+        adminRoutes.requestSpecForTask(GetAllStubStatsTask.class), ListStubStatsResult.class);
+  }
+
   @Override
   public void saveMappings() {
     postJsonAssertOkAndReturnBody(urlFor(SaveMappingsTask.class), null);
@@ -258,6 +295,14 @@ public class HttpAdminClient implements Admin {
     return VerificationResult.from(body);
   }
 
+  @Override
+  public BatchVerificationResult verifyRequests(BatchVerification batchVerification) {
+    String body =
+        postJsonAssertOkAndReturnBody(
+            urlFor(VerifyRequestsTask.class), Json.write(batchVerification));
+    return Json.read(body, BatchVerificationResult.class);
+  }
+
   @Override
   public FindRequestsResult findRequestsMatching(RequestPattern requestPattern) {
     String body =
@@ -423,8 +468,21 @@ public class HttpAdminClient implements Admin {
 
   @Override
   public void importStubs(StubImport stubImport) {
-    executeRequest(
-        adminRoutes.requestSpecForTask(ImportStubMappingsTask.class), stubImport, Void.class);
+    RequestSpec requestSpec = adminRoutes.requestSpecForTask(ImportStubMappingsTask.class);
+    String url =
+        String.format(
+            ADMIN_URL_PREFIX + requestSpec.path(PathParams.empty()),
+            scheme,
+            host,
+            port,
+            urlPathPrefix);
+    ClassicHttpRequest request =
+        ClassicRequestBuilder.create(requestSpec.method().getName())
+            .setUri(url)
+            .setEntity(gzippedJsonEntity(stubImport))
+            .build();
+
+    safelyExecuteRequest(url, request);
   }
 
   @Override
@@ -21,8 +21,10 @@ import static com.github.tomakehurst.wiremock.matching.RequestPattern.thatMatch;
 import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.allRequests;
 
 import com.github.tomakehurst.wiremock.admin.model.ListStubMappingsResult;
+import com.github.tomakehurst.wiremock.admin.model.ListStubStatsResult;
 import com.github.tomakehurst.wiremock.admin.model.ServeEventQuery;
 import com.github.tomakehurst.wiremock.admin.model.SingleStubMappingResult;
+import com.github.tomakehurst.wiremock.admin.model.SingleStubStatsResult;
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
@@ -30,6 +32,7 @@ import com.github.tomakehurst.wiremock.core.Admin;
 import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.http.HttpClientFactory;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.matching.*;
@@ -46,6 +49,9 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubImport;
 import com.github.tomakehurst.wiremock.stubbing.StubImportBuilder;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubStats;
+import com.github.tomakehurst.wiremock.verification.BatchVerification;
+import com.github.tomakehurst.wiremock.verification.BatchVerificationResult;
 import com.github.tomakehurst.wiremock.verification.FindNearMissesResult;
 import com.github.tomakehurst.wiremock.verification.FindRequestsResult;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
@@ -56,10 +62,15 @@ import com.networknt.schema.SpecVersion;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -72,6 +83,25 @@ public class WireMock {
 
   private final SettingsStore settingsStore = new InMemorySettingsStore();
 
+  // No more threads than an admin client has connections, since extra ones would only wait for a
+  // connection. Idle threads time out.
+  private static final ThreadPoolExecutor ASYNC_EXECUTOR =
+      new ThreadPoolExecutor(
+          HttpClientFactory.DEFAULT_MAX_CONNECTIONS,
+          HttpClientFactory.DEFAULT_MAX_CONNECTIONS,
+          60,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          runnable -> {
+            Thread thread = new Thread(runnable, "wiremock-admin-client");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  static {
+    ASYNC_EXECUTOR.allowCoreThreadTimeOut(true);
+  }
+
   private static InheritableThreadLocal<WireMock> defaultInstance =
       new InheritableThreadLocal<WireMock>() {
         @Override
@@ -154,6 +184,14 @@ public class WireMock {
     return defaultInstance.get().getStubMapping(id).getItem();
   }
 
+  public static ListStubStatsResult listAllStubStats() {
+    return defaultInstance.get().allStubStats();
+  }
+
+  public static StubStats getSingleStubStats(UUID id) {
+    return defaultInstance.get().getStubStats(id).getItem();
+  }
+
   public static void configureFor(int port) {
     defaultInstance.set(WireMock.create().port(port).build());
   }
@@ -396,6 +434,10 @@ public class WireMock {
     admin.resetRequests();
   }
 
+  public CompletableFuture<Void> resetRequestsAsync() {
+    return CompletableFuture.runAsync(this::resetRequests, ASYNC_EXECUTOR);
+  }
+
   public void resetScenarios() {
     admin.resetScenarios();
   }
@@ -446,6 +488,15 @@ public class WireMock {
     admin.addStubMapping(mapping);
   }
 
+  public CompletableFuture<StubMapping> registerAsync(MappingBuilder mappingBuilder) {
+    StubMapping mapping = mappingBuilder.build();
+    return registerAsync(mapping).thenApply(done -> mapping);
+  }
+
+  public CompletableFuture<Void> registerAsync(StubMapping mapping) {
+    return CompletableFuture.runAsync(() -> register(mapping), ASYNC_EXECUTOR);
+  }
+
   public void editStubMapping(MappingBuilder mappingBuilder) {
     admin.editStubMapping(mappingBuilder.build());
   }
@@ -462,6 +513,14 @@ public class WireMock {
     return admin.listAllStubMappings();
   }
 
+  public ListStubStatsResult allStubStats() {
+    return admin.getAllStubStats();
+  }
+
+  public SingleStubStatsResult getStubStats(UUID id) {
+    return admin.getStubStats(id);
+  }
+
   public SingleStubMappingResult getStubMapping(UUID id) {
     return admin.getStubMapping(id);
   }
@@ -747,6 +806,108 @@ public class WireMock {
     }
   }
 
+  public static BatchVerificationBuilder verifications() {
+    return new BatchVerificationBuilder();
+  }
+
+  /**
+   * Checks all of the verifications in the batch using a single admin call and a single pass over
+   * the request journal, reporting every failure rather than only the first.
+   */
+  public void verifyThat(BatchVerificationBuilder batch) {
+    List<CountMatchingStrategy> expectedCounts = batch.getExpectedCounts();
+    List<RequestPattern> requestPatterns =
+        batch.getRequestPatternBuilders().stream()
+            .map(RequestPatternBuilder::build)
+            .collect(Collectors.toList());
+
+    List<BatchVerification.Item> remoteVerifications = new ArrayList<>();
+    for (int i = 0; i < requestPatterns.size(); i++) {
+      RequestPattern requestPattern = requestPatterns.get(i);
+      if (!requestPattern.hasInlineCustomMatcher()) {
+        CountMatchingStrategy expectedCount = expectedCounts.get(i);
+        remoteVerifications.add(
+            new BatchVerification.Item(
+                requestPattern, expectedCount.isBuiltInMode() ? expectedCount : null));
+      }
+    }
+
+    List<BatchVerificationResult.Item> remoteResults = Collections.emptyList();
+    if (!remoteVerifications.isEmpty()) {
+      BatchVerificationResult result =
+          admin.verifyRequests(new BatchVerification(remoteVerifications));
+      result.assertRequestJournalEnabled();
+      remoteResults = result.getResults();
+    }
+
+    List<String> failures = new ArrayList<>();
+    int remoteIndex = 0;
+    for (int i = 0; i < requestPatterns.size(); i++) {
+      RequestPattern requestPattern = requestPatterns.get(i);
+      try {
+        if (requestPattern.hasInlineCustomMatcher()) {
+          verifyThat(expectedCounts.get(i), batch.getRequestPatternBuilders().get(i));
+        } else {
+          assertBatchResult(
+              expectedCounts.get(i),
+              batch.getRequestPatternBuilders().get(i),
+              requestPattern,
+              remoteResults.get(remoteIndex++));
+        }
+      } catch (VerificationException e) {
+        failures.add(e.getMessage());
+      }
+    }
+
+    if (failures.size() == 1) {
+      throw new VerificationException(failures.get(0));
+    } else if (!failures.isEmpty()) {
+      throw new VerificationException(
+          failures.size()
+              + " of "
+              + requestPatterns.size()
+              + " verifications failed:\n\n"
+              + String.join("\n\n", failures));
+    }
+  }
+
+  private void assertBatchResult(
+      CountMatchingStrategy expectedCount,
+      RequestPatternBuilder requestPatternBuilder,
+      RequestPattern requestPattern,
+      BatchVerificationResult.Item result) {
+    int actualCount = result.getCount();
+    if (expectedCount.match(actualCount)) {
+      return;
+    }
+
+    if (actualCount != 0) {
+      throw new VerificationException(requestPattern, expectedCount, actualCount);
+    }
+
+    List<NearMiss> nearMisses = result.getNearMisses();
+    if (nearMisses == null) {
+      throw verificationExceptionForNearMisses(requestPatternBuilder, requestPattern);
+    }
+
+    if (!nearMisses.isEmpty()) {
+      Diff diff = new Diff(requestPattern, nearMisses.get(0).getRequest());
+      throw VerificationException.forUnmatchedRequestPattern(diff);
+    }
+
+    throw new VerificationException(requestPattern, find(allRequests()));
+  }
+
+  public CompletableFuture<Void> verifyThatAsync(RequestPatternBuilder requestPatternBuilder) {
+    return verifyThatAsync(moreThanOrExactly(1), requestPatternBuilder);
+  }
+
+  public CompletableFuture<Void> verifyThatAsync(
+      CountMatchingStrategy expectedCount, RequestPatternBuilder requestPatternBuilder) {
+    return CompletableFuture.runAsync(
+        () -> verifyThat(expectedCount, requestPatternBuilder), ASYNC_EXECUTOR);
+  }
+
   private VerificationException verificationExceptionForNearMisses(
       RequestPatternBuilder requestPatternBuilder, RequestPattern requestPattern) {
     List<NearMiss> nearMisses = findAllNearMissesFor(requestPatternBuilder);
@@ -758,6 +919,10 @@ public class WireMock {
     return new VerificationException(requestPattern, find(allRequests()));
   }
 
+  public static void verify(BatchVerificationBuilder batch) {
+    defaultInstance.get().verifyThat(batch);
+  }
+
   public static void verify(RequestPatternBuilder requestPatternBuilder) {
     defaultInstance.get().verifyThat(requestPatternBuilder);
   }
@@ -777,6 +942,11 @@ public class WireMock {
     return result.getRequests();
   }
 
+  public CompletableFuture<List<LoggedRequest>> findAsync(
+      RequestPatternBuilder requestPatternBuilder) {
+    return CompletableFuture.supplyAsync(() -> find(requestPatternBuilder), ASYNC_EXECUTOR);
+  }
+
   public static List<LoggedRequest> findAll(RequestPatternBuilder requestPatternBuilder) {
     return defaultInstance.get().find(requestPatternBuilder);
   }
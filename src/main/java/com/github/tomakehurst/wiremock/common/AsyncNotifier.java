@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Wraps a {@link Notifier} so that messages are handed to a background thread rather than being
+ * formatted and written on the calling thread. Messages passed as a {@link Supplier} are only built
+ * on the background thread, so request threads just enqueue a reference.
+ *
+ * <p>The queue is bounded. When it is full, new messages are dropped rather than blocking the
+ * caller, and a count of dropped messages is reported once there is space again.
+ *
+ * <p>The writer thread is started by the first message and stopped by {@link #close()}. A message
+ * sent after closing starts it again.
+ */
+public class AsyncNotifier implements Notifier {
+
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 10_000;
+
+  private static final Runnable STOP = () -> {};
+
+  private final Notifier delegate;
+  private final BlockingQueue<Runnable> queue;
+  private final AtomicLong dropped = new AtomicLong();
+  private volatile Thread writer;
+
+  public AsyncNotifier(Notifier delegate) {
+    this(delegate, DEFAULT_MAX_QUEUE_SIZE);
+  }
+
+  public AsyncNotifier(Notifier delegate, int maxQueueSize) {
+    this.delegate = delegate;
+    this.queue = new LinkedBlockingQueue<>(maxQueueSize);
+  }
+
+  @Override
+  public void info(String message) {
+    enqueue(() -> delegate.info(message));
+  }
+
+  @Override
+  public void info(Supplier<String> message) {
+    enqueue(() -> delegate.info(message));
+  }
+
+  @Override
+  public void error(String message) {
+    enqueue(() -> delegate.error(message));
+  }
+
+  @Override
+  public void error(String message, Throwable t) {
+    enqueue(() -> delegate.error(message, t));
+  }
+
+  /** Blocks until every message enqueued before this call has been written. */
+  public synchronized void flush() {
+    Thread currentWriter = writer;
+    if (currentWriter == null || Thread.currentThread() == currentWriter) {
+      return;
+    }
+
+    CountDownLatch written = new CountDownLatch(1);
+    try {
+      queue.put(written::countDown);
+      written.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Writes every message enqueued so far, then stops the writer thread. */
+  public synchronized void close() {
+    Thread stopping = writer;
+    if (stopping == null) {
+      return;
+    }
+
+    boolean interrupted = false;
+    while (true) {
+      try {
+        queue.put(STOP);
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    while (true) {
+      try {
+        stopping.join();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    writer = null;
+
+    // Anything queued behind the stop marker by a thread that saw the old writer
+    Runnable write;
+    while ((write = queue.poll()) != null) {
+      run(write);
+    }
+
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  private void enqueue(Runnable write) {
+    startWriterIfStopped();
+    if (!queue.offer(write)) {
+      dropped.incrementAndGet();
+    }
+  }
+
+  private void startWriterIfStopped() {
+    if (writer == null) {
+      synchronized (this) {
+        if (writer == null) {
+          Thread thread = new Thread(this::writeLoop, "wiremock-notifier");
+          thread.setDaemon(true);
+          writer = thread;
+          thread.start();
+        }
+      }
+    }
+  }
+
+  private void writeLoop() {
+    long reportedDropped = 0;
+    while (true) {
+      Runnable write;
+      try {
+        write = queue.take();
+      } catch (InterruptedException e) {
+        continue;
+      }
+
+      if (write == STOP) {
+        return;
+      }
+      run(write);
+
+      long droppedNow = dropped.get();
+      if (droppedNow > reportedDropped) {
+        delegate.error(
+            "Notifier queue full, dropped " + (droppedNow - reportedDropped) + " messages");
+        reportedDropped = droppedNow;
+      }
+    }
+  }
+
+  private void run(Runnable write) {
+    try {
+      write.run();
+    } catch (Exception e) {
+      // Nowhere left to report this without risking a loop
+    }
+  }
+}
@@ -41,16 +41,27 @@ public final class BrowserProxySettings {
   private final boolean trustAllProxyTargets;
   private final List<String> trustedProxyTargets;
   private final KeyStoreSettings caKeyStoreSettings;
+  private final boolean persistGeneratedCertificates;
 
   public BrowserProxySettings(
       boolean enabled,
       boolean trustAllProxyTargets,
       List<String> trustedProxyTargets,
       KeyStoreSettings caKeyStoreSettings) {
+    this(enabled, trustAllProxyTargets, trustedProxyTargets, caKeyStoreSettings, false);
+  }
+
+  public BrowserProxySettings(
+      boolean enabled,
+      boolean trustAllProxyTargets,
+      List<String> trustedProxyTargets,
+      KeyStoreSettings caKeyStoreSettings,
+      boolean persistGeneratedCertificates) {
     this.enabled = enabled;
     this.trustAllProxyTargets = trustAllProxyTargets;
     this.trustedProxyTargets = trustedProxyTargets;
     this.caKeyStoreSettings = caKeyStoreSettings;
+    this.persistGeneratedCertificates = persistGeneratedCertificates;
   }
 
   public boolean enabled() {
@@ -69,6 +80,11 @@ public final class BrowserProxySettings {
     return caKeyStoreSettings;
   }
 
+  /** Whether certificates generated for proxied hosts are saved to the CA keystore. */
+  public boolean persistGeneratedCertificates() {
+    return persistGeneratedCertificates;
+  }
+
   @Override
   public String toString() {
     return "BrowserProxySettings{"
@@ -81,6 +97,8 @@ public final class BrowserProxySettings {
         + ", caKeyStore='"
         + caKeyStoreSettings.path()
         + '\''
+        + ", persistGeneratedCertificates="
+        + persistGeneratedCertificates
         + '}';
   }
 
@@ -92,12 +110,18 @@ public final class BrowserProxySettings {
     return enabled == that.enabled
         && trustAllProxyTargets == that.trustAllProxyTargets
         && Objects.equals(trustedProxyTargets, that.trustedProxyTargets)
-        && Objects.equals(caKeyStoreSettings, that.caKeyStoreSettings);
+        && Objects.equals(caKeyStoreSettings, that.caKeyStoreSettings)
+        && persistGeneratedCertificates == that.persistGeneratedCertificates;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, trustAllProxyTargets, trustedProxyTargets, caKeyStoreSettings);
+    return Objects.hash(
+        enabled,
+        trustAllProxyTargets,
+        trustedProxyTargets,
+        caKeyStoreSettings,
+        persistGeneratedCertificates);
   }
 
   public static final class Builder {
@@ -107,6 +131,7 @@ public final class BrowserProxySettings {
     private List<String> trustedProxyTargets = emptyList();
 
     private KeyStoreSettings caKeyStoreSettings = KeyStoreSettings.NO_STORE;
+    private boolean persistGeneratedCertificates = false;
 
     public Builder enabled(boolean enabled) {
       this.enabled = enabled;
@@ -128,9 +153,18 @@ public final class BrowserProxySettings {
       return this;
     }
 
+    public Builder persistGeneratedCertificates(boolean persistGeneratedCertificates) {
+      this.persistGeneratedCertificates = persistGeneratedCertificates;
+      return this;
+    }
+
     public BrowserProxySettings build() {
       return new BrowserProxySettings(
-          enabled, trustAllProxyTargets, trustedProxyTargets, caKeyStoreSettings);
+          enabled,
+          trustAllProxyTargets,
+          trustedProxyTargets,
+          caKeyStoreSettings,
+          persistGeneratedCertificates);
     }
   }
 }
@@ -18,12 +18,15 @@ package com.github.tomakehurst.wiremock.common;
 import static java.lang.System.err;
 import static java.lang.System.out;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 public class ConsoleNotifier implements Notifier {
 
+  private static final DateTimeFormatter DATE_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
   private final boolean verbose;
   private final String prefix;
 
@@ -47,6 +50,13 @@ public class ConsoleNotifier implements Notifier {
     }
   }
 
+  @Override
+  public void info(Supplier<String> message) {
+    if (verbose) {
+      out.println(formatMessage(message.get()));
+    }
+  }
+
   @Override
   public void error(String message) {
     err.println(formatMessage(message));
@@ -59,8 +69,6 @@ public class ConsoleNotifier implements Notifier {
   }
 
   private String formatMessage(String message) {
-    DateFormat df = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
-    String date = df.format(new Date());
-    return String.format("%s%s %s", prefix, date, message);
+    return prefix + DATE_FORMAT.format(LocalDateTime.now()) + " " + message;
   }
 }
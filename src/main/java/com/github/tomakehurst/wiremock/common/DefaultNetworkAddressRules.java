@@ -15,69 +15,200 @@
  */
 package com.github.tomakehurst.wiremock.common;
 
-import static com.github.tomakehurst.wiremock.common.NetworkAddressRange.ALL;
-import static com.github.tomakehurst.wiremock.common.NetworkAddressUtils.isValidInet4Address;
-import static java.util.stream.Collectors.toSet;
+import static com.github.tomakehurst.wiremock.common.NetworkAddressUtils.ipv4ToLong;
 
+import com.github.tomakehurst.wiremock.common.NetworkAddressRange.DomainNameWildcard;
+import com.github.tomakehurst.wiremock.common.NetworkAddressRange.IpRange;
+import com.github.tomakehurst.wiremock.common.NetworkAddressRange.SingleIp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+/**
+ * The allow and deny lists are compiled up front so that checking a value doesn't depend on the
+ * number of rules: IP ranges are merged into sorted, non-overlapping intervals that are binary
+ * searched, exact host names are looked up in a hash set and {@code *.domain} wildcards are held in
+ * a trie of reversed domain labels. Any other wildcard shape falls back to its regex.
+ */
 public class DefaultNetworkAddressRules implements NetworkAddressRules {
 
-  private final Set<NetworkAddressRange> allowed;
-  private final Set<NetworkAddressRange> allowedHostPatterns;
-  private final Set<NetworkAddressRange> denied;
-  private final Set<NetworkAddressRange> deniedHostPatterns;
+  private static final Pattern LITERAL_HOST = Pattern.compile("[A-Za-z0-9_.-]+");
+
+  private final IpMatcher allowed;
+  private final HostMatcher allowedHostPatterns;
+  private final IpMatcher denied;
+  private final HostMatcher deniedHostPatterns;
 
   public DefaultNetworkAddressRules(
       Set<NetworkAddressRange> allowed, Set<NetworkAddressRange> denied) {
-    this.allowed =
-        defaultIfEmpty(
-            allowed.stream()
-                .filter(
-                    networkAddressRange ->
-                        !(networkAddressRange instanceof NetworkAddressRange.DomainNameWildcard))
-                .collect(toSet()),
-            Set.of(ALL));
+    List<NetworkAddressRange> allowedIps = ipRules(allowed);
+    List<DomainNameWildcard> allowedHosts = hostRules(allowed);
+    this.allowed = allowedIps.isEmpty() ? IpMatcher.ALL : new IpMatcher(allowedIps);
     this.allowedHostPatterns =
-        defaultIfEmpty(
-            allowed.stream()
-                .filter(
-                    networkAddressRange ->
-                        (networkAddressRange instanceof NetworkAddressRange.DomainNameWildcard))
-                .collect(toSet()),
-            Set.of(ALL));
-    this.denied =
-        denied.stream()
-            .filter(
-                networkAddressRange ->
-                    !(networkAddressRange instanceof NetworkAddressRange.DomainNameWildcard))
-            .collect(toSet());
-    this.deniedHostPatterns =
-        denied.stream()
-            .filter(
-                networkAddressRange ->
-                    (networkAddressRange instanceof NetworkAddressRange.DomainNameWildcard))
-            .map(
-                networkAddressRange -> (NetworkAddressRange.DomainNameWildcard) networkAddressRange)
-            .collect(toSet());
+        allowedHosts.isEmpty() ? HostMatcher.ALL : new HostMatcher(allowedHosts);
+    this.denied = new IpMatcher(ipRules(denied));
+    this.deniedHostPatterns = new HostMatcher(hostRules(denied));
   }
 
-  private static <T> Set<T> defaultIfEmpty(Set<T> original, Set<T> ifEmpty) {
-    if (original.isEmpty()) {
-      return ifEmpty;
-    } else {
-      return original;
-    }
+  private static List<NetworkAddressRange> ipRules(Set<NetworkAddressRange> ranges) {
+    return ranges.stream()
+        .filter(networkAddressRange -> !(networkAddressRange instanceof DomainNameWildcard))
+        .collect(Collectors.toList());
+  }
+
+  private static List<DomainNameWildcard> hostRules(Set<NetworkAddressRange> ranges) {
+    return ranges.stream()
+        .filter(networkAddressRange -> (networkAddressRange instanceof DomainNameWildcard))
+        .map(networkAddressRange -> (DomainNameWildcard) networkAddressRange)
+        .collect(Collectors.toList());
   }
 
   @Override
   public boolean isAllowed(String testValue) {
-    if (isValidInet4Address(testValue)) {
-      return allowed.stream().anyMatch(rule -> rule.isIncluded(testValue))
-          && denied.stream().noneMatch(rule -> rule.isIncluded(testValue));
+    long ipAddress = ipv4ToLong(testValue);
+    if (ipAddress >= 0) {
+      return allowed.matches(ipAddress) && !denied.matches(ipAddress);
     } else {
-      return allowedHostPatterns.stream().anyMatch(rule -> rule.isIncluded(testValue))
-          && deniedHostPatterns.stream().noneMatch(rule -> rule.isIncluded(testValue));
+      return allowedHostPatterns.matches(testValue) && !deniedHostPatterns.matches(testValue);
+    }
+  }
+
+  private static class IpMatcher {
+
+    static final IpMatcher ALL = new IpMatcher(List.of(NetworkAddressRange.ALL));
+
+    private final boolean all;
+    private final long[] starts;
+    private final long[] ends;
+
+    IpMatcher(Collection<NetworkAddressRange> ranges) {
+      List<long[]> intervals = new ArrayList<>();
+      boolean containsAll = false;
+      for (NetworkAddressRange range : ranges) {
+        if (range == NetworkAddressRange.ALL) {
+          containsAll = true;
+        } else if (range instanceof SingleIp) {
+          long address = ((SingleIp) range).asLong();
+          intervals.add(new long[] {address, address});
+        } else if (range instanceof IpRange) {
+          intervals.add(new long[] {((IpRange) range).start(), ((IpRange) range).end()});
+        }
+      }
+
+      intervals.sort(Comparator.comparingLong(interval -> interval[0]));
+      List<long[]> merged = new ArrayList<>();
+      for (long[] interval : intervals) {
+        long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+        if (last != null && interval[0] <= last[1] + 1) {
+          last[1] = Math.max(last[1], interval[1]);
+        } else {
+          merged.add(interval.clone());
+        }
+      }
+
+      this.all = containsAll;
+      this.starts = merged.stream().mapToLong(interval -> interval[0]).toArray();
+      this.ends = merged.stream().mapToLong(interval -> interval[1]).toArray();
+    }
+
+    boolean matches(long address) {
+      if (all) {
+        return true;
+      }
+
+      int index = Arrays.binarySearch(starts, address);
+      if (index >= 0) {
+        return true;
+      }
+
+      int preceding = -index - 2;
+      return preceding >= 0 && address <= ends[preceding];
     }
   }
+
+  private static class HostMatcher {
+
+    static final HostMatcher ALL = new HostMatcher(List.of(), true);
+
+    private final boolean all;
+    private final boolean anyNonEmpty;
+    private final Set<String> exactNames = new HashSet<>();
+    private final LabelNode wildcardSuffixes = new LabelNode();
+    private final List<DomainNameWildcard> otherPatterns = new ArrayList<>();
+
+    HostMatcher(Collection<DomainNameWildcard> patterns) {
+      this(patterns, false);
+    }
+
+    private HostMatcher(Collection<DomainNameWildcard> patterns, boolean all) {
+      boolean matchesAnyNonEmpty = false;
+      for (DomainNameWildcard pattern : patterns) {
+        String value = pattern.value();
+        if (value.equals("*")) {
+          matchesAnyNonEmpty = true;
+        } else if (LITERAL_HOST.matcher(value).matches()) {
+          exactNames.add(value);
+        } else if (value.startsWith("*.") && LITERAL_HOST.matcher(value.substring(2)).matches()) {
+          addWildcardSuffix(value.substring(2));
+        } else {
+          otherPatterns.add(pattern);
+        }
+      }
+      this.all = all;
+      this.anyNonEmpty = matchesAnyNonEmpty;
+    }
+
+    private void addWildcardSuffix(String suffix) {
+      LabelNode node = wildcardSuffixes;
+      int end = suffix.length();
+      while (end >= 0) {
+        int start = suffix.lastIndexOf('.', end - 1);
+        node =
+            node.children.computeIfAbsent(suffix.substring(start + 1, end), k -> new LabelNode());
+        end = start;
+      }
+      node.wildcard = true;
+    }
+
+    boolean matches(String host) {
+      if (all || (anyNonEmpty && !host.isEmpty())) {
+        return true;
+      }
+
+      return exactNames.contains(host)
+          || matchesWildcardSuffix(host)
+          || otherPatterns.stream().anyMatch(pattern -> pattern.isIncluded(host));
+    }
+
+    private boolean matchesWildcardSuffix(String host) {
+      LabelNode node = wildcardSuffixes;
+      int end = host.length();
+      while (end > 0 && !node.children.isEmpty()) {
+        int dot = host.lastIndexOf('.', end - 1);
+        node = node.children.get(host.substring(dot + 1, end));
+        if (node == null || dot < 0) {
+          return false;
+        }
+        // "*" has to stand for at least one character before the dot
+        if (node.wildcard && dot > 0) {
+          return true;
+        }
+        end = dot;
+      }
+      return false;
+    }
+  }
+
+  private static class LabelNode {
+    final Map<String, LabelNode> children = new HashMap<>();
+    boolean wildcard;
+  }
 }
@@ -15,7 +15,6 @@
  */
 package com.github.tomakehurst.wiremock.common;
 
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 public class Lazy<T> {
@@ -25,13 +24,22 @@ public class Lazy<T> {
   }
 
   private final Supplier<T> supplier;
-  private final AtomicReference<T> ref = new AtomicReference<>();
+  private volatile boolean computed;
+  private T value;
 
   private Lazy(Supplier<T> supplier) {
     this.supplier = supplier;
   }
 
   public T get() {
-    return ref.updateAndGet(existing -> existing == null ? supplier.get() : existing);
+    if (!computed) {
+      synchronized (this) {
+        if (!computed) {
+          value = supplier.get();
+          computed = true;
+        }
+      }
+    }
+    return value;
   }
 }
@@ -51,7 +51,7 @@ public abstract class NetworkAddressRange {
 
   public abstract boolean isIncluded(String testValue);
 
-  private static class SingleIp extends NetworkAddressRange {
+  static class SingleIp extends NetworkAddressRange {
 
     private final InetAddress inetAddress;
 
@@ -59,6 +59,10 @@ public abstract class NetworkAddressRange {
       this.inetAddress = parseIpAddress(ipAddress);
     }
 
+    long asLong() {
+      return ipToLong(inetAddress);
+    }
+
     @Override
     public boolean isIncluded(String testValue) {
       return lookup(testValue).equals(inetAddress);
@@ -83,7 +87,7 @@ public abstract class NetworkAddressRange {
     }
   }
 
-  private static class IpRange extends NetworkAddressRange {
+  static class IpRange extends NetworkAddressRange {
 
     private final Long start;
     private final Long end;
@@ -99,6 +103,14 @@ public abstract class NetworkAddressRange {
       this.asString = ipRange;
     }
 
+    long start() {
+      return start;
+    }
+
+    long end() {
+      return end;
+    }
+
     @Override
     public boolean isIncluded(String testValue) {
       InetAddress testValueAddress = lookup(testValue);
@@ -127,13 +139,19 @@ public abstract class NetworkAddressRange {
 
   static class DomainNameWildcard extends NetworkAddressRange {
 
+    private final String value;
     private final Pattern namePattern;
 
     private DomainNameWildcard(String namePattern) {
+      this.value = namePattern;
       String nameRegex = namePattern.replace(".", "\\.").replace("*", ".+");
       this.namePattern = Pattern.compile(nameRegex);
     }
 
+    String value() {
+      return value;
+    }
+
     @Override
     public boolean isIncluded(String testValue) {
       return namePattern.matcher(testValue).matches();
@@ -16,18 +16,52 @@
 package com.github.tomakehurst.wiremock.common;
 
 import java.net.InetAddress;
-import java.net.UnknownHostException;
 
 public class NetworkAddressUtils {
 
   private NetworkAddressUtils() {}
 
   public static boolean isValidInet4Address(String ip) {
-    try {
-      return InetAddress.getByName(ip).getHostAddress().equals(ip);
-    } catch (UnknownHostException ex) {
-      return false;
+    return ipv4ToLong(ip) >= 0;
+  }
+
+  /**
+   * Parses an IPv4 address in canonical dotted-quad form without going anywhere near DNS.
+   *
+   * @return the address as an unsigned 32 bit value, or -1 if the value isn't an IPv4 address
+   */
+  public static long ipv4ToLong(String ip) {
+    if (ip == null || ip.isEmpty() || ip.length() > 15) {
+      return -1;
     }
+
+    long result = 0;
+    int octets = 0;
+    int octet = -1;
+    int digits = 0;
+    for (int i = 0; i <= ip.length(); i++) {
+      char c = i < ip.length() ? ip.charAt(i) : '.';
+      if (c == '.') {
+        if (digits == 0 || ++octets > 4) {
+          return -1;
+        }
+        result = (result << 8) | octet;
+        octet = -1;
+        digits = 0;
+      } else if (c >= '0' && c <= '9') {
+        if (octet == 0) {
+          return -1; // leading zeros aren't canonical
+        }
+        octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+        if (++digits > 3 || octet > 255) {
+          return -1;
+        }
+      } else {
+        return -1;
+      }
+    }
+
+    return octets == 4 ? result : -1;
   }
 
   public static long ipToLong(InetAddress ipAddress) {
@@ -15,12 +15,22 @@
  */
 package com.github.tomakehurst.wiremock.common;
 
+import java.util.function.Supplier;
+
 public interface Notifier {
 
   public static final String KEY = "Notifier";
 
   void info(String message);
 
+  /**
+   * Logs an info message that is only built if it is going to be written, allowing expensive
+   * messages (e.g. request logs) to be skipped or built off the calling thread.
+   */
+  default void info(Supplier<String> message) {
+    info(message.get());
+  }
+
   void error(String message);
 
   void error(String message, Throwable t);
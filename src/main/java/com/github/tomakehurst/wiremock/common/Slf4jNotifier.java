@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.common;
 
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +36,13 @@ public class Slf4jNotifier implements Notifier {
     }
   }
 
+  @Override
+  public void info(Supplier<String> message) {
+    if (verbose) {
+      log.info(message.get());
+    }
+  }
+
   @Override
   public void error(String message) {
     log.error(message);
@@ -21,6 +21,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import com.github.tomakehurst.wiremock.http.QueryParameter;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableListMultimap.Builder;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -67,8 +68,10 @@ public class Urls {
       }
     }
 
-    return Maps.transformEntries(
-        builder.build().asMap(), (key, values) -> new QueryParameter(key, new ArrayList<>(values)));
+    return ImmutableMap.copyOf(
+        Maps.transformEntries(
+            builder.build().asMap(),
+            (key, values) -> new QueryParameter(key, new ArrayList<>(values))));
   }
 
   public static String getPath(String url) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.xml;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xmlunit.util.Convert;
+
+/**
+ * An XPath expression and its namespace bindings, compiled once and reused. {@link XPathExpression}
+ * is not thread safe, so each evaluation borrows a compiled copy from a small pool, compiling a new
+ * one only when every pooled copy is in use. The pool is bounded by the number of processors rather
+ * than the number of threads, and goes away with the instance.
+ */
+public class CompiledXPath {
+
+  private static final int MAX_POOLED = Runtime.getRuntime().availableProcessors();
+
+  private final String expression;
+  private final NamespaceContext namespaceContext;
+  private final BlockingQueue<XPathExpression> pool = new ArrayBlockingQueue<>(MAX_POOLED);
+
+  public CompiledXPath(String expression) {
+    this(expression, null);
+  }
+
+  public CompiledXPath(String expression, Map<String, String> namespaces) {
+    this.expression = expression;
+    this.namespaceContext =
+        namespaces != null ? Convert.toNamespaceContext(addStandardNamespaces(namespaces)) : null;
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+
+  /**
+   * Whether the expression uses namespace bindings, and so must be evaluated against a namespace
+   * aware document.
+   */
+  public boolean isNamespaced() {
+    return namespaceContext != null;
+  }
+
+  Object evaluate(Node node, QName returnType) throws XPathExpressionException {
+    XPathExpression xPathExpression = borrow();
+    try {
+      return xPathExpression.evaluate(node, returnType);
+    } finally {
+      pool.offer(xPathExpression);
+    }
+  }
+
+  Object evaluate(InputSource source, QName returnType) throws XPathExpressionException {
+    XPathExpression xPathExpression = borrow();
+    try {
+      return xPathExpression.evaluate(source, returnType);
+    } finally {
+      pool.offer(xPathExpression);
+    }
+  }
+
+  private XPathExpression borrow() {
+    XPathExpression xPathExpression = pool.poll();
+    if (xPathExpression != null) {
+      return xPathExpression;
+    }
+
+    try {
+      XPath xPath = XmlNode.XPATH_CACHE.get();
+      xPath.reset();
+      if (namespaceContext != null) {
+        xPath.setNamespaceContext(namespaceContext);
+      }
+      return xPath.compile(expression);
+    } catch (XPathExpressionException e) {
+      throw XPathException.fromXPathException(e);
+    }
+  }
+
+  static Map<String, String> addStandardNamespaces(Map<String, String> namespaces) {
+    Map<String, String> result = new HashMap<String, String>();
+    for (String prefix : namespaces.keySet()) {
+      String uri = namespaces.get(prefix);
+      // according to the Javadocs only the constants defined in
+      // XMLConstants are allowed as prefixes for the following
+      // two URIs
+      if (!XMLConstants.XML_NS_URI.equals(uri)
+          && !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri)) {
+        result.put(prefix, uri);
+      }
+    }
+    result.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
+    result.put(XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE_NS_URI);
+
+    return result;
+  }
+}
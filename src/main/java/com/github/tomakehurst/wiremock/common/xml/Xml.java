@@ -157,9 +157,17 @@ public class Xml {
   }
 
   public static XmlDocument parse(String xml) {
+    return parse(xml, false);
+  }
+
+  public static XmlDocument parse(String xml, boolean namespaceAware) {
     try {
       InputSource source = new InputSource(new StringReader(xml));
-      return new XmlDocument(getDocumentBuilder().parse(source));
+      DocumentBuilder documentBuilder =
+          namespaceAware
+              ? SkipResolvingEntitiesDocumentBuilderFactory.NAMESPACE_AWARE_DB_CACHE.get()
+              : getDocumentBuilder();
+      return new XmlDocument(documentBuilder.parse(source));
     } catch (SAXException | IOException e) {
       throw new XmlException(Errors.single(50, e.getMessage()));
     }
@@ -180,37 +188,40 @@ public class Xml {
   private static class SkipResolvingEntitiesDocumentBuilderFactory extends DocumentBuilderFactory {
 
     private static final ThreadLocal<DocumentBuilderFactory> DBF_CACHE =
-        ThreadLocal.withInitial(
-            () -> {
-              try {
-                DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-                dbf.setFeature("http://xml.org/sax/features/validation", false);
-                dbf.setFeature(
-                    "http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
-                dbf.setFeature(
-                    "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-                dbf.setFeature("http://xml.org/sax/features/external-general-entities", false);
-                dbf.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-                dbf.setXIncludeAware(false);
-                dbf.setExpandEntityReferences(false);
-                dbf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-                return dbf;
-              } catch (ParserConfigurationException e) {
-                return throwUnchecked(e, DocumentBuilderFactory.class);
-              }
-            });
+        ThreadLocal.withInitial(() -> secureDocumentBuilderFactory(false));
     private static final ThreadLocal<DocumentBuilder> DB_CACHE =
-        ThreadLocal.withInitial(
-            () -> {
-              try {
-                DocumentBuilder documentBuilder = DBF_CACHE.get().newDocumentBuilder();
-                documentBuilder.setEntityResolver(new ResolveToEmptyString());
-                documentBuilder.setErrorHandler(new SilentErrorHandler());
-                return documentBuilder;
-              } catch (ParserConfigurationException e) {
-                return throwUnchecked(e, DocumentBuilder.class);
-              }
-            });
+        ThreadLocal.withInitial(() -> newDocumentBuilder(DBF_CACHE.get()));
+    private static final ThreadLocal<DocumentBuilder> NAMESPACE_AWARE_DB_CACHE =
+        ThreadLocal.withInitial(() -> newDocumentBuilder(secureDocumentBuilderFactory(true)));
+
+    private static DocumentBuilderFactory secureDocumentBuilderFactory(boolean namespaceAware) {
+      try {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setFeature("http://xml.org/sax/features/validation", false);
+        dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
+        dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        dbf.setFeature("http://xml.org/sax/features/external-general-entities", false);
+        dbf.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        dbf.setXIncludeAware(false);
+        dbf.setExpandEntityReferences(false);
+        dbf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        dbf.setNamespaceAware(namespaceAware);
+        return dbf;
+      } catch (ParserConfigurationException e) {
+        return throwUnchecked(e, DocumentBuilderFactory.class);
+      }
+    }
+
+    private static DocumentBuilder newDocumentBuilder(DocumentBuilderFactory dbf) {
+      try {
+        DocumentBuilder documentBuilder = dbf.newDocumentBuilder();
+        documentBuilder.setEntityResolver(new ResolveToEmptyString());
+        documentBuilder.setErrorHandler(new SilentErrorHandler());
+        return documentBuilder;
+      } catch (ParserConfigurationException e) {
+        return throwUnchecked(e, DocumentBuilder.class);
+      }
+    }
 
     @Override
     public DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
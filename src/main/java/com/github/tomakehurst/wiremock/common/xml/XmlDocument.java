@@ -18,14 +18,11 @@ package com.github.tomakehurst.wiremock.common.xml;
 import static javax.xml.xpath.XPathConstants.NODESET;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
-import java.util.HashMap;
 import java.util.Map;
-import javax.xml.XMLConstants;
-import javax.xml.namespace.NamespaceContext;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathExpressionException;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 import org.xmlunit.util.Convert;
 
@@ -43,21 +40,19 @@ public class XmlDocument extends XmlNode {
   }
 
   public ListOrSingle<XmlNode> findNodes(String xPathExpression, Map<String, String> namespaces) {
-    try {
-      final XPath xPath = XPATH_CACHE.get();
-      xPath.reset();
+    return findNodes(new CompiledXPath(xPathExpression, namespaces));
+  }
 
+  public ListOrSingle<XmlNode> findNodes(CompiledXPath xPath) {
+    try {
       NodeList nodeSet;
-      if (namespaces != null) {
-        Map<String, String> fullNamespaces = addStandardNamespaces(namespaces);
-        NamespaceContext namespaceContext = Convert.toNamespaceContext(fullNamespaces);
-        xPath.setNamespaceContext(namespaceContext);
+      if (xPath.isNamespaced() && !isNamespaceAware()) {
+        // Namespaced expressions can't be evaluated against a DOM parsed without namespace
+        // support, so have XPath re-parse it
         nodeSet =
-            (NodeList)
-                xPath.evaluate(
-                    xPathExpression, Convert.toInputSource(new DOMSource(document)), NODESET);
+            (NodeList) xPath.evaluate(Convert.toInputSource(new DOMSource(document)), NODESET);
       } else {
-        nodeSet = (NodeList) xPath.evaluate(xPathExpression, document, NODESET);
+        nodeSet = (NodeList) xPath.evaluate(document, NODESET);
       }
 
       return toListOrSingle(nodeSet);
@@ -66,21 +61,8 @@ public class XmlDocument extends XmlNode {
     }
   }
 
-  private static Map<String, String> addStandardNamespaces(Map<String, String> namespaces) {
-    Map<String, String> result = new HashMap<String, String>();
-    for (String prefix : namespaces.keySet()) {
-      String uri = namespaces.get(prefix);
-      // according to the Javadocs only the constants defined in
-      // XMLConstants are allowed as prefixes for the following
-      // two URIs
-      if (!XMLConstants.XML_NS_URI.equals(uri)
-          && !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri)) {
-        result.put(prefix, uri);
-      }
-    }
-    result.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
-    result.put(XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE_NS_URI);
-
-    return result;
+  private boolean isNamespaceAware() {
+    Element root = document.getDocumentElement();
+    return root == null || root.getLocalName() != null;
   }
 }
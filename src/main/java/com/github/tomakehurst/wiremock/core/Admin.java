@@ -42,6 +42,10 @@ public interface Admin {
 
   SingleStubMappingResult getStubMapping(UUID id);
 
+  SingleStubStatsResult getStubStats(UUID id);
+
+  ListStubStatsResult getAllStubStats();
+
   void saveMappings();
 
   void resetRequests();
@@ -62,6 +66,8 @@ public interface Admin {
 
   VerificationResult countRequestsMatching(RequestPattern requestPattern);
 
+  BatchVerificationResult verifyRequests(BatchVerification batchVerification);
+
   FindRequestsResult findRequestsMatching(RequestPattern requestPattern);
 
   FindRequestsResult findUnmatchedRequests();
@@ -26,4 +26,13 @@ public interface MappingsSaver {
   void remove(StubMapping stubMapping);
 
   void removeAll();
+
+  /** Blocks until any writes that have been accepted but not yet persisted are complete. */
+  default void flush() {}
+
+  /**
+   * Writes anything still pending and releases any background resources. Writes made afterwards are
+   * still accepted.
+   */
+  default void close() {}
 }
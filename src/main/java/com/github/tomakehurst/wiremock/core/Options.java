@@ -19,14 +19,18 @@ import com.github.tomakehurst.wiremock.common.*;
 import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
 import com.github.tomakehurst.wiremock.extension.ExtensionDeclarations;
 import com.github.tomakehurst.wiremock.extension.Extensions;
+import com.github.tomakehurst.wiremock.http.CachingDnsResolver;
 import com.github.tomakehurst.wiremock.http.CaseInsensitiveKey;
 import com.github.tomakehurst.wiremock.http.HttpServerFactory;
 import com.github.tomakehurst.wiremock.http.ThreadPoolFactory;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import com.github.tomakehurst.wiremock.http.multipart.PartParser;
 import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.security.Authenticator;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.store.files.StateSnapshotFile;
+import com.github.tomakehurst.wiremock.verification.JournalPolicy;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import com.github.tomakehurst.wiremock.verification.notmatched.PlainTextStubNotMatchedRenderer;
 import java.util.List;
@@ -47,6 +51,9 @@ public interface Options {
   int DEFAULT_TIMEOUT = 300_000;
   int DEFAULT_CONTAINER_THREADS = 25;
   String DEFAULT_BIND_ADDRESS = "0.0.0.0";
+  int DEFAULT_WEBHOOK_THREADS = 10;
+  int DEFAULT_MAX_PENDING_WEBHOOKS = 10_000;
+  int DEFAULT_MAX_EVENT_STREAM_SUBSCRIBERS = 5;
 
   int portNumber();
 
@@ -82,6 +89,10 @@ public interface Options {
 
   Optional<Integer> maxRequestJournalEntries();
 
+  default boolean getAsyncRequestJournalEnabled() {
+    return false;
+  }
+
   String bindAddress();
 
   FilenameMaker getFilenameMaker();
@@ -108,6 +119,11 @@ public interface Options {
 
   boolean getHttpsRequiredForAdminApi();
 
+  /** The number of unmatched requests per second that get a full diff report; 0 for no limit. */
+  default int getMaxNotMatchedDiffsPerSecond() {
+    return 0;
+  }
+
   default Function<Extensions, NotMatchedRenderer> getNotMatchedRendererFactory() {
     return PlainTextStubNotMatchedRenderer::new;
   }
@@ -138,6 +154,18 @@ public interface Options {
     return 1000;
   }
 
+  default long getDnsCacheTtlMillis() {
+    return CachingDnsResolver.DEFAULT_TTL_MILLIS;
+  }
+
+  default boolean getMetricsEnabled() {
+    return true;
+  }
+
+  default JournalPolicy getJournalPolicy() {
+    return JournalPolicy.DEFAULT;
+  }
+
   boolean getResponseTemplatingEnabled();
 
   boolean getResponseTemplatingGlobal();
@@ -147,4 +175,24 @@ public interface Options {
   Set<String> getTemplatePermittedSystemKeys();
 
   boolean getTemplateEscapingDisabled();
+
+  default Optional<StateSnapshotFile> getStateSnapshotFile() {
+    return Optional.empty();
+  }
+
+  default int getMultipartInMemoryThreshold() {
+    return PartParser.DEFAULT_IN_MEMORY_THRESHOLD;
+  }
+
+  default int getWebhookThreadPoolSize() {
+    return DEFAULT_WEBHOOK_THREADS;
+  }
+
+  default int getMaxPendingWebhooks() {
+    return DEFAULT_MAX_PENDING_WEBHOOKS;
+  }
+
+  default int getMaxEventStreamSubscribers() {
+    return DEFAULT_MAX_EVENT_STREAM_SUBSCRIBERS;
+  }
 }
@@ -20,28 +20,35 @@ import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonN
 import com.github.tomakehurst.wiremock.admin.AdminRoutes;
 import com.github.tomakehurst.wiremock.admin.LimitAndOffsetPaginator;
 import com.github.tomakehurst.wiremock.admin.model.*;
+import com.github.tomakehurst.wiremock.client.CountMatchingStrategy;
 import com.github.tomakehurst.wiremock.common.BrowserProxySettings;
+import com.github.tomakehurst.wiremock.common.Errors;
 import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.InvalidInputException;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
 import com.github.tomakehurst.wiremock.extension.*;
 import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilter;
 import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilterV2;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.http.*;
+import com.github.tomakehurst.wiremock.http.client.ApacheHttpClientFactory;
 import com.github.tomakehurst.wiremock.http.client.HttpClient;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
 import com.github.tomakehurst.wiremock.recording.*;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.store.files.StateSnapshotFile;
 import com.github.tomakehurst.wiremock.stubbing.*;
 import com.github.tomakehurst.wiremock.verification.*;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.wiremock.webhooks.Webhooks;
 
 public class WireMockApp implements StubServer, Admin {
 
@@ -49,11 +56,20 @@ public class WireMockApp implements StubServer, Admin {
   public static final String ADMIN_CONTEXT_ROOT = "/__admin";
   public static final String MAPPINGS_ROOT = "mappings";
   private static final MutableBoolean FACTORIES_LOADING_OPTIMIZED = new MutableBoolean(false);
+  private static final String TEMPLATE_CACHE_LOOKUPS = "wiremock_template_cache_lookups_total";
+  private static final String TEMPLATE_CACHE_LOOKUPS_HELP =
+      "Response template lookups in the template cache, by result";
+  private static final String DNS_CACHE_LOOKUPS = "wiremock_dns_cache_lookups_total";
+  private static final String DNS_CACHE_LOOKUPS_HELP =
+      "Upstream host lookups made through the DNS cache, by result";
 
   private final Stores stores;
   private final Scenarios scenarios;
   private final StubMappings stubMappings;
   private final RequestJournal requestJournal;
+  private final ServeEventBroadcaster serveEventBroadcaster;
+  private final StubStatistics stubStatistics = new StubStatistics();
+  private final Metrics metrics;
   private final SettingsStore settingsStore;
   private final boolean browserProxyingEnabled;
   private final MappingsLoader defaultMappingsLoader;
@@ -63,6 +79,7 @@ public class WireMockApp implements StubServer, Admin {
   private final Recorder recorder;
   private final List<GlobalSettingsListener> globalSettingsListeners;
   private final Map<String, MappingsLoaderExtension> mappingsLoaderExtensions;
+  private final StateSnapshotFile stateSnapshotFile;
 
   private Options options;
 
@@ -81,8 +98,10 @@ public class WireMockApp implements StubServer, Admin {
     this.browserProxyingEnabled = options.browserProxySettings().enabled();
     this.defaultMappingsLoader = options.mappingsLoader();
     this.mappingsSaver = options.mappingsSaver();
+    this.stateSnapshotFile = options.getStateSnapshotFile().orElse(null);
 
     this.settingsStore = stores.getSettingsStore();
+    this.metrics = options.getMetricsEnabled() ? new Metrics() : Metrics.DISABLED;
 
     extensions =
         new Extensions(
@@ -90,19 +109,16 @@ public class WireMockApp implements StubServer, Admin {
             this,
             options,
             stores,
-            options.filesRoot().child(FILES_ROOT));
+            options.filesRoot().child(FILES_ROOT),
+            metrics);
     extensions.load();
 
     Map<String, RequestMatcherExtension> customMatchers =
         extensions.ofType(RequestMatcherExtension.class);
 
-    requestJournal =
-        options.requestJournalDisabled()
-            ? new DisabledRequestJournal()
-            : new StoreBackedRequestJournal(
-                options.maxRequestJournalEntries().orElse(null),
-                customMatchers,
-                stores.getRequestJournalStore());
+    requestJournal = buildRequestJournal(options, customMatchers);
+    serveEventBroadcaster =
+        new ServeEventBroadcaster(customMatchers, options.getMaxEventStreamSubscribers());
 
     scenarios = new InMemoryScenarios(stores.getScenariosStore());
     stubMappings =
@@ -113,7 +129,8 @@ public class WireMockApp implements StubServer, Admin {
             extensions.ofType(ResponseDefinitionTransformer.class),
             extensions.ofType(ResponseDefinitionTransformerV2.class),
             stores.getFilesBlobStore(),
-            List.copyOf(extensions.ofType(StubLifecycleListener.class).values()));
+            List.copyOf(extensions.ofType(StubLifecycleListener.class).values()),
+            metrics);
     nearMissCalculator = new NearMissCalculator(stubMappings, requestJournal, scenarios);
     recorder =
         new Recorder(this, extensions, stores.getFilesBlobStore(), stores.getRecorderStateStore());
@@ -122,6 +139,83 @@ public class WireMockApp implements StubServer, Admin {
 
     this.container = container;
     loadDefaultMappings();
+    if (stateSnapshotFile != null) {
+      restoreState();
+    }
+    registerGauges();
+  }
+
+  private void registerGauges() {
+    metrics.gauge(
+        "wiremock_stub_mappings",
+        "Stub mappings currently registered",
+        () -> stubMappings.getAll().size());
+    metrics.gauge(
+        "wiremock_template_cache_entries",
+        "Compiled response templates held in the cache",
+        extensions.getTemplateEngine()::getCacheSize);
+    metrics.counterFunction(
+        TEMPLATE_CACHE_LOOKUPS,
+        TEMPLATE_CACHE_LOOKUPS_HELP,
+        () -> extensions.getTemplateEngine().getCacheStats().hitCount(),
+        "result",
+        "hit");
+    metrics.counterFunction(
+        TEMPLATE_CACHE_LOOKUPS,
+        TEMPLATE_CACHE_LOOKUPS_HELP,
+        () -> extensions.getTemplateEngine().getCacheStats().missCount(),
+        "result",
+        "miss");
+    metrics.gauge(
+        "wiremock_request_journal_entries",
+        "Serve events held in the request journal",
+        stores.getRequestJournalStore()::size);
+    metrics.gauge(
+        "wiremock_serve_event_streams",
+        "Admin clients subscribed to the serve event stream",
+        serveEventBroadcaster::getSubscriberCount);
+
+    if (httpClientFactory() instanceof ApacheHttpClientFactory) {
+      ApacheHttpClientFactory apacheHttpClientFactory =
+          (ApacheHttpClientFactory) httpClientFactory();
+      metrics.gauge(
+          "wiremock_dns_cache_entries",
+          "Upstream host lookups held in the DNS cache",
+          () ->
+              apacheHttpClientFactory
+                  .getDnsCacheStats()
+                  .map(CachingDnsResolver.Stats::getSize)
+                  .orElse(0L));
+      metrics.counterFunction(
+          DNS_CACHE_LOOKUPS,
+          DNS_CACHE_LOOKUPS_HELP,
+          () ->
+              apacheHttpClientFactory
+                  .getDnsCacheStats()
+                  .map(CachingDnsResolver.Stats::getHits)
+                  .orElse(0L),
+          "result",
+          "hit");
+      metrics.counterFunction(
+          DNS_CACHE_LOOKUPS,
+          DNS_CACHE_LOOKUPS_HELP,
+          () ->
+              apacheHttpClientFactory
+                  .getDnsCacheStats()
+                  .map(CachingDnsResolver.Stats::getMisses)
+                  .orElse(0L),
+          "result",
+          "miss");
+    }
+  }
+
+  private com.github.tomakehurst.wiremock.http.client.HttpClientFactory httpClientFactory() {
+    return extensions
+        .ofType(com.github.tomakehurst.wiremock.http.client.HttpClientFactory.class)
+        .values()
+        .stream()
+        .findFirst()
+        .orElse(options.httpClientFactory());
   }
 
   public WireMockApp(
@@ -143,12 +237,15 @@ public class WireMockApp implements StubServer, Admin {
     this.defaultMappingsLoader = defaultMappingsLoader;
     this.mappingsLoaderExtensions = mappingsLoaderExtensions;
     this.mappingsSaver = mappingsSaver;
+    this.stateSnapshotFile = null;
     this.settingsStore = stores.getSettingsStore();
     requestJournal =
         requestJournalDisabled
             ? new DisabledRequestJournal()
             : new StoreBackedRequestJournal(
                 maxRequestJournalEntries, requestMatchers, stores.getRequestJournalStore());
+    serveEventBroadcaster = new ServeEventBroadcaster(requestMatchers);
+    metrics = Metrics.DISABLED;
     scenarios = new InMemoryScenarios(stores.getScenariosStore());
     stubMappings =
         new StoreBackedStubMappings(
@@ -167,9 +264,31 @@ public class WireMockApp implements StubServer, Admin {
     loadDefaultMappings();
   }
 
+  private RequestJournal buildRequestJournal(
+      Options options, Map<String, RequestMatcherExtension> customMatchers) {
+    if (options.requestJournalDisabled()) {
+      return new DisabledRequestJournal();
+    }
+
+    RequestJournal storeBackedRequestJournal =
+        new StoreBackedRequestJournal(
+            options.maxRequestJournalEntries().orElse(null),
+            customMatchers,
+            stores.getRequestJournalStore());
+    RequestJournal requestJournal =
+        options.getAsyncRequestJournalEnabled()
+            ? new AsyncRequestJournal(storeBackedRequestJournal)
+            : storeBackedRequestJournal;
+    return new SelectiveRequestJournal(requestJournal, options.getJournalPolicy());
+  }
+
   public AdminRequestHandler buildAdminRequestHandler() {
     AdminRoutes adminRoutes =
-        AdminRoutes.forServer(extensions.ofType(AdminApiExtension.class).values(), stores);
+        AdminRoutes.forServer(
+            extensions.ofType(AdminApiExtension.class).values(),
+            stores,
+            serveEventBroadcaster,
+            metrics);
     return new AdminRequestHandler(
         adminRoutes,
         this,
@@ -184,16 +303,13 @@ public class WireMockApp implements StubServer, Admin {
   public StubRequestHandler buildStubRequestHandler() {
     Map<String, PostServeAction> postServeActions = extensions.ofType(PostServeAction.class);
     Map<String, ServeEventListener> serveEventListeners =
-        extensions.ofType(ServeEventListener.class);
+        new LinkedHashMap<>(extensions.ofType(ServeEventListener.class));
+    serveEventListeners.put(serveEventBroadcaster.getName(), serveEventBroadcaster);
+    serveEventListeners.put(stubStatistics.getName(), stubStatistics);
     BrowserProxySettings browserProxySettings = options.browserProxySettings();
 
     final com.github.tomakehurst.wiremock.http.client.HttpClientFactory httpClientFactory =
-        extensions
-            .ofType(com.github.tomakehurst.wiremock.http.client.HttpClientFactory.class)
-            .values()
-            .stream()
-            .findFirst()
-            .orElse(options.httpClientFactory());
+        httpClientFactory();
 
     final HttpClient reverseProxyClient =
         httpClientFactory.buildHttpClient(options, true, Collections.emptyList(), true);
@@ -219,7 +335,8 @@ public class WireMockApp implements StubServer, Admin {
                 reverseProxyClient,
                 forwardProxyClient),
             List.copyOf(extensions.ofType(ResponseTransformer.class).values()),
-            List.copyOf(extensions.ofType(ResponseTransformerV2.class).values())),
+            List.copyOf(extensions.ofType(ResponseTransformerV2.class).values()),
+            metrics),
         this,
         postServeActions,
         serveEventListeners,
@@ -228,7 +345,9 @@ public class WireMockApp implements StubServer, Admin {
         getV2StubRequestFilters(),
         options.getStubRequestLoggingDisabled(),
         options.getDataTruncationSettings(),
-        options.getNotMatchedRendererFactory().apply(extensions));
+        options.getNotMatchedRendererFactory().apply(extensions),
+        options.getMaxNotMatchedDiffsPerSecond(),
+        metrics);
   }
 
   private List<RequestFilter> getAdminRequestFilters() {
@@ -265,6 +384,48 @@ public class WireMockApp implements StubServer, Admin {
     mappingsLoader.loadMappingsInto(stubMappings);
   }
 
+  private void restoreState() {
+    stateSnapshotFile
+        .read()
+        .ifPresent(
+            snapshot -> {
+              snapshot.getSettings().ifPresent(settingsStore::set);
+              snapshot
+                  .getScenarioStates()
+                  .forEach(
+                      (name, state) -> {
+                        Scenario scenario = scenarios.getByName(name);
+                        if (scenario != null && scenario.getPossibleStates().contains(state)) {
+                          scenarios.setSingle(name, state);
+                        }
+                      });
+            });
+  }
+
+  public void closeServeEventStreams() {
+    serveEventBroadcaster.closeAll();
+  }
+
+  public void persistPendingState() {
+    mappingsSaver.flush();
+    writeStateSnapshot();
+  }
+
+  /** Stops background work started by this instance, once the server has stopped serving. */
+  public void releaseResources() {
+    mappingsSaver.close();
+    requestJournal.close();
+    extensions.ofType(Webhooks.class).values().forEach(Webhooks::shutdown);
+  }
+
+  private void writeStateSnapshot() {
+    if (stateSnapshotFile != null) {
+      Map<String, String> scenarioStates = new LinkedHashMap<>();
+      scenarios.getAll().forEach(s -> scenarioStates.put(s.getName(), s.getState()));
+      stateSnapshotFile.writeState(settingsStore.get(), scenarioStates);
+    }
+  }
+
   @Override
   public ServeEvent serveStubFor(ServeEvent initialServeEvent) {
     ServeEvent serveEvent = stubMappings.serveFor(initialServeEvent);
@@ -294,16 +455,30 @@ public class WireMockApp implements StubServer, Admin {
 
   @Override
   public void removeStubMapping(StubMapping stubMapping) {
-    stubMappings
-        .get(stubMapping.getId())
-        .ifPresent(
-            stubToDelete -> {
-              if (stubToDelete.shouldBePersisted()) {
-                mappingsSaver.remove(stubToDelete);
-              }
-            });
+    Optional<StubMapping> existing = stubMappings.get(stubMapping.getId());
+    if (existing.isPresent()) {
+      removeStubMappings(List.of(existing.get()));
+      return;
+    }
 
+    // No stub has this ID, so every stub with the same request pattern is removed instead
+    List<StubMapping> matchingRequest =
+        stubMappings.getAll().stream()
+            .filter(mapping -> mapping.getRequest().equals(stubMapping.getRequest()))
+            .collect(Collectors.toList());
     stubMappings.removeMapping(stubMapping);
+    matchingRequest.forEach(mapping -> stubStatistics.remove(mapping.getId()));
+  }
+
+  private void removeStubMappings(List<StubMapping> toRemove) {
+    for (StubMapping mapping : toRemove) {
+      if (mapping.shouldBePersisted()) {
+        mappingsSaver.remove(mapping);
+      }
+    }
+
+    stubMappings.removeMappings(toRemove);
+    toRemove.forEach(mapping -> stubStatistics.remove(mapping.getId()));
   }
 
   @Override
@@ -329,6 +504,21 @@ public class WireMockApp implements StubServer, Admin {
     return SingleStubMappingResult.fromOptional(stubMappings.get(id));
   }
 
+  @Override
+  public SingleStubStatsResult getStubStats(UUID id) {
+    return new SingleStubStatsResult(
+        stubMappings.get(id).map(stub -> stubStatistics.get(stub.getId())).orElse(null));
+  }
+
+  @Override
+  public ListStubStatsResult getAllStubStats() {
+    return new ListStubStatsResult(
+        stubMappings.getAll().stream()
+            .map(stub -> stubStatistics.get(stub.getId()))
+            .collect(Collectors.toList()),
+        stubStatistics.getUnmatched());
+  }
+
   @Override
   public void saveMappings() {
     for (StubMapping stubMapping : stubMappings.getAll()) {
@@ -336,6 +526,7 @@ public class WireMockApp implements StubServer, Admin {
       stubMappings.editMapping(stubMapping);
     }
     mappingsSaver.save(stubMappings.getAll());
+    writeStateSnapshot();
   }
 
   @Override
@@ -346,6 +537,7 @@ public class WireMockApp implements StubServer, Admin {
   @Override
   public void resetRequests() {
     requestJournal.reset();
+    stubStatistics.reset();
   }
 
   @Override
@@ -364,6 +556,7 @@ public class WireMockApp implements StubServer, Admin {
   public void resetMappings() {
     mappingsSaver.removeAll();
     stubMappings.reset();
+    stubStatistics.reset();
   }
 
   @Override
@@ -396,6 +589,47 @@ public class WireMockApp implements StubServer, Admin {
     }
   }
 
+  @Override
+  public BatchVerificationResult verifyRequests(BatchVerification batchVerification) {
+    List<BatchVerification.Item> verifications = batchVerification.getVerifications();
+    if (verifications == null) {
+      throw new InvalidInputException(
+          Errors.validation("/verifications", "A list of verifications is required"));
+    }
+    for (int i = 0; i < verifications.size(); i++) {
+      if (verifications.get(i) == null || verifications.get(i).getRequestPattern() == null) {
+        throw new InvalidInputException(
+            Errors.validation(
+                "/verifications/" + i + "/requestPattern", "A request pattern is required"));
+      }
+    }
+
+    int[] counts;
+    try {
+      counts =
+          requestJournal.countRequestsMatching(
+              verifications.stream()
+                  .map(BatchVerification.Item::getRequestPattern)
+                  .collect(Collectors.toList()));
+    } catch (RequestJournalDisabledException e) {
+      return BatchVerificationResult.withRequestJournalDisabled();
+    }
+
+    List<BatchVerificationResult.Item> results = new ArrayList<>(counts.length);
+    for (int i = 0; i < counts.length; i++) {
+      BatchVerification.Item verification = verifications.get(i);
+      CountMatchingStrategy expectedCount = verification.getCount();
+      Boolean matched = expectedCount != null ? expectedCount.match(counts[i]) : null;
+      List<NearMiss> nearMisses =
+          Boolean.FALSE.equals(matched) && counts[i] == 0
+              ? nearMissCalculator.findNearestTo(verification.getRequestPattern())
+              : null;
+      results.add(new BatchVerificationResult.Item(counts[i], matched, nearMisses));
+    }
+
+    return BatchVerificationResult.withResults(results);
+  }
+
   @Override
   public FindRequestsResult findRequestsMatching(RequestPattern requestPattern) {
     try {
@@ -574,25 +808,45 @@ public class WireMockApp implements StubServer, Admin {
     StubImport.Options importOptions =
         getFirstNonNull(stubImport.getImportOptions(), StubImport.Options.DEFAULTS);
 
+    List<StubMapping> toAdd = new ArrayList<>();
+    Set<UUID> idsToAdd = new HashSet<>();
     for (int i = mappings.size() - 1; i >= 0; i--) {
       StubMapping mapping = mappings.get(i);
-      if (mapping.getId() != null && getStubMapping(mapping.getId()).isPresent()) {
-        if (importOptions.getDuplicatePolicy() == StubImport.Options.DuplicatePolicy.OVERWRITE) {
+      if (mapping.getId() == null) {
+        mapping.setId(UUID.randomUUID());
+      }
+
+      boolean exists =
+          idsToAdd.contains(mapping.getId()) || stubMappings.get(mapping.getId()).isPresent();
+      if (!exists) {
+        toAdd.add(mapping);
+        idsToAdd.add(mapping.getId());
+      } else if (importOptions.getDuplicatePolicy()
+          == StubImport.Options.DuplicatePolicy.OVERWRITE) {
+        if (idsToAdd.contains(mapping.getId())) {
+          toAdd.replaceAll(
+              existing -> existing.getId().equals(mapping.getId()) ? mapping : existing);
+        } else {
           editStubMapping(mapping);
         }
-      } else {
-        addStubMapping(mapping);
       }
     }
 
-    if (importOptions.getDeleteAllNotInImport()) {
-      List<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toList());
-      for (StubMapping mapping : listAllStubMappings().getMappings()) {
-        if (!ids.contains(mapping.getId())) {
-          removeStubMapping(mapping);
-        }
+    stubMappings.addMappings(toAdd);
+    for (StubMapping mapping : toAdd) {
+      if (mapping.shouldBePersisted()) {
+        mappingsSaver.save(mapping);
       }
     }
+
+    if (importOptions.getDeleteAllNotInImport()) {
+      Set<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toSet());
+      List<StubMapping> toRemove =
+          stubMappings.getAll().stream()
+              .filter(mapping -> !ids.contains(mapping.getId()))
+              .collect(Collectors.toList());
+      removeStubMappings(toRemove);
+    }
   }
 
   public Set<String> getLoadedExtensionNames() {
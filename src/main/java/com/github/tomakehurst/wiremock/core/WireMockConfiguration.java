@@ -33,11 +33,13 @@ import com.github.tomakehurst.wiremock.extension.ExtensionDeclarations;
 import com.github.tomakehurst.wiremock.extension.ExtensionFactory;
 import com.github.tomakehurst.wiremock.extension.Extensions;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
+import com.github.tomakehurst.wiremock.http.CachingDnsResolver;
 import com.github.tomakehurst.wiremock.http.CaseInsensitiveKey;
 import com.github.tomakehurst.wiremock.http.HttpServerFactory;
 import com.github.tomakehurst.wiremock.http.ThreadPoolFactory;
 import com.github.tomakehurst.wiremock.http.client.ApacheHttpClientFactory;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import com.github.tomakehurst.wiremock.http.multipart.PartParser;
 import com.github.tomakehurst.wiremock.http.trafficlistener.DoNothingWiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.jetty.JettyHttpServerFactory;
@@ -48,10 +50,15 @@ import com.github.tomakehurst.wiremock.security.NoAuthenticator;
 import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.standalone.MappingsSource;
+import com.github.tomakehurst.wiremock.standalone.WriteBehindMappingsSource;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.store.files.StateSnapshotFile;
+import com.github.tomakehurst.wiremock.verification.JournalPolicy;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import com.github.tomakehurst.wiremock.verification.notmatched.PlainTextStubNotMatchedRenderer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -85,6 +92,7 @@ public class WireMockConfiguration implements Options {
   private String caKeystoreType = "JKS";
   private KeyStoreSettings caKeyStoreSettings = null;
   private boolean trustAllProxyTargets = false;
+  private boolean persistGeneratedCertificates = false;
   private final List<String> trustedProxyTargets = new ArrayList<>();
 
   private ProxySettings proxySettings = ProxySettings.NO_PROXY;
@@ -92,10 +100,23 @@ public class WireMockConfiguration implements Options {
   private Stores stores;
   private MappingsSource mappingsSource;
   private FilenameMaker filenameMaker;
+  private StateSnapshotFile stateSnapshotFile;
+  private boolean asyncMappingsPersistence = false;
+  private boolean copyOnWriteStubStore = false;
+  private Path requestJournalDirectory;
+  private int multipartInMemoryThreshold = PartParser.DEFAULT_IN_MEMORY_THRESHOLD;
+  private int webhookThreadPoolSize = DEFAULT_WEBHOOK_THREADS;
+  private int maxPendingWebhooks = DEFAULT_MAX_PENDING_WEBHOOKS;
+  private int maxEventStreamSubscribers = DEFAULT_MAX_EVENT_STREAM_SUBSCRIBERS;
+  private long dnsCacheTtlMillis = CachingDnsResolver.DEFAULT_TTL_MILLIS;
+  private boolean metricsEnabled = true;
+  private final JournalPolicy.Builder journalPolicy = JournalPolicy.builder();
 
   private Notifier notifier = new Slf4jNotifier(false);
+  private boolean asyncLogging;
   private boolean requestJournalDisabled = false;
   private Optional<Integer> maxRequestJournalEntries = Optional.empty();
+  private boolean asyncRequestJournalEnabled = false;
   private List<CaseInsensitiveKey> matchingHeaders = emptyList();
 
   private boolean preserveHostHeader;
@@ -121,6 +142,7 @@ public class WireMockConfiguration implements Options {
 
   private Function<Extensions, NotMatchedRenderer> notMatchedRendererFactory =
       PlainTextStubNotMatchedRenderer::new;
+  private int maxNotMatchedDiffsPerSecond = 0;
   private boolean asynchronousResponseEnabled;
   private int asynchronousResponseThreads;
   private ChunkedEncodingPolicy chunkedEncodingPolicy;
@@ -147,7 +169,12 @@ public class WireMockConfiguration implements Options {
   private MappingsSource getMappingsSource() {
     if (mappingsSource == null) {
       mappingsSource =
-          new JsonFileMappingsSource(filesRoot.child(MAPPINGS_ROOT), getFilenameMaker());
+          new JsonFileMappingsSource(
+              filesRoot.child(MAPPINGS_ROOT), getFilenameMaker(), stateSnapshotFile);
+    }
+
+    if (asyncMappingsPersistence && !(mappingsSource instanceof WriteBehindMappingsSource)) {
+      mappingsSource = new WriteBehindMappingsSource(mappingsSource, notifier());
     }
 
     return mappingsSource;
@@ -349,11 +376,66 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration stateSnapshotFile(String path) {
+    this.stateSnapshotFile = path != null ? new StateSnapshotFile(Paths.get(path)) : null;
+    return this;
+  }
+
+  public WireMockConfiguration webhookThreadPoolSize(int threads) {
+    this.webhookThreadPoolSize = threads;
+    return this;
+  }
+
+  public WireMockConfiguration maxPendingWebhooks(int maxPendingWebhooks) {
+    this.maxPendingWebhooks = maxPendingWebhooks;
+    return this;
+  }
+
+  public WireMockConfiguration maxEventStreamSubscribers(int maxEventStreamSubscribers) {
+    this.maxEventStreamSubscribers = maxEventStreamSubscribers;
+    return this;
+  }
+
+  public WireMockConfiguration dnsCacheTtlMillis(long ttlMillis) {
+    this.dnsCacheTtlMillis = ttlMillis;
+    return this;
+  }
+
+  public WireMockConfiguration disableMetrics() {
+    this.metricsEnabled = false;
+    return this;
+  }
+
+  public WireMockConfiguration multipartInMemoryThreshold(int bytes) {
+    this.multipartInMemoryThreshold = bytes;
+    return this;
+  }
+
+  public WireMockConfiguration copyOnWriteStubStore(boolean enabled) {
+    this.copyOnWriteStubStore = enabled;
+    return this;
+  }
+
+  public WireMockConfiguration requestJournalDirectory(String path) {
+    this.requestJournalDirectory = Paths.get(path);
+    return this;
+  }
+
+  public WireMockConfiguration asyncMappingsPersistence(boolean enabled) {
+    this.asyncMappingsPersistence = enabled;
+    return this;
+  }
+
   public WireMockConfiguration notifier(Notifier notifier) {
     this.notifier = notifier;
     return this;
   }
 
+  public WireMockConfiguration asyncLogging(boolean enabled) {
+    this.asyncLogging = enabled;
+    return this;
+  }
+
   public WireMockConfiguration bindAddress(String bindAddress) {
     this.bindAddress = bindAddress;
     return this;
@@ -364,6 +446,11 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration asyncRequestJournal(boolean enabled) {
+    this.asyncRequestJournalEnabled = enabled;
+    return this;
+  }
+
   @Deprecated
   /**
    * @deprecated use {@link #maxRequestJournalEntries(int)} instead
@@ -455,6 +542,11 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration maxNotMatchedDiffsPerSecond(int maxNotMatchedDiffsPerSecond) {
+    this.maxNotMatchedDiffsPerSecond = maxNotMatchedDiffsPerSecond;
+    return this;
+  }
+
   public WireMockConfiguration notMatchedRendererFactory(
       Function<Extensions, NotMatchedRenderer> notMatchedRendererFactory) {
     this.notMatchedRendererFactory = notMatchedRendererFactory;
@@ -491,6 +583,11 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration persistGeneratedCertificates(boolean enabled) {
+    this.persistGeneratedCertificates = enabled;
+    return this;
+  }
+
   public WireMockConfiguration trustAllProxyTargets(boolean enabled) {
     this.trustAllProxyTargets = enabled;
     return this;
@@ -516,6 +613,41 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration maxLoggedRequestSize(int maxSize) {
+    this.journalPolicy.maxRequestBodySize(new Limit(maxSize));
+    return this;
+  }
+
+  /**
+   * @param sampleRate the proportion of requests to record in the journal, between 0 and 1
+   */
+  public WireMockConfiguration journalSampleRate(double sampleRate) {
+    this.journalPolicy.sampleRate(sampleRate);
+    return this;
+  }
+
+  public WireMockConfiguration journalMatchedRequestsOnly() {
+    this.journalPolicy.retention(JournalPolicy.Retention.MATCHED);
+    return this;
+  }
+
+  public WireMockConfiguration journalUnmatchedRequestsOnly() {
+    this.journalPolicy.retention(JournalPolicy.Retention.UNMATCHED);
+    return this;
+  }
+
+  /** Only the named request headers are recorded in the journal. */
+  public WireMockConfiguration journalRequestHeaders(String... headerNames) {
+    this.journalPolicy.allowedHeaders(List.of(headerNames));
+    return this;
+  }
+
+  /** The named request headers are left out of the journal. */
+  public WireMockConfiguration excludeJournalRequestHeaders(String... headerNames) {
+    this.journalPolicy.deniedHeaders(List.of(headerNames));
+    return this;
+  }
+
   public WireMockConfiguration limitProxyTargets(NetworkAddressRules proxyTargetRules) {
     this.proxyTargetRules = proxyTargetRules;
     return this;
@@ -607,7 +739,7 @@ public class WireMockConfiguration implements Options {
   @Override
   public Stores getStores() {
     if (stores == null) {
-      stores = new DefaultStores(filesRoot);
+      stores = new DefaultStores(filesRoot, copyOnWriteStubStore, requestJournalDirectory);
     }
 
     return stores;
@@ -630,6 +762,10 @@ public class WireMockConfiguration implements Options {
 
   @Override
   public Notifier notifier() {
+    if (asyncLogging && !(notifier instanceof AsyncNotifier)) {
+      notifier = new AsyncNotifier(notifier);
+    }
+
     return notifier;
   }
 
@@ -643,6 +779,11 @@ public class WireMockConfiguration implements Options {
     return maxRequestJournalEntries;
   }
 
+  @Override
+  public boolean getAsyncRequestJournalEnabled() {
+    return asyncRequestJournalEnabled;
+  }
+
   @Override
   public String bindAddress() {
     return bindAddress;
@@ -708,6 +849,11 @@ public class WireMockConfiguration implements Options {
     return requireHttpsForAdminApi;
   }
 
+  @Override
+  public int getMaxNotMatchedDiffsPerSecond() {
+    return maxNotMatchedDiffsPerSecond;
+  }
+
   @Override
   public Function<Extensions, NotMatchedRenderer> getNotMatchedRendererFactory() {
     return notMatchedRendererFactory;
@@ -778,6 +924,7 @@ public class WireMockConfiguration implements Options {
         .trustAllProxyTargets(trustAllProxyTargets)
         .trustedProxyTargets(trustedProxyTargets)
         .caKeyStoreSettings(keyStoreSettings)
+        .persistGeneratedCertificates(persistGeneratedCertificates)
         .build();
   }
 
@@ -815,4 +962,44 @@ public class WireMockConfiguration implements Options {
   public boolean getTemplateEscapingDisabled() {
     return templateEscapingDisabled;
   }
+
+  @Override
+  public int getWebhookThreadPoolSize() {
+    return webhookThreadPoolSize;
+  }
+
+  @Override
+  public int getMaxPendingWebhooks() {
+    return maxPendingWebhooks;
+  }
+
+  @Override
+  public int getMaxEventStreamSubscribers() {
+    return maxEventStreamSubscribers;
+  }
+
+  @Override
+  public long getDnsCacheTtlMillis() {
+    return dnsCacheTtlMillis;
+  }
+
+  @Override
+  public boolean getMetricsEnabled() {
+    return metricsEnabled;
+  }
+
+  @Override
+  public JournalPolicy getJournalPolicy() {
+    return journalPolicy.build();
+  }
+
+  @Override
+  public int getMultipartInMemoryThreshold() {
+    return multipartInMemoryThreshold;
+  }
+
+  @Override
+  public Optional<StateSnapshotFile> getStateSnapshotFile() {
+    return Optional.ofNullable(stateSnapshotFile);
+  }
 }
@@ -30,12 +30,13 @@ import com.github.tomakehurst.wiremock.http.client.HttpClient;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
 import com.github.tomakehurst.wiremock.http.client.LazyHttpClient;
 import com.github.tomakehurst.wiremock.http.client.LazyHttpClientFactory;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
 import com.github.tomakehurst.wiremock.store.Stores;
 import java.util.*;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.wiremock.webhooks.WebhookDispatcher;
 import org.wiremock.webhooks.WebhookTransformer;
 import org.wiremock.webhooks.Webhooks;
 
@@ -50,6 +51,7 @@ public class Extensions implements WireMockServices {
   private final Options options;
   private final Stores stores;
   private final FileSource files;
+  private final Metrics metrics;
 
   private TemplateEngine templateEngine;
 
@@ -63,11 +65,22 @@ public class Extensions implements WireMockServices {
       Options options,
       Stores stores,
       FileSource files) {
+    this(extensionDeclarations, admin, options, stores, files, Metrics.DISABLED);
+  }
+
+  public Extensions(
+      ExtensionDeclarations extensionDeclarations,
+      Admin admin,
+      Options options,
+      Stores stores,
+      FileSource files,
+      Metrics metrics) {
     this.extensionDeclarations = extensionDeclarations;
     this.admin = admin;
     this.options = options;
     this.stores = stores;
     this.files = files;
+    this.metrics = metrics;
 
     loadedExtensions = new LinkedHashMap<>();
   }
@@ -163,7 +176,11 @@ public class Extensions implements WireMockServices {
         ofType(WebhookTransformer.class).values().stream().collect(Collectors.toUnmodifiableList());
 
     final Webhooks webhooks =
-        new Webhooks(this, Executors.newScheduledThreadPool(10), webhookTransformers);
+        new Webhooks(
+            this,
+            new WebhookDispatcher(
+                options.getWebhookThreadPoolSize(), options.getMaxPendingWebhooks(), metrics),
+            webhookTransformers);
     loadedExtensions.put(webhooks.getName(), webhooks);
   }
 
@@ -192,6 +209,11 @@ public class Extensions implements WireMockServices {
     return this;
   }
 
+  @Override
+  public Metrics getMetrics() {
+    return metrics;
+  }
+
   @Override
   public TemplateEngine getTemplateEngine() {
     return new LazyTemplateEngine(() -> templateEngine);
@@ -16,6 +16,7 @@
 package com.github.tomakehurst.wiremock.extension;
 
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.List;
 
 public interface StubLifecycleListener extends Extension {
 
@@ -23,6 +24,22 @@ public interface StubLifecycleListener extends Extension {
 
   default void afterStubCreated(StubMapping stub) {}
 
+  /**
+   * Called once before a batch of stubs is created, e.g. by a bulk import. Defaults to calling
+   * {@link #beforeStubCreated(StubMapping)} for each stub.
+   */
+  default void beforeStubsCreated(List<StubMapping> stubs) {
+    stubs.forEach(this::beforeStubCreated);
+  }
+
+  /**
+   * Called once after a batch of stubs has been created. Defaults to calling {@link
+   * #afterStubCreated(StubMapping)} for each stub.
+   */
+  default void afterStubsCreated(List<StubMapping> stubs) {
+    stubs.forEach(this::afterStubCreated);
+  }
+
   default void beforeStubEdited(StubMapping oldStub, StubMapping newStub) {}
 
   default void afterStubEdited(StubMapping oldStub, StubMapping newStub) {}
@@ -31,6 +48,22 @@ public interface StubLifecycleListener extends Extension {
 
   default void afterStubRemoved(StubMapping stub) {}
 
+  /**
+   * Called once before a batch of stubs is removed. Defaults to calling {@link
+   * #beforeStubRemoved(StubMapping)} for each stub.
+   */
+  default void beforeStubsRemoved(List<StubMapping> stubs) {
+    stubs.forEach(this::beforeStubRemoved);
+  }
+
+  /**
+   * Called once after a batch of stubs has been removed. Defaults to calling {@link
+   * #afterStubRemoved(StubMapping)} for each stub.
+   */
+  default void afterStubsRemoved(List<StubMapping> stubs) {
+    stubs.forEach(this::afterStubRemoved);
+  }
+
   default void beforeStubsReset() {}
 
   default void afterStubsReset() {}
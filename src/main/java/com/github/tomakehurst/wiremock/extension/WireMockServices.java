@@ -21,6 +21,7 @@ import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.extension.responsetemplating.TemplateEngine;
 import com.github.tomakehurst.wiremock.http.client.HttpClient;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
 import com.github.tomakehurst.wiremock.store.Stores;
 
 public interface WireMockServices {
@@ -40,4 +41,9 @@ public interface WireMockServices {
   HttpClientFactory getHttpClientFactory();
 
   HttpClient getDefaultHttpClient();
+
+  /** The registry served at /__admin/metrics, for extensions wanting to publish their own. */
+  default Metrics getMetrics() {
+    return Metrics.DISABLED;
+  }
 }
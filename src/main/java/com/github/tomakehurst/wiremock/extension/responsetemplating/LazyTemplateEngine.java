@@ -16,6 +16,7 @@
 package com.github.tomakehurst.wiremock.extension.responsetemplating;
 
 import com.github.tomakehurst.wiremock.common.Lazy;
+import com.google.common.cache.CacheStats;
 import java.util.function.Supplier;
 
 public class LazyTemplateEngine extends TemplateEngine {
@@ -40,6 +41,11 @@ public class LazyTemplateEngine extends TemplateEngine {
     return templateEngineLazy.get().getCacheSize();
   }
 
+  @Override
+  public CacheStats getCacheStats() {
+    return templateEngineLazy.get().getCacheStats();
+  }
+
   @Override
   public void invalidateCache() {
     templateEngineLazy.get().invalidateCache();
@@ -221,6 +221,11 @@ public class ResponseTemplateTransformer
     templateEngine.invalidateCache();
   }
 
+  @Override
+  public void afterStubsRemoved(List<StubMapping> stubs) {
+    templateEngine.invalidateCache();
+  }
+
   @Override
   public void afterStubsReset() {
     templateEngine.invalidateCache();
@@ -29,6 +29,7 @@ import com.github.tomakehurst.wiremock.extension.responsetemplating.helpers.Syst
 import com.github.tomakehurst.wiremock.extension.responsetemplating.helpers.WireMockHelpers;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -53,7 +54,7 @@ public class TemplateEngine {
         escapingDisabled ? new Handlebars().with(EscapingStrategy.NOOP) : new Handlebars();
 
     this.maxCacheEntries = maxCacheEntries;
-    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().recordStats();
     if (maxCacheEntries != null) {
       cacheBuilder.maximumSize(maxCacheEntries);
     }
@@ -118,6 +119,10 @@ public class TemplateEngine {
     return cache.size();
   }
 
+  public CacheStats getCacheStats() {
+    return cache.stats();
+  }
+
   public void invalidateCache() {
     cache.invalidateAll();
   }
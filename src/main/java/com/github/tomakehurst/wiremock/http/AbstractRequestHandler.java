@@ -21,6 +21,7 @@ import static com.github.tomakehurst.wiremock.stubbing.ServeEvent.ORIGINAL_SERVE
 import com.github.tomakehurst.wiremock.common.DataTruncationSettings;
 import com.github.tomakehurst.wiremock.extension.requestfilter.*;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -55,6 +56,10 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
   @Override
   public void handle(Request request, HttpResponder httpResponder, ServeEvent originalServeEvent) {
     ServeEvent serveEvent = ServeEvent.of(request);
+    // A full copy of the request as received, before any filter replaces it or the journal trims
+    // it. Logging formats it later on the notifier's thread, by which time the live request may
+    // have been recycled.
+    final LoggedRequest loggedRequest = serveEvent.getRequest();
     Request processedRequest = request;
 
     if (filterProcessor.hasAnyFilters()) {
@@ -79,14 +84,16 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
     serveEvent = serveEvent.complete(response, dataTruncationSettings);
 
     if (logRequests()) {
+      final Response loggedResponse = response;
       notifier()
           .info(
-              "Request received:\n"
-                  + formatRequest(request)
-                  + "\n\nMatched response definition:\n"
-                  + responseDefinition
-                  + "\n\nResponse:\n"
-                  + response);
+              () ->
+                  "Request received:\n"
+                      + formatRequest(loggedRequest)
+                      + "\n\nMatched response definition:\n"
+                      + responseDefinition
+                      + "\n\nResponse:\n"
+                      + loggedResponse);
     }
 
     for (RequestListener listener : listeners) {
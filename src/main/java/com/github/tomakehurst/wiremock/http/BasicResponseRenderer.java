@@ -24,10 +24,15 @@ public class BasicResponseRenderer implements ResponseRenderer {
   @Override
   public Response render(ServeEvent serveEvent) {
     ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-    return response()
-        .status(responseDefinition.getStatus())
-        .headers(responseDefinition.getHeaders())
-        .body(responseDefinition.getByteBody())
-        .build();
+    Response.Builder response =
+        response().status(responseDefinition.getStatus()).headers(responseDefinition.getHeaders());
+
+    if (responseDefinition instanceof StreamingResponseDefinition) {
+      return response
+          .body(((StreamingResponseDefinition) responseDefinition).getBodyStreamSource())
+          .build();
+    }
+
+    return response.body(responseDefinition.getByteBody()).build();
   }
 }
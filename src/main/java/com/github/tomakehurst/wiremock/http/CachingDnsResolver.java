@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.common.ProhibitedNetworkAddressException;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.DnsResolver;
+
+/**
+ * Caches lookups made through a delegate resolver, typically a {@link
+ * NetworkAddressRulesAdheringDnsResolver}, for a fixed time. Whether the host was allowed by the
+ * network address rules is cached along with the resolved addresses, so neither the lookup nor the
+ * rule evaluation is repeated for each new connection. Failed lookups are not cached.
+ */
+public class CachingDnsResolver implements DnsResolver {
+
+  public static final long DEFAULT_TTL_MILLIS = 30_000;
+  public static final long DEFAULT_MAX_ENTRIES = 1000;
+
+  private static final InetAddress[] PROHIBITED = new InetAddress[0];
+
+  private final DnsResolver delegate;
+  private final Cache<String, InetAddress[]> cache;
+
+  public CachingDnsResolver(DnsResolver delegate, long ttlMillis, long maxEntries) {
+    this(delegate, ttlMillis, maxEntries, Ticker.systemTicker());
+  }
+
+  CachingDnsResolver(DnsResolver delegate, long ttlMillis, long maxEntries, Ticker ticker) {
+    this.delegate = delegate;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+            .maximumSize(maxEntries)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public InetAddress[] resolve(String host) throws UnknownHostException {
+    InetAddress[] addresses;
+    try {
+      addresses = cache.get(host, () -> lookUp(host));
+    } catch (ExecutionException e) {
+      throw (UnknownHostException) e.getCause();
+    } catch (UncheckedExecutionException e) {
+      throw (RuntimeException) e.getCause();
+    }
+
+    if (addresses == PROHIBITED) {
+      throw new ProhibitedNetworkAddressException();
+    }
+
+    return addresses.clone();
+  }
+
+  private InetAddress[] lookUp(String host) throws UnknownHostException {
+    try {
+      return delegate.resolve(host);
+    } catch (ProhibitedNetworkAddressException e) {
+      return PROHIBITED;
+    }
+  }
+
+  @Override
+  public String resolveCanonicalHostname(String host) throws UnknownHostException {
+    return delegate.resolveCanonicalHostname(host);
+  }
+
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  public Stats getStats() {
+    CacheStats stats = cache.stats();
+    return new Stats(cache.size(), stats.hitCount(), stats.missCount(), stats.hitRate());
+  }
+
+  public static class Stats {
+
+    private final long size;
+    private final long hits;
+    private final long misses;
+    private final double hitRate;
+
+    public Stats(
+        @JsonProperty("size") long size,
+        @JsonProperty("hits") long hits,
+        @JsonProperty("misses") long misses,
+        @JsonProperty("hitRate") double hitRate) {
+      this.size = size;
+      this.hits = hits;
+      this.misses = misses;
+      this.hitRate = hitRate;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    public long getHits() {
+      return hits;
+    }
+
+    public long getMisses() {
+      return misses;
+    }
+
+    public double getHitRate() {
+      return hitRate;
+    }
+  }
+}
@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.DnsResolver;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.classic.methods.*;
@@ -68,9 +69,28 @@ public class HttpClientFactory {
       boolean useSystemProperties,
       NetworkAddressRules networkAddressRules,
       boolean disableConnectionReuse) {
+    return createClient(
+        maxConnections,
+        timeoutMilliseconds,
+        proxySettings,
+        trustStoreSettings,
+        trustAllCertificates,
+        trustedHosts,
+        useSystemProperties,
+        new NetworkAddressRulesAdheringDnsResolver(networkAddressRules),
+        disableConnectionReuse);
+  }
 
-    NetworkAddressRulesAdheringDnsResolver dnsResolver =
-        new NetworkAddressRulesAdheringDnsResolver(networkAddressRules);
+  public static CloseableHttpClient createClient(
+      int maxConnections,
+      int timeoutMilliseconds,
+      ProxySettings proxySettings,
+      KeyStoreSettings trustStoreSettings,
+      boolean trustAllCertificates,
+      final List<String> trustedHosts,
+      boolean useSystemProperties,
+      DnsResolver dnsResolver,
+      boolean disableConnectionReuse) {
 
     HttpClientBuilder builder =
         HttpClientBuilder.create()
@@ -79,16 +99,6 @@ public class HttpClientFactory {
             .disableCookieManagement()
             .disableRedirectHandling()
             .disableContentCompression()
-            .setConnectionManager(
-                PoolingHttpClientConnectionManagerBuilder.create()
-                    .setDnsResolver(dnsResolver)
-                    .setMaxConnPerRoute(maxConnections)
-                    .setMaxConnTotal(maxConnections)
-                    .setValidateAfterInactivity(TimeValue.ofSeconds(5)) // TODO Verify duration
-                    .setConnectionFactory(
-                        new ManagedHttpClientConnectionFactory(
-                            null, CharCodingConfig.custom().setCharset(UTF_8).build(), null))
-                    .build())
             .setDefaultRequestConfig(
                 RequestConfig.custom()
                     .setResponseTimeout(Timeout.ofMilliseconds(timeoutMilliseconds))
@@ -125,6 +135,12 @@ public class HttpClientFactory {
         PoolingHttpClientConnectionManagerBuilder.create()
             .setSSLSocketFactory(sslSocketFactory)
             .setDnsResolver(dnsResolver)
+            .setMaxConnPerRoute(maxConnections)
+            .setMaxConnTotal(maxConnections)
+            .setValidateAfterInactivity(TimeValue.ofSeconds(5)) // TODO Verify duration
+            .setConnectionFactory(
+                new ManagedHttpClientConnectionFactory(
+                    null, CharCodingConfig.custom().setCharset(UTF_8).build(), null))
             .build();
     builder.setConnectionManager(connectionManager);
 
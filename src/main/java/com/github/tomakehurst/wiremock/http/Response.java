@@ -92,6 +92,10 @@ public class Response {
   }
 
   public byte[] getBody(Limit sizeLimit) {
+    if (hasStreamingBody()) {
+      return new byte[0];
+    }
+
     return Exceptions.uncheck(() -> getBytesFromStream(bodyStreamSource, sizeLimit), byte[].class);
   }
 
@@ -121,6 +125,10 @@ public class Response {
         bodyStreamSource.getClass());
   }
 
+  public boolean hasStreamingBody() {
+    return bodyStreamSource instanceof StreamingInputStreamSource;
+  }
+
   public HttpHeaders getHeaders() {
     return headers;
   }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import com.github.tomakehurst.wiremock.common.StreamingInputStreamSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import java.util.Collections;
+
+/**
+ * A response definition whose body is streamed from a source rather than held inline. Only produced
+ * internally, e.g. by admin tasks, and never serialized.
+ */
+public class StreamingResponseDefinition extends ResponseDefinition {
+
+  private final StreamingInputStreamSource bodyStreamSource;
+
+  public StreamingResponseDefinition(
+      int status, HttpHeaders headers, StreamingInputStreamSource bodyStreamSource) {
+    super(
+        status,
+        null,
+        Body.none(),
+        null,
+        headers,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        Collections.emptyList(),
+        Parameters.empty(),
+        true);
+    this.bodyStreamSource = bodyStreamSource;
+  }
+
+  public StreamingInputStreamSource getBodyStreamSource() {
+    return bodyStreamSource;
+  }
+}
@@ -17,6 +17,11 @@ package com.github.tomakehurst.wiremock.http;
 
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static com.github.tomakehurst.wiremock.extension.ServeEventListener.RequestPhase.*;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.PHASE_DURATION;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.PHASE_DURATION_HELP;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.REQUESTS_TOTAL;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.REQUESTS_TOTAL_HELP;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 
 import com.github.tomakehurst.wiremock.common.DataTruncationSettings;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
@@ -25,6 +30,9 @@ import com.github.tomakehurst.wiremock.core.StubServer;
 import com.github.tomakehurst.wiremock.extension.*;
 import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilter;
 import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilterV2;
+import com.github.tomakehurst.wiremock.metrics.Counter;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
+import com.github.tomakehurst.wiremock.metrics.Timer;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import com.github.tomakehurst.wiremock.verification.RequestJournal;
@@ -32,6 +40,8 @@ import com.github.tomakehurst.wiremock.verification.diff.DiffEventData;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class StubRequestHandler extends AbstractRequestHandler {
 
@@ -43,6 +53,12 @@ public class StubRequestHandler extends AbstractRequestHandler {
   private final boolean loggingDisabled;
 
   private final NotMatchedRenderer notMatchedRenderer;
+  private final int maxNotMatchedDiffsPerSecond;
+  private final AtomicReference<DiffWindow> diffWindow = new AtomicReference<>(new DiffWindow(0));
+
+  private final Counter matchedRequests;
+  private final Counter unmatchedRequests;
+  private final Timer journalTimer;
 
   public StubRequestHandler(
       StubServer stubServer,
@@ -56,6 +72,40 @@ public class StubRequestHandler extends AbstractRequestHandler {
       boolean loggingDisabled,
       DataTruncationSettings dataTruncationSettings,
       NotMatchedRenderer notMatchedRenderer) {
+    this(
+        stubServer,
+        responseRenderer,
+        admin,
+        postServeActions,
+        serveEventListeners,
+        requestJournal,
+        requestFilters,
+        v2RequestFilters,
+        loggingDisabled,
+        dataTruncationSettings,
+        notMatchedRenderer,
+        0,
+        Metrics.DISABLED);
+  }
+
+  /**
+   * @param maxNotMatchedDiffsPerSecond the number of unmatched requests per second that get a full
+   *     diff report, with the rest getting a short message instead; 0 for no limit
+   */
+  public StubRequestHandler(
+      StubServer stubServer,
+      ResponseRenderer responseRenderer,
+      Admin admin,
+      Map<String, PostServeAction> postServeActions,
+      Map<String, ServeEventListener> serveEventListeners,
+      RequestJournal requestJournal,
+      List<RequestFilter> requestFilters,
+      List<RequestFilterV2> v2RequestFilters,
+      boolean loggingDisabled,
+      DataTruncationSettings dataTruncationSettings,
+      NotMatchedRenderer notMatchedRenderer,
+      int maxNotMatchedDiffsPerSecond,
+      Metrics metrics) {
     super(responseRenderer, requestFilters, v2RequestFilters, dataTruncationSettings);
     this.stubServer = stubServer;
     this.admin = admin;
@@ -64,6 +114,11 @@ public class StubRequestHandler extends AbstractRequestHandler {
     this.requestJournal = requestJournal;
     this.loggingDisabled = loggingDisabled;
     this.notMatchedRenderer = notMatchedRenderer;
+    this.maxNotMatchedDiffsPerSecond = maxNotMatchedDiffsPerSecond;
+    this.matchedRequests = metrics.counter(REQUESTS_TOTAL, REQUESTS_TOTAL_HELP, "matched", "true");
+    this.unmatchedRequests =
+        metrics.counter(REQUESTS_TOTAL, REQUESTS_TOTAL_HELP, "matched", "false");
+    this.journalTimer = metrics.timer(PHASE_DURATION, PHASE_DURATION_HELP, "phase", "journal");
   }
 
   @Override
@@ -82,15 +137,36 @@ public class StubRequestHandler extends AbstractRequestHandler {
   @Override
   protected void beforeResponseSent(ServeEvent serveEvent, Response response) {
     if (!response.wasConfigured()) {
+      unmatchedRequests.increment();
       appendNonMatchSubEvent(serveEvent);
+    } else {
+      matchedRequests.increment();
     }
 
+    long journalStart = journalTimer.start();
     requestJournal.requestReceived(serveEvent);
+    journalTimer.stop(journalStart);
 
     triggerListeners(BEFORE_RESPONSE_SENT, serveEvent);
   }
 
   private void appendNonMatchSubEvent(ServeEvent serveEvent) {
+    if (!diffPermitted()) {
+      serveEvent.appendSubEvent(
+          SubEvent.NON_MATCH_TYPE,
+          new DiffEventData(
+              HTTP_NOT_FOUND,
+              "text/plain",
+              "Request was not matched. A diff was not rendered because more than "
+                  + maxNotMatchedDiffsPerSecond
+                  + " unmatched requests were received in the last second.\n"));
+      return;
+    }
+
+    serveEvent.appendSubEvent(SubEvent.NON_MATCH_TYPE, renderDiff(serveEvent));
+  }
+
+  private DiffEventData renderDiff(ServeEvent serveEvent) {
     final ResponseDefinition responseDefinition =
         notMatchedRenderer.execute(admin, serveEvent, PathParams.empty());
     final HttpHeaders headers = responseDefinition.getHeaders();
@@ -99,15 +175,39 @@ public class StubRequestHandler extends AbstractRequestHandler {
             ? headers.getContentTypeHeader().firstValue()
             : null;
 
-    serveEvent.appendSubEvent(
-        SubEvent.NON_MATCH_TYPE,
-        new DiffEventData(
-            responseDefinition.getStatus(), contentTypeHeader, responseDefinition.getBody()));
+    return new DiffEventData(
+        responseDefinition.getStatus(), contentTypeHeader, responseDefinition.getBody());
+  }
+
+  private boolean diffPermitted() {
+    if (maxNotMatchedDiffsPerSecond <= 0) {
+      return true;
+    }
+
+    long now = System.currentTimeMillis();
+    DiffWindow window = diffWindow.get();
+    if (now - window.startMillis >= 1000) {
+      // Losing the race just means another thread has already opened the new window
+      DiffWindow next = new DiffWindow(now);
+      window = diffWindow.compareAndSet(window, next) ? next : diffWindow.get();
+    }
+    return window.count.incrementAndGet() <= maxNotMatchedDiffsPerSecond;
+  }
+
+  private static class DiffWindow {
+    final long startMillis;
+    final AtomicInteger count = new AtomicInteger();
+
+    DiffWindow(long startMillis) {
+      this.startMillis = startMillis;
+    }
   }
 
   @Override
   protected void afterResponseSent(ServeEvent serveEvent, Response response) {
+    long journalStart = journalTimer.start();
     requestJournal.serveCompleted(serveEvent);
+    journalTimer.stop(journalStart);
 
     triggerPostServeActions(serveEvent);
 
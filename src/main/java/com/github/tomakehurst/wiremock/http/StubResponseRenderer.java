@@ -17,12 +17,16 @@ package com.github.tomakehurst.wiremock.http;
 
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
 import static com.github.tomakehurst.wiremock.http.Response.response;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.PHASE_DURATION;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.PHASE_DURATION_HELP;
 
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.InputStreamSource;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformer;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
+import com.github.tomakehurst.wiremock.metrics.Timer;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.store.files.BlobStoreFileSource;
@@ -38,6 +42,9 @@ public class StubResponseRenderer implements ResponseRenderer {
   private final ProxyResponseRenderer proxyResponseRenderer;
   private final List<ResponseTransformer> responseTransformers;
   private final List<ResponseTransformerV2> v2ResponseTransformers;
+  private final Timer renderingTimer;
+  private final Timer proxyingTimer;
+  private final Timer transformingTimer;
 
   public StubResponseRenderer(
       BlobStore filesBlobStore,
@@ -45,11 +52,31 @@ public class StubResponseRenderer implements ResponseRenderer {
       ProxyResponseRenderer proxyResponseRenderer,
       List<ResponseTransformer> responseTransformers,
       List<ResponseTransformerV2> v2ResponseTransformers) {
+    this(
+        filesBlobStore,
+        settingsStore,
+        proxyResponseRenderer,
+        responseTransformers,
+        v2ResponseTransformers,
+        Metrics.DISABLED);
+  }
+
+  public StubResponseRenderer(
+      BlobStore filesBlobStore,
+      SettingsStore settingsStore,
+      ProxyResponseRenderer proxyResponseRenderer,
+      List<ResponseTransformer> responseTransformers,
+      List<ResponseTransformerV2> v2ResponseTransformers,
+      Metrics metrics) {
     this.filesBlobStore = filesBlobStore;
     this.settingsStore = settingsStore;
     this.proxyResponseRenderer = proxyResponseRenderer;
     this.responseTransformers = responseTransformers;
     this.v2ResponseTransformers = v2ResponseTransformers;
+    this.renderingTimer = metrics.timer(PHASE_DURATION, PHASE_DURATION_HELP, "phase", "rendering");
+    this.proxyingTimer = metrics.timer(PHASE_DURATION, PHASE_DURATION_HELP, "phase", "proxying");
+    this.transformingTimer =
+        metrics.timer(PHASE_DURATION, PHASE_DURATION_HELP, "phase", "transforming");
 
     filesFileSource = new BlobStoreFileSource(filesBlobStore);
   }
@@ -61,8 +88,18 @@ public class StubResponseRenderer implements ResponseRenderer {
       return Response.notConfigured();
     }
 
-    Response response = buildResponse(serveEvent);
+    Response response;
+    if (responseDefinition.isProxyResponse()) {
+      long proxyingStart = proxyingTimer.start();
+      response = proxyResponseRenderer.render(serveEvent);
+      proxyingTimer.stop(proxyingStart);
+    } else {
+      long renderingStart = renderingTimer.start();
+      response = renderDirectly(serveEvent).build();
+      renderingTimer.stop(renderingStart);
+    }
 
+    long transformingStart = transformingTimer.start();
     response =
         applyTransformations(
             responseDefinition.getOriginalRequest(),
@@ -71,19 +108,11 @@ public class StubResponseRenderer implements ResponseRenderer {
             responseTransformers);
 
     response = applyV2Transformations(response, serveEvent, v2ResponseTransformers);
+    transformingTimer.stop(transformingStart);
 
     return response;
   }
 
-  private Response buildResponse(ServeEvent serveEvent) {
-    if (serveEvent.getResponseDefinition().isProxyResponse()) {
-      return proxyResponseRenderer.render(serveEvent);
-    } else {
-      Response.Builder responseBuilder = renderDirectly(serveEvent);
-      return responseBuilder.build();
-    }
-  }
-
   private Response applyTransformations(
       Request request,
       ResponseDefinition responseDefinition,
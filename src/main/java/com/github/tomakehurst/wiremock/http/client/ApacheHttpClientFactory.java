@@ -15,12 +15,21 @@
  */
 package com.github.tomakehurst.wiremock.http.client;
 
+import com.github.tomakehurst.wiremock.common.NetworkAddressRules;
 import com.github.tomakehurst.wiremock.core.Options;
+import com.github.tomakehurst.wiremock.http.CachingDnsResolver;
+import com.github.tomakehurst.wiremock.http.NetworkAddressRulesAdheringDnsResolver;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.hc.client5.http.DnsResolver;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 
 public class ApacheHttpClientFactory implements HttpClientFactory {
 
+  private NetworkAddressRules dnsResolverRules;
+  private DnsResolver dnsResolver;
+
   @Override
   public HttpClient buildHttpClient(
       Options options,
@@ -36,9 +45,40 @@ public class ApacheHttpClientFactory implements HttpClientFactory {
             trustAllCertificates,
             trustedHosts,
             useSystemProperties,
-            options.getProxyTargetRules(),
+            dnsResolverFor(options),
             true);
 
     return new ApacheBackedHttpClient(apacheClient);
   }
+
+  /**
+   * The proxy and webhook clients built for the same options share one resolver, so that each
+   * upstream host is looked up and checked against the proxy target rules once per TTL.
+   */
+  private synchronized DnsResolver dnsResolverFor(Options options) {
+    NetworkAddressRules rules = options.getProxyTargetRules();
+    if (dnsResolver == null || !Objects.equals(dnsResolverRules, rules)) {
+      DnsResolver rulesAdheringResolver = new NetworkAddressRulesAdheringDnsResolver(rules);
+      dnsResolver =
+          options.getDnsCacheTtlMillis() > 0
+              ? new CachingDnsResolver(
+                  rulesAdheringResolver,
+                  options.getDnsCacheTtlMillis(),
+                  CachingDnsResolver.DEFAULT_MAX_ENTRIES)
+              : rulesAdheringResolver;
+      dnsResolverRules = rules;
+    }
+
+    return dnsResolver;
+  }
+
+  /**
+   * @return the hits and misses of the shared DNS cache, or empty if no client has been built yet
+   *     or caching is disabled
+   */
+  public synchronized Optional<CachingDnsResolver.Stats> getDnsCacheStats() {
+    return dnsResolver instanceof CachingDnsResolver
+        ? Optional.of(((CachingDnsResolver) dnsResolver).getStats())
+        : Optional.empty();
+  }
 }
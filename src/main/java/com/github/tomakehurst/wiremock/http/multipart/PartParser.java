@@ -29,17 +29,40 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.commons.fileupload.FileItem;
-import org.apache.commons.fileupload.FileItemFactory;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.UploadContext;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
+import org.apache.commons.io.FileCleaningTracker;
 
 public class PartParser {
 
-  @SuppressWarnings("unchecked")
+  public static final int DEFAULT_IN_MEMORY_THRESHOLD = Integer.MAX_VALUE;
+
+  private static final FileCleaningTracker FILE_CLEANING_TRACKER = new FileCleaningTracker();
+
+  public static final PartParser DEFAULT = new PartParser(DEFAULT_IN_MEMORY_THRESHOLD);
+
+  private final int inMemoryThreshold;
+
+  /**
+   * @param inMemoryThreshold the size in bytes above which parsed parts are written to a temp file
+   *     rather than held in memory. Temp files are deleted once their part is garbage collected.
+   */
+  public PartParser(int inMemoryThreshold) {
+    this.inMemoryThreshold = inMemoryThreshold;
+  }
+
   public static Collection<Request.Part> parseFrom(Request request) {
-    FileItemFactory fileItemFactory =
-        new DiskFileItemFactory(Integer.MAX_VALUE, new File(System.getProperty("java.io.tmpdir")));
+    return DEFAULT.parse(request);
+  }
+
+  @SuppressWarnings("unchecked")
+  public Collection<Request.Part> parse(Request request) {
+    DiskFileItemFactory fileItemFactory =
+        new DiskFileItemFactory(inMemoryThreshold, new File(System.getProperty("java.io.tmpdir")));
+    if (inMemoryThreshold != DEFAULT_IN_MEMORY_THRESHOLD) {
+      fileItemFactory.setFileCleaningTracker(FILE_CLEANING_TRACKER);
+    }
 
     HttpHeaders headers = request.getHeaders();
     ByteArrayUploadContext uploadContext =
@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.multipart;
+
+import com.github.tomakehurst.wiremock.http.Request;
+
+/**
+ * A request whose parts are parsed from nothing but its body and headers, so a copy of it can parse
+ * them again on demand with the same parser.
+ */
+public interface PartParsingRequest extends Request {
+
+  PartParser getPartParser();
+}
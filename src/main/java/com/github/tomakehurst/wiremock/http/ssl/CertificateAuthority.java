@@ -32,6 +32,8 @@ import sun.security.x509.*;
 @SuppressWarnings("sunapi")
 public class CertificateAuthority {
 
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
   private final X509Certificate[] certificateChain;
   private final PrivateKey key;
 
@@ -117,11 +119,10 @@ public class CertificateAuthority {
     return key;
   }
 
-  CertChainAndKey generateCertificate(String keyType, SNIHostName hostName)
+  CertChainAndKey generateCertificate(String keyType, KeyPair pair, SNIHostName hostName)
       throws CertificateGenerationUnsupportedException {
     try {
-      KeyPair pair = generateKeyPair(keyType);
-      String sigAlg = "SHA256With" + keyType;
+      String sigAlg = signatureAlgorithm(keyType);
       X509CertInfo info =
           makeX509CertInfo(
               sigAlg,
@@ -161,12 +162,20 @@ public class CertificateAuthority {
     return certificate;
   }
 
-  private static KeyPair generateKeyPair(String keyType) throws NoSuchAlgorithmException {
+  static KeyPair generateKeyPair(String keyType) throws NoSuchAlgorithmException {
     KeyPairGenerator keyGen = KeyPairGenerator.getInstance(keyType);
-    keyGen.initialize(2048, new SecureRandom());
+    keyGen.initialize(isEllipticCurve(keyType) ? 256 : 2048, SECURE_RANDOM);
     return keyGen.generateKeyPair();
   }
 
+  private static String signatureAlgorithm(String keyType) {
+    return isEllipticCurve(keyType) ? "SHA256WithECDSA" : "SHA256With" + keyType;
+  }
+
+  private static boolean isEllipticCurve(String keyType) {
+    return keyType.equals("EC");
+  }
+
   private static X509CertInfo makeX509CertInfo(
       String sigAlg,
       String subjectName,
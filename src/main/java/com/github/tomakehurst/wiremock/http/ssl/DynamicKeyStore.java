@@ -15,24 +15,59 @@
  */
 package com.github.tomakehurst.wiremock.http.ssl;
 
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.github.tomakehurst.wiremock.common.Source;
+import java.security.KeyPair;
+import java.security.KeyStore;
 import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.net.ssl.SNIHostName;
 
 public class DynamicKeyStore {
 
+  private static final int GENERATION_LOCK_STRIPES = 64;
+
   private final X509KeyStore keyStore;
   private final CertificateAuthority existingCertificateAuthority;
+  private final KeyPairPool keyPairPool;
+  private final Source<KeyStore> persistTo;
+
+  private final Object[] generationLocks = new Object[GENERATION_LOCK_STRIPES];
+  private final AtomicBoolean savePending = new AtomicBoolean();
+  private ExecutorService saver;
 
   public DynamicKeyStore(X509KeyStore keyStore) {
+    this(keyStore, null);
+  }
+
+  /**
+   * @param persistTo nullable; if present, the key store is saved here whenever a certificate is
+   *     generated so that generated certificates survive a restart
+   */
+  public DynamicKeyStore(X509KeyStore keyStore, Source<KeyStore> persistTo) {
+    this(keyStore, new KeyPairPool(KeyPairPool.DEFAULT_SIZE, "RSA"), persistTo);
+  }
+
+  DynamicKeyStore(X509KeyStore keyStore, KeyPairPool keyPairPool, Source<KeyStore> persistTo) {
     this.keyStore = requireNonNull(keyStore);
     this.existingCertificateAuthority =
         requireNonNull(
             keyStore.getCertificateAuthority(),
             "Keystore does not contain a certificate that can act as a certificate authority");
+    this.keyPairPool = requireNonNull(keyPairPool);
+    this.persistTo = persistTo;
+    for (int i = 0; i < generationLocks.length; i++) {
+      generationLocks[i] = new Object();
+    }
   }
 
   PrivateKey getPrivateKey(String alias) {
@@ -44,24 +79,113 @@ public class DynamicKeyStore {
   }
 
   /**
+   * Only one certificate is generated per host, however many handshakes for it arrive at once.
+   *
    * @param keyType non null, guaranteed to be valid
    * @param requestedServerName non null
    */
   void generateCertificateIfNecessary(String keyType, SNIHostName requestedServerName)
       throws CertificateGenerationUnsupportedException, KeyStoreException {
-    if (getPrivateKey(requestedServerName.getAsciiName()) == null) {
-      generateCertificate(keyType, requestedServerName);
+    String alias = requestedServerName.getAsciiName();
+    if (hasCurrentCertificate(alias)) {
+      return;
+    }
+
+    synchronized (generationLockFor(alias)) {
+      if (!hasCurrentCertificate(alias)) {
+        generateCertificate(keyType, requestedServerName);
+      }
     }
   }
 
+  // A fixed set of locks, so hosts seen once don't each leave a lock behind
+  private Object generationLockFor(String alias) {
+    return generationLocks[Math.floorMod(alias.hashCode(), generationLocks.length)];
+  }
+
+  private boolean hasCurrentCertificate(String alias) {
+    if (getPrivateKey(alias) == null) {
+      return false;
+    }
+
+    X509Certificate[] chain = getCertificateChain(alias);
+    return chain != null && chain.length > 0 && chain[0].getNotAfter().after(new Date());
+  }
+
   /**
    * @param keyType non null, guaranteed to be valid
    * @param requestedServerName non null
    */
   private void generateCertificate(String keyType, SNIHostName requestedServerName)
       throws CertificateGenerationUnsupportedException, KeyStoreException {
+    KeyPair keyPair;
+    try {
+      keyPair = keyPairPool.take(keyType);
+    } catch (NoSuchAlgorithmException e) {
+      throw new CertificateGenerationUnsupportedException(
+          "Your runtime does not support generating " + keyType + " keys", e);
+    }
+
     CertChainAndKey newCertChainAndKey =
-        existingCertificateAuthority.generateCertificate(keyType, requestedServerName);
+        existingCertificateAuthority.generateCertificate(keyType, keyPair, requestedServerName);
     keyStore.setKeyEntry(requestedServerName.getAsciiName(), newCertChainAndKey);
+    scheduleSave();
+  }
+
+  private void scheduleSave() {
+    if (persistTo == null || !savePending.compareAndSet(false, true)) {
+      return;
+    }
+
+    saver()
+        .execute(
+            () -> {
+              savePending.set(false);
+              try {
+                keyStore.saveTo(persistTo);
+              } catch (Exception e) {
+                notifier().error("Unable to save generated certificates", e);
+              }
+            });
+  }
+
+  /**
+   * Stops the background threads, waiting briefly for a save that is already queued so that it
+   * isn't lost.
+   */
+  public void close() {
+    keyPairPool.close();
+
+    ExecutorService toStop;
+    synchronized (this) {
+      toStop = saver;
+      saver = null;
+    }
+    if (toStop == null) {
+      return;
+    }
+
+    toStop.shutdown();
+    try {
+      if (!toStop.awaitTermination(5, SECONDS)) {
+        toStop.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      toStop.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private synchronized ExecutorService saver() {
+    if (saver == null) {
+      saver =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "wiremock-certificate-saver");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return saver;
   }
 }
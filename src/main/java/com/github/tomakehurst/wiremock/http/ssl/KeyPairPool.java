@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.ssl;
+
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Holds a few pre-generated key pairs of each key type, so that certificates for new hosts can be
+ * issued without generating a key pair during the TLS handshake. Pairs that are taken are replaced
+ * on a background thread. If the pool for a key type is empty a pair is generated on the caller's
+ * thread instead. {@link #close()} stops the background thread.
+ */
+class KeyPairPool {
+
+  static final int DEFAULT_SIZE = 4;
+
+  private final int size;
+  private final Map<String, BlockingQueue<KeyPair>> pools = new ConcurrentHashMap<>();
+  private final Set<String> refilling = ConcurrentHashMap.newKeySet();
+  private final ExecutorService generator =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "wiremock-keypair-generator");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  KeyPairPool() {
+    this(DEFAULT_SIZE);
+  }
+
+  KeyPairPool(int size, String... keyTypesToPreGenerate) {
+    this.size = size;
+    for (String keyType : keyTypesToPreGenerate) {
+      refill(keyType);
+    }
+  }
+
+  KeyPair take(String keyType) throws NoSuchAlgorithmException {
+    KeyPair pair = poolFor(keyType).poll();
+    refill(keyType);
+    return pair != null ? pair : CertificateAuthority.generateKeyPair(keyType);
+  }
+
+  int available(String keyType) {
+    return poolFor(keyType).size();
+  }
+
+  void close() {
+    generator.shutdownNow();
+  }
+
+  private BlockingQueue<KeyPair> poolFor(String keyType) {
+    return pools.computeIfAbsent(keyType, type -> new ArrayBlockingQueue<>(Math.max(size, 1)));
+  }
+
+  private void refill(String keyType) {
+    if (size < 1 || !refilling.add(keyType)) {
+      return;
+    }
+
+    BlockingQueue<KeyPair> pool = poolFor(keyType);
+    try {
+      generator.execute(
+          () -> {
+            try {
+              while (pool.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                pool.offer(CertificateAuthority.generateKeyPair(keyType));
+              }
+            } catch (NoSuchAlgorithmException e) {
+              // Leave the pool empty; take() will report the failure to its caller
+            } finally {
+              refilling.remove(keyType);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // Closed; take() falls back to generating on the caller's thread
+      refilling.remove(keyType);
+    }
+  }
+}
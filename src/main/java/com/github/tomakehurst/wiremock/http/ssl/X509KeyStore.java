@@ -19,6 +19,7 @@ import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 
+import com.github.tomakehurst.wiremock.common.Source;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
@@ -100,7 +101,15 @@ public class X509KeyStore {
   }
 
   void setKeyEntry(String alias, CertChainAndKey newCertChainAndKey) throws KeyStoreException {
-    keyStore.setKeyEntry(
-        alias, newCertChainAndKey.key, password, newCertChainAndKey.certificateChain);
+    synchronized (keyStore) {
+      keyStore.setKeyEntry(
+          alias, newCertChainAndKey.key, password, newCertChainAndKey.certificateChain);
+    }
+  }
+
+  void saveTo(Source<KeyStore> source) {
+    synchronized (keyStore) {
+      source.save(keyStore);
+    }
   }
 }
@@ -27,6 +27,7 @@ import com.github.tomakehurst.wiremock.http.AdminRequestHandler;
 import com.github.tomakehurst.wiremock.http.HttpServer;
 import com.github.tomakehurst.wiremock.http.RequestHandler;
 import com.github.tomakehurst.wiremock.http.StubRequestHandler;
+import com.github.tomakehurst.wiremock.http.multipart.PartParser;
 import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.servlet.*;
 import jakarta.servlet.DispatcherType;
@@ -133,6 +134,7 @@ public abstract class JettyHttpServer implements HttpServer {
             options.getChunkedEncodingPolicy(),
             options.getStubCorsEnabled(),
             options.browserProxySettings().enabled(),
+            new PartParser(options.getMultipartInMemoryThreshold()),
             notifier);
 
     HandlerCollection handlers = new HandlerCollection();
@@ -280,6 +282,7 @@ public abstract class JettyHttpServer implements HttpServer {
       Options.ChunkedEncodingPolicy chunkedEncodingPolicy,
       boolean stubCorsEnabled,
       boolean browserProxyingEnabled,
+      PartParser partParser,
       Notifier notifier) {
     ServletContextHandler mockServiceContext = new ServletContextHandler(jettyServer, "/");
 
@@ -299,6 +302,7 @@ public abstract class JettyHttpServer implements HttpServer {
     mockServiceContext.setAttribute(
         Options.ChunkedEncodingPolicy.class.getName(), chunkedEncodingPolicy);
     mockServiceContext.setAttribute("browserProxyingEnabled", browserProxyingEnabled);
+    mockServiceContext.setAttribute(PartParser.class.getName(), partParser);
     ServletHolder servletHolder =
         mockServiceContext.addServlet(WireMockHandlerDispatchingServlet.class, "/");
     servletHolder.setInitOrder(1);
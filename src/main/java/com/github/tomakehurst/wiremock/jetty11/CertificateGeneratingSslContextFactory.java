@@ -19,11 +19,14 @@ import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 
 import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.common.Source;
 import com.github.tomakehurst.wiremock.http.ssl.ApacheHttpHostNameMatcher;
 import com.github.tomakehurst.wiremock.http.ssl.CertificateGeneratingX509ExtendedKeyManager;
 import com.github.tomakehurst.wiremock.http.ssl.DynamicKeyStore;
 import com.github.tomakehurst.wiremock.http.ssl.X509KeyStore;
 import java.security.KeyStore;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.X509ExtendedKeyManager;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
@@ -31,10 +34,20 @@ import org.eclipse.jetty.util.ssl.SslContextFactory;
 class CertificateGeneratingSslContextFactory extends SslContextFactory.Server {
 
   private final X509KeyStore x509KeyStore;
+  private final Source<KeyStore> persistGeneratedCertificatesTo;
   private final Notifier notifier;
+  private final List<DynamicKeyStore> dynamicKeyStores = new CopyOnWriteArrayList<>();
 
-  CertificateGeneratingSslContextFactory(X509KeyStore x509KeyStore, Notifier notifier) {
+  /**
+   * @param persistGeneratedCertificatesTo nullable; where to save generated certificates, if
+   *     anywhere
+   */
+  CertificateGeneratingSslContextFactory(
+      X509KeyStore x509KeyStore,
+      Source<KeyStore> persistGeneratedCertificatesTo,
+      Notifier notifier) {
     this.x509KeyStore = requireNonNull(x509KeyStore);
+    this.persistGeneratedCertificatesTo = persistGeneratedCertificatesTo;
     this.notifier = requireNonNull(notifier);
   }
 
@@ -45,9 +58,12 @@ class CertificateGeneratingSslContextFactory extends SslContextFactory.Server {
         .map(
             manager -> {
               if (manager instanceof X509ExtendedKeyManager) {
+                DynamicKeyStore dynamicKeyStore =
+                    new DynamicKeyStore(x509KeyStore, persistGeneratedCertificatesTo);
+                dynamicKeyStores.add(dynamicKeyStore);
                 return new CertificateGeneratingX509ExtendedKeyManager(
                     (X509ExtendedKeyManager) manager,
-                    new DynamicKeyStore(x509KeyStore),
+                    dynamicKeyStore,
                     new ApacheHttpHostNameMatcher(),
                     notifier);
               } else {
@@ -56,4 +72,15 @@ class CertificateGeneratingSslContextFactory extends SslContextFactory.Server {
             })
         .toArray(KeyManager[]::new);
   }
+
+  // Stopped along with the connector that owns this factory; a restart builds new key stores
+  @Override
+  protected void doStop() throws Exception {
+    try {
+      super.doStop();
+    } finally {
+      dynamicKeyStores.forEach(DynamicKeyStore::close);
+      dynamicKeyStores.clear();
+    }
+  }
 }
@@ -49,7 +49,11 @@ public class SslContexts {
       final Notifier notifier) {
     KeyStoreSettings browserProxyCaKeyStore = browserProxySettings.caKeyStore();
     SslContextFactory.Server sslContextFactory =
-        buildSslContextFactory(notifier, browserProxyCaKeyStore, httpsSettings.keyStore());
+        buildSslContextFactory(
+            notifier,
+            browserProxyCaKeyStore,
+            browserProxySettings.persistGeneratedCertificates(),
+            httpsSettings.keyStore());
     setupClientAuth(sslContextFactory, httpsSettings);
     return sslContextFactory;
   }
@@ -66,16 +70,17 @@ public class SslContexts {
   private static SslContextFactory.Server buildSslContextFactory(
       Notifier notifier,
       KeyStoreSettings browserProxyCaKeyStore,
+      boolean persistGeneratedCertificates,
       KeyStoreSettings defaultHttpsKeyStore) {
     if (browserProxyCaKeyStore.exists()) {
       X509KeyStore existingKeyStore = toX509KeyStore(browserProxyCaKeyStore);
       return certificateGeneratingSslContextFactory(
-          notifier, browserProxyCaKeyStore, existingKeyStore);
+          notifier, browserProxyCaKeyStore, persistGeneratedCertificates, existingKeyStore);
     } else {
       try {
         X509KeyStore newKeyStore = buildKeyStore(browserProxyCaKeyStore);
         return certificateGeneratingSslContextFactory(
-            notifier, browserProxyCaKeyStore, newKeyStore);
+            notifier, browserProxyCaKeyStore, persistGeneratedCertificates, newKeyStore);
       } catch (Exception e) {
         notifier.error("Unable to generate a certificate authority", e);
         return defaultSslContextFactory(defaultHttpsKeyStore);
@@ -91,9 +96,15 @@ public class SslContexts {
   }
 
   private static SslContextFactory.Server certificateGeneratingSslContextFactory(
-      Notifier notifier, KeyStoreSettings browserProxyCaKeyStore, X509KeyStore newKeyStore) {
+      Notifier notifier,
+      KeyStoreSettings browserProxyCaKeyStore,
+      boolean persistGeneratedCertificates,
+      X509KeyStore newKeyStore) {
     SslContextFactory.Server sslContextFactory =
-        new CertificateGeneratingSslContextFactory(newKeyStore, notifier);
+        new CertificateGeneratingSslContextFactory(
+            newKeyStore,
+            persistGeneratedCertificates ? browserProxyCaKeyStore.getSource() : null,
+            notifier);
     setupKeyStore(sslContextFactory, browserProxyCaKeyStore);
     // Unlike the default one, we can insist that the keystore password is the keystore password
     sslContextFactory.setKeyStorePassword(browserProxyCaKeyStore.password());
@@ -16,6 +16,7 @@
 package com.github.tomakehurst.wiremock.junit;
 
 import com.github.tomakehurst.wiremock.admin.model.*;
+import com.github.tomakehurst.wiremock.client.BatchVerificationBuilder;
 import com.github.tomakehurst.wiremock.client.CountMatchingStrategy;
 import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.core.Admin;
@@ -70,6 +71,16 @@ public class DslWrapper implements Admin, Stubbing {
     return admin.getStubMapping(id);
   }
 
+  @Override
+  public SingleStubStatsResult getStubStats(UUID id) {
+    return admin.getStubStats(id);
+  }
+
+  @Override
+  public ListStubStatsResult getAllStubStats() {
+    return admin.getAllStubStats();
+  }
+
   @Override
   public void saveMappings() {
     admin.saveMappings();
@@ -120,6 +131,11 @@ public class DslWrapper implements Admin, Stubbing {
     return admin.countRequestsMatching(requestPattern);
   }
 
+  @Override
+  public BatchVerificationResult verifyRequests(BatchVerification batchVerification) {
+    return admin.verifyRequests(batchVerification);
+  }
+
   @Override
   public FindRequestsResult findRequestsMatching(RequestPattern requestPattern) {
     return admin.findRequestsMatching(requestPattern);
@@ -301,6 +317,11 @@ public class DslWrapper implements Admin, Stubbing {
     stubbing.verify(requestPatternBuilder);
   }
 
+  @Override
+  public void verify(BatchVerificationBuilder batch) {
+    stubbing.verify(batch);
+  }
+
   @Override
   public void verify(int count, RequestPatternBuilder requestPatternBuilder) {
     stubbing.verify(count, requestPatternBuilder);
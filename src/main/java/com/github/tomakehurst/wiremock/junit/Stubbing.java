@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.junit;
 
+import com.github.tomakehurst.wiremock.client.BatchVerificationBuilder;
 import com.github.tomakehurst.wiremock.client.CountMatchingStrategy;
 import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
@@ -48,6 +49,8 @@ public interface Stubbing {
 
   void verify(RequestPatternBuilder requestPatternBuilder);
 
+  void verify(BatchVerificationBuilder batch);
+
   void verify(int count, RequestPatternBuilder requestPatternBuilder);
 
   void verify(
@@ -22,15 +22,22 @@ import static org.xmlunit.diff.ComparisonType.*;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.lang.ref.SoftReference;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.*;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.xmlunit.XMLUnitException;
 import org.xmlunit.builder.DiffBuilder;
 import org.xmlunit.builder.Input;
 import org.xmlunit.diff.*;
+import org.xmlunit.input.CommentLessSource;
+import org.xmlunit.input.WhitespaceStrippedSource;
 import org.xmlunit.placeholder.PlaceholderDifferenceEvaluator;
 
 public class EqualToXmlPattern extends StringValuePattern {
@@ -51,6 +58,15 @@ public class EqualToXmlPattern extends StringValuePattern {
           CHILD_LOOKUP,
           ATTR_NAME_LOOKUP);
 
+  private static final int MAX_POOLED_DOCUMENTS = Runtime.getRuntime().availableProcessors();
+
+  // Stubs are matched one after another on the request thread, so remembering the last prepared
+  // request body avoids re-parsing it for every XML stub. Each thread prepares its own copy, and
+  // the
+  // soft reference lets an idle thread's copy be reclaimed.
+  private static final ThreadLocal<SoftReference<PreparedTestDocument>> LAST_TEST_DOCUMENT =
+      new ThreadLocal<>();
+
   private final Boolean enablePlaceholders;
   private final String placeholderOpeningDelimiterRegex;
   private final String placeholderClosingDelimiterRegex;
@@ -58,6 +74,11 @@ public class EqualToXmlPattern extends StringValuePattern {
   private final Set<ComparisonType> exemptedComparisons;
   private final Document expectedXmlDoc;
 
+  // DOM nodes are not safe to read from several threads at once, so each comparison borrows its
+  // own prepared copy of the expected document, made from the parsed one
+  private final BlockingQueue<Node> preparedExpectedXmlDocs =
+      new ArrayBlockingQueue<>(MAX_POOLED_DOCUMENTS);
+
   public EqualToXmlPattern(@JsonProperty("equalToXml") String expectedValue) {
     this(expectedValue, null, null, null, null);
   }
@@ -117,18 +138,23 @@ public class EqualToXmlPattern extends StringValuePattern {
   @Override
   public MatchResult match(final String value) {
     return new MatchResult() {
+
+      // Prepared once and shared by isExactMatch() and getDistance()
+      private Node testDocument;
+
       @Override
       public boolean isExactMatch() {
         if (isNullOrEmpty(value)) {
           return false;
         }
+
+        Node expectedDocument = null;
         try {
+          expectedDocument = borrowPreparedExpectedXmlDoc();
           Diff diff =
-              DiffBuilder.compare(Input.from(expectedXmlDoc))
-                  .withTest(value)
+              DiffBuilder.compare(Input.from(expectedDocument))
+                  .withTest(Input.from(getTestDocument()))
                   .withComparisonController(ComparisonControllers.StopWhenDifferent)
-                  .ignoreWhitespace()
-                  .ignoreComments()
                   .withDifferenceEvaluator(diffEvaluator)
                   .withNodeMatcher(new OrderInvariantNodeMatcher())
                   .withDocumentBuilderFactory(Xml.newDocumentBuilderFactory())
@@ -147,6 +173,8 @@ public class EqualToXmlPattern extends StringValuePattern {
                       + "\n\nActual:\n"
                       + value);
           return false;
+        } finally {
+          returnPreparedExpectedXmlDoc(expectedDocument);
         }
       }
 
@@ -159,13 +187,12 @@ public class EqualToXmlPattern extends StringValuePattern {
         final AtomicInteger totalComparisons = new AtomicInteger(0);
         final AtomicInteger differences = new AtomicInteger(0);
 
-        Diff diff;
+        Node expectedDocument = null;
         try {
-          diff =
-              DiffBuilder.compare(Input.from(expectedValue))
-                  .withTest(value)
-                  .ignoreWhitespace()
-                  .ignoreComments()
+          expectedDocument = borrowPreparedExpectedXmlDoc();
+          Diff diff =
+              DiffBuilder.compare(Input.from(expectedDocument))
+                  .withTest(Input.from(getTestDocument()))
                   .withDifferenceEvaluator(diffEvaluator)
                   .withComparisonListeners(
                       (comparison, outcome) -> {
@@ -179,6 +206,12 @@ public class EqualToXmlPattern extends StringValuePattern {
                       })
                   .withDocumentBuilderFactory(Xml.newDocumentBuilderFactory())
                   .build();
+
+          notifier()
+              .info(
+                  StreamSupport.stream(diff.getDifferences().spliterator(), false)
+                      .map(Object::toString)
+                      .collect(Collectors.joining("\n")));
         } catch (XMLUnitException e) {
           notifier()
               .info(
@@ -189,19 +222,70 @@ public class EqualToXmlPattern extends StringValuePattern {
                       + "\n\nActual:\n"
                       + value);
           return 1.0;
+        } finally {
+          returnPreparedExpectedXmlDoc(expectedDocument);
         }
 
-        notifier()
-            .info(
-                StreamSupport.stream(diff.getDifferences().spliterator(), false)
-                    .map(Object::toString)
-                    .collect(Collectors.joining("\n")));
-
         return differences.doubleValue() / totalComparisons.doubleValue();
       }
+
+      private Node getTestDocument() {
+        if (testDocument == null) {
+          testDocument = prepareTestDocument(value);
+        }
+        return testDocument;
+      }
     };
   }
 
+  private Node borrowPreparedExpectedXmlDoc() {
+    Node prepared = preparedExpectedXmlDocs.poll();
+    if (prepared != null) {
+      return prepared;
+    }
+
+    // Preparing copies the parsed document, so only one thread may read it at a time
+    synchronized (expectedXmlDoc) {
+      return prepare(new DOMSource(expectedXmlDoc));
+    }
+  }
+
+  private void returnPreparedExpectedXmlDoc(Node prepared) {
+    if (prepared != null) {
+      preparedExpectedXmlDocs.offer(prepared);
+    }
+  }
+
+  private static Node prepareTestDocument(String value) {
+    SoftReference<PreparedTestDocument> lastReference = LAST_TEST_DOCUMENT.get();
+    PreparedTestDocument last = lastReference != null ? lastReference.get() : null;
+    if (last != null && last.xml.equals(value)) {
+      return last.document;
+    }
+
+    Node document = prepare(Input.from(value).build());
+    LAST_TEST_DOCUMENT.set(new SoftReference<>(new PreparedTestDocument(value, document)));
+    return document;
+  }
+
+  // Applies the same whitespace and comment stripping as DiffBuilder's ignoreWhitespace() and
+  // ignoreComments(), so it can be done once per document rather than once per comparison
+  private static Node prepare(Source source) {
+    return new CommentLessSource(
+            new WhitespaceStrippedSource(source, Xml.newDocumentBuilderFactory()))
+        .getNode();
+  }
+
+  private static class PreparedTestDocument {
+    final String xml;
+    final Node document;
+
+    PreparedTestDocument(String xml, Node document) {
+      this.xml = xml;
+      this.document = document;
+    }
+  }
+
   private static class IgnoreUncountedDifferenceEvaluator implements DifferenceEvaluator {
 
     private final Set<ComparisonType> finalCountedComparisons;
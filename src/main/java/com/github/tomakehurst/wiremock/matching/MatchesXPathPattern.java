@@ -31,6 +31,7 @@ import java.util.stream.Collectors;
 public class MatchesXPathPattern extends PathPattern {
 
   private final Map<String, String> xpathNamespaces;
+  private final CompiledXPath compiledXPath;
 
   public MatchesXPathPattern(String xpath) {
     this(xpath, null, null);
@@ -50,6 +51,7 @@ public class MatchesXPathPattern extends PathPattern {
       @JsonProperty("valuePattern") StringValuePattern valuePattern) {
     super(xpath, valuePattern);
     xpathNamespaces = namespaces == null || namespaces.isEmpty() ? null : namespaces;
+    compiledXPath = new CompiledXPath(xpath, xpathNamespaces);
   }
 
   public MatchesXPathPattern withXPathNamespace(String name, String namespaceUri) {
@@ -111,8 +113,8 @@ public class MatchesXPathPattern extends PathPattern {
     }
 
     try {
-      XmlDocument xmlDocument = Xml.parse(value);
-      return new XmlNodeFindResult(xmlDocument.findNodes(expectedValue, xpathNamespaces));
+      XmlDocument xmlDocument = Xml.parse(value, compiledXPath.isNamespaced());
+      return new XmlNodeFindResult(xmlDocument.findNodes(compiledXPath));
     } catch (XmlException e) {
       final String message =
           String.format(
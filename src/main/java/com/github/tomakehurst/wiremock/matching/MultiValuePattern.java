@@ -37,8 +37,17 @@ public abstract class MultiValuePattern implements NamedValueMatcher<MultiValue>
 
   protected static MatchResult getBestMatch(
       final StringValuePattern valuePattern, List<String> values) {
+    if (isCaseSensitiveEqualTo(valuePattern) && values.contains(valuePattern.getExpected())) {
+      return MatchResult.exactMatch();
+    }
+
     List<MatchResult> allResults =
         values.stream().map(valuePattern::match).collect(Collectors.toList());
     return min(allResults, Comparator.comparingDouble(MatchResult::getDistance));
   }
+
+  private static boolean isCaseSensitiveEqualTo(StringValuePattern valuePattern) {
+    return valuePattern instanceof EqualToPattern
+        && !Boolean.TRUE.equals(((EqualToPattern) valuePattern).getCaseInsensitive());
+  }
 }
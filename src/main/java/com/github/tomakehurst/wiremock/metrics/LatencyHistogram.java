@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values (nanoseconds, in practice) using log-linear buckets
+ * in the style of HdrHistogram. Every power of two is split into 32 equal sub-buckets, so recorded
+ * values are kept to within about 3% across the whole range without any up-front bounds. Recording
+ * is a few arithmetic operations and an atomic increment.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (64 - SUB_BUCKET_BITS);
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+
+    counts.incrementAndGet(indexFor(value));
+    count.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getSum() {
+    return sum.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * @param quantile between 0 and 1
+   * @return an approximation of the value at the quantile, or 0 if nothing has been recorded
+   */
+  public long getValueAtQuantile(double quantile) {
+    long total = getCount();
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(quantile * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(valueFor(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  static int indexFor(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+
+    int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    return SUB_BUCKET_COUNT * (shift + 1) + subBucket;
+  }
+
+  /** The midpoint of the range of values counted by the bucket. */
+  static long valueFor(int index) {
+    if (index < SUB_BUCKET_COUNT * 2) {
+      return index;
+    }
+
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowest + ((1L << shift) >> 1);
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A registry of counters, latency timers and gauges, rendered in the Prometheus text exposition
+ * format. Metrics are identified by name plus an optional list of label name/value pairs, and
+ * looking one up again returns the same instance, so hot paths should look up once and hold on to
+ * the result.
+ *
+ * <p>{@link #DISABLED} hands out no-op counters and timers and renders nothing.
+ */
+public class Metrics {
+
+  public static final Metrics DISABLED = new Metrics(false);
+
+  public static final String REQUESTS_TOTAL = "wiremock_requests_total";
+  public static final String REQUESTS_TOTAL_HELP =
+      "Stub requests served, by whether a stub matched";
+  public static final String PHASE_DURATION = "wiremock_phase_duration_seconds";
+  public static final String PHASE_DURATION_HELP =
+      "Time spent in each phase of serving stub requests";
+  public static final String TRANSFORMER_DURATION = "wiremock_transformer_duration_seconds";
+  public static final String TRANSFORMER_DURATION_HELP =
+      "Time spent in each response definition transformer, including response templating";
+
+  static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+  private final boolean enabled;
+  private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+  public Metrics() {
+    this(true);
+  }
+
+  private Metrics(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param labels label names and values, alternately
+   */
+  public Counter counter(String name, String help, String... labels) {
+    if (!enabled) {
+      return Counter.DISABLED;
+    }
+    return (Counter)
+        family(name, help, "counter")
+            .series
+            .computeIfAbsent(renderLabels(labels), key -> new Counter(new LongAdder()));
+  }
+
+  /**
+   * A latency timer, exposed in seconds as a summary with quantiles.
+   *
+   * @param labels label names and values, alternately
+   */
+  public Timer timer(String name, String help, String... labels) {
+    if (!enabled) {
+      return Timer.DISABLED;
+    }
+    return (Timer)
+        family(name, help, "summary")
+            .series
+            .computeIfAbsent(renderLabels(labels), key -> new Timer(new LatencyHistogram()));
+  }
+
+  /**
+   * A value read from the supplier each time the metrics are rendered.
+   *
+   * @param labels label names and values, alternately
+   */
+  public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+    register(name, help, "gauge", value, labels);
+  }
+
+  /**
+   * A monotonically increasing count maintained elsewhere, read from the supplier each time the
+   * metrics are rendered.
+   *
+   * @param labels label names and values, alternately
+   */
+  public void counterFunction(String name, String help, DoubleSupplier value, String... labels) {
+    register(name, help, "counter", value, labels);
+  }
+
+  private void register(
+      String name, String help, String type, DoubleSupplier value, String... labels) {
+    if (enabled) {
+      family(name, help, type).series.put(renderLabels(labels), value);
+    }
+  }
+
+  private Family family(String name, String help, String type) {
+    Family family = families.computeIfAbsent(name, key -> new Family(help, type));
+    if (!family.type.equals(type)) {
+      throw new IllegalArgumentException(
+          "Metric " + name + " is already registered as a " + family.type);
+    }
+    return family;
+  }
+
+  public String renderPrometheusText() {
+    StringBuilder sb = new StringBuilder();
+    families.forEach(
+        (name, family) -> {
+          sb.append("# HELP ").append(name).append(' ').append(family.help).append('\n');
+          sb.append("# TYPE ").append(name).append(' ').append(family.type).append('\n');
+          family.series.forEach((labels, series) -> renderSeries(sb, name, labels, series));
+        });
+    return sb.toString();
+  }
+
+  private static void renderSeries(StringBuilder sb, String name, String labels, Object series) {
+    if (series instanceof Counter) {
+      sample(sb, name, labels, ((Counter) series).get());
+    } else if (series instanceof DoubleSupplier) {
+      sample(sb, name, labels, ((DoubleSupplier) series).getAsDouble());
+    } else if (series instanceof Timer) {
+      LatencyHistogram histogram = ((Timer) series).getHistogram();
+      for (double quantile : QUANTILES) {
+        String quantileLabel = "quantile=\"" + quantile + "\"";
+        sample(
+            sb,
+            name,
+            labels.isEmpty() ? quantileLabel : labels + "," + quantileLabel,
+            seconds(histogram.getValueAtQuantile(quantile)));
+      }
+      sample(sb, name + "_sum", labels, seconds(histogram.getSum()));
+      sample(sb, name + "_count", labels, histogram.getCount());
+    }
+  }
+
+  private static void sample(StringBuilder sb, String name, String labels, double value) {
+    sb.append(name);
+    if (!labels.isEmpty()) {
+      sb.append('{').append(labels).append('}');
+    }
+    sb.append(' ');
+    if (value == Math.rint(value) && !Double.isInfinite(value)) {
+      sb.append((long) value);
+    } else {
+      sb.append(value);
+    }
+    sb.append('\n');
+  }
+
+  private static double seconds(long nanos) {
+    return nanos / 1e9;
+  }
+
+  private static String renderLabels(String... labels) {
+    if (labels.length % 2 != 0) {
+      throw new IllegalArgumentException("Labels must be given as name/value pairs");
+    }
+
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < labels.length; i += 2) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+    }
+    return sb.toString();
+  }
+
+  private static String escape(String labelValue) {
+    return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static class Family {
+    final String help;
+    final String type;
+    final Map<String, Object> series = new ConcurrentSkipListMap<>();
+
+    Family(String help, String type) {
+      this.help = help;
+      this.type = type;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.metrics;
+
+/**
+ * Records durations into a {@link LatencyHistogram}. Used as:
+ *
+ * <pre>
+ * long start = timer.start();
+ * ...
+ * timer.stop(start);
+ * </pre>
+ *
+ * The disabled timer does nothing, not even read the clock.
+ */
+public class Timer {
+
+  public static final Timer DISABLED = new Timer(null);
+
+  private final LatencyHistogram histogram;
+
+  Timer(LatencyHistogram histogram) {
+    this.histogram = histogram;
+  }
+
+  public long start() {
+    return histogram != null ? System.nanoTime() : 0;
+  }
+
+  public void stop(long startNanos) {
+    if (histogram != null) {
+      histogram.record(System.nanoTime() - startNanos);
+    }
+  }
+
+  public void record(long nanos) {
+    if (histogram != null) {
+      histogram.record(nanos);
+    }
+  }
+
+  LatencyHistogram getHistogram() {
+    return histogram;
+  }
+}
@@ -46,6 +46,7 @@ public class WarConfiguration implements Options {
   private static final String FILE_SOURCE_ROOT_KEY = "WireMockFileSourceRoot";
 
   private final ServletContext servletContext;
+  private final HttpClientFactory httpClientFactory = new ApacheHttpClientFactory();
 
   public WarConfiguration(ServletContext servletContext) {
     this.servletContext = servletContext;
@@ -158,7 +159,7 @@ public class WarConfiguration implements Options {
 
   @Override
   public HttpClientFactory httpClientFactory() {
-    return new ApacheHttpClientFactory();
+    return httpClientFactory;
   }
 
   @Override
@@ -34,6 +34,7 @@ import com.github.tomakehurst.wiremock.core.FaultInjector;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.core.WireMockApp;
 import com.github.tomakehurst.wiremock.http.*;
+import com.github.tomakehurst.wiremock.http.multipart.PartParser;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import jakarta.servlet.*;
@@ -66,6 +67,7 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
   private MultipartRequestConfigurer multipartRequestConfigurer;
   private Options.ChunkedEncodingPolicy chunkedEncodingPolicy;
   private boolean browserProxyingEnabled;
+  private PartParser partParser;
 
   @Override
   public void init(ServletConfig config) {
@@ -112,6 +114,10 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     browserProxyingEnabled =
         Boolean.parseBoolean(
             getFirstNonNull(context.getAttribute("browserProxyingEnabled"), "false").toString());
+
+    partParser =
+        getFirstNonNull(
+            (PartParser) context.getAttribute(PartParser.class.getName()), PartParser.DEFAULT);
   }
 
   private String getNormalizedMappedUnder(ServletConfig config) {
@@ -144,7 +150,11 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
     Request request =
         new WireMockHttpServletRequestAdapter(
-            httpServletRequest, multipartRequestConfigurer, mappedUnder, browserProxyingEnabled);
+            httpServletRequest,
+            multipartRequestConfigurer,
+            mappedUnder,
+            browserProxyingEnabled,
+            partParser);
 
     ServletHttpResponder responder =
         new ServletHttpResponder(httpServletRequest, httpServletResponse);
@@ -267,6 +277,11 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       }
     }
 
+    if (response.hasStreamingBody()) {
+      writeStreaming(httpServletResponse, response.getBodyStream());
+      return;
+    }
+
     if ((chunkedEncodingPolicy == NEVER
             || (chunkedEncodingPolicy == BODY_FILE && response.hasInlineBody()))
         && httpServletResponse.getHeader(CONTENT_LENGTH) == null) {
@@ -302,6 +317,20 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
   }
 
+  private static void writeStreaming(HttpServletResponse httpServletResponse, InputStream content) {
+    try (content;
+        ServletOutputStream out = httpServletResponse.getOutputStream()) {
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = content.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+        out.flush();
+      }
+    } catch (IOException e) {
+      // The client disconnecting is the normal way for a stream to end
+    }
+  }
+
   private void writeAndTranslateExceptionsWithChunkedDribbleDelay(
       HttpServletResponse httpServletResponse,
       InputStream bodyStream,
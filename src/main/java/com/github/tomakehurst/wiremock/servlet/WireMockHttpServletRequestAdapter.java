@@ -26,6 +26,7 @@ import static java.util.Collections.list;
 import com.github.tomakehurst.wiremock.common.Gzip;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.http.multipart.PartParser;
+import com.github.tomakehurst.wiremock.http.multipart.PartParsingRequest;
 import com.github.tomakehurst.wiremock.jetty.JettyUtils;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMultimap;
@@ -36,20 +37,23 @@ import java.nio.charset.Charset;
 import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.util.MultiMap;
 import org.eclipse.jetty.util.UrlEncoded;
 
-public class WireMockHttpServletRequestAdapter implements Request {
+public class WireMockHttpServletRequestAdapter implements PartParsingRequest {
 
   public static final String ORIGINAL_REQUEST_KEY = "wiremock.ORIGINAL_REQUEST";
 
   private final HttpServletRequest request;
   private byte[] cachedBody;
   private final Supplier<Map<String, QueryParameter>> cachedQueryParams;
+  private final Supplier<Map<CaseInsensitiveKey, HttpHeader>> cachedHeaders;
 
   private final Map<String, FormParameter> cachedFormParameters;
   private final boolean browserProxyingEnabled;
   private final String urlPrefixToRemove;
+  private final PartParser partParser;
   private Collection<Part> cachedMultiparts;
 
   public WireMockHttpServletRequestAdapter(
@@ -57,11 +61,27 @@ public class WireMockHttpServletRequestAdapter implements Request {
       MultipartRequestConfigurer multipartRequestConfigurer,
       String urlPrefixToRemove,
       boolean browserProxyingEnabled) {
+    this(
+        request,
+        multipartRequestConfigurer,
+        urlPrefixToRemove,
+        browserProxyingEnabled,
+        PartParser.DEFAULT);
+  }
+
+  public WireMockHttpServletRequestAdapter(
+      HttpServletRequest request,
+      MultipartRequestConfigurer multipartRequestConfigurer,
+      String urlPrefixToRemove,
+      boolean browserProxyingEnabled,
+      PartParser partParser) {
     this.request = request;
     this.urlPrefixToRemove = urlPrefixToRemove;
     this.browserProxyingEnabled = browserProxyingEnabled;
+    this.partParser = partParser;
 
     cachedQueryParams = Suppliers.memoize(() -> splitQuery(request.getQueryString()));
+    cachedHeaders = Suppliers.memoize(this::indexHeaders);
 
     this.cachedFormParameters = getFormParameters(request);
 
@@ -170,16 +190,12 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   @Override
   public HttpHeader header(String key) {
-    if (request.getHeader(key) == null) {
+    HttpHeader header = cachedHeaders.get().get(CaseInsensitiveKey.from(key));
+    if (header == null) {
       return HttpHeader.absent(key);
-    } else {
-      List<String> valueList = list(request.getHeaders(key));
-      if (valueList.isEmpty()) {
-        return HttpHeader.empty(key);
-      }
-
-      return new HttpHeader(key, valueList);
     }
+
+    return header.key().equals(key) ? header : new HttpHeader(key, header.values());
   }
 
   @Override
@@ -195,28 +211,33 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   @Override
   public HttpHeaders getHeaders() {
-    if (request instanceof org.eclipse.jetty.server.Request) {
-      return getHeadersLinear((org.eclipse.jetty.server.Request) request);
-    } else {
-      return getHeadersQuadratic();
-    }
-  }
-
-  private static HttpHeaders getHeadersLinear(org.eclipse.jetty.server.Request request) {
-    List<HttpHeader> headers =
-        request.getHttpFields().stream()
-            .map(field -> HttpHeader.httpHeader(field.getName(), field.getValue()))
-            .collect(Collectors.toList());
-    return new HttpHeaders(headers);
+    return new HttpHeaders(cachedHeaders.get().values());
   }
 
-  private HttpHeaders getHeadersQuadratic() {
-    List<HttpHeader> headerList = new ArrayList<>();
-    for (String key : getAllHeaderKeys()) {
-      headerList.add(header(key));
+  /**
+   * Builds a case-insensitive view of the request headers once, so that matching a header against
+   * each stub is a hash lookup rather than a fresh walk and copy of the servlet request's headers.
+   */
+  private Map<CaseInsensitiveKey, HttpHeader> indexHeaders() {
+    Map<CaseInsensitiveKey, List<String>> values = new LinkedHashMap<>();
+    if (request instanceof org.eclipse.jetty.server.Request) {
+      for (HttpField field : ((org.eclipse.jetty.server.Request) request).getHttpFields()) {
+        values
+            .computeIfAbsent(CaseInsensitiveKey.from(field.getName()), k -> new ArrayList<>())
+            .add(field.getValue());
+      }
+    } else {
+      for (String key : getAllHeaderKeys()) {
+        List<String> valueList = list(request.getHeaders(key));
+        values
+            .computeIfAbsent(CaseInsensitiveKey.from(key), k -> new ArrayList<>())
+            .addAll(valueList.isEmpty() ? List.of("") : valueList);
+      }
     }
 
-    return new HttpHeaders(headerList);
+    Map<CaseInsensitiveKey, HttpHeader> headers = new LinkedHashMap<>(values.size() * 2);
+    values.forEach((key, valueList) -> headers.put(key, new HttpHeader(key, valueList)));
+    return Collections.unmodifiableMap(headers);
   }
 
   @Override
@@ -270,6 +291,11 @@ public class WireMockHttpServletRequestAdapter implements Request {
     return JettyUtils.isBrowserProxyRequest(request);
   }
 
+  @Override
+  public PartParser getPartParser() {
+    return partParser;
+  }
+
   @Override
   public Collection<Part> getParts() {
     if (!isMultipart()) {
@@ -277,7 +303,7 @@ public class WireMockHttpServletRequestAdapter implements Request {
     }
 
     if (cachedMultiparts == null) {
-      cachedMultiparts = PartParser.parseFrom(this);
+      cachedMultiparts = partParser.parse(this);
     }
 
     return (cachedMultiparts.isEmpty()) ? null : cachedMultiparts;
@@ -33,11 +33,13 @@ import com.github.tomakehurst.wiremock.core.Version;
 import com.github.tomakehurst.wiremock.core.WireMockApp;
 import com.github.tomakehurst.wiremock.extension.ExtensionDeclarations;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
+import com.github.tomakehurst.wiremock.http.CachingDnsResolver;
 import com.github.tomakehurst.wiremock.http.CaseInsensitiveKey;
 import com.github.tomakehurst.wiremock.http.HttpServerFactory;
 import com.github.tomakehurst.wiremock.http.ThreadPoolFactory;
 import com.github.tomakehurst.wiremock.http.client.ApacheHttpClientFactory;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import com.github.tomakehurst.wiremock.http.multipart.PartParser;
 import com.github.tomakehurst.wiremock.http.trafficlistener.ConsoleNotifyingWiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.http.trafficlistener.DoNothingWiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
@@ -47,9 +49,12 @@ import com.github.tomakehurst.wiremock.security.BasicAuthenticator;
 import com.github.tomakehurst.wiremock.security.NoAuthenticator;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.store.files.StateSnapshotFile;
+import com.github.tomakehurst.wiremock.verification.JournalPolicy;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.net.URI;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.Optional;
 import java.util.Set;
@@ -86,6 +91,8 @@ public class CommandLineOptions implements Options {
   private static final String EXTENSIONS = "extensions";
   private static final String DISABLE_EXTENSION_SCANNING = "disable-extensions-scanning";
   private static final String MAX_ENTRIES_REQUEST_JOURNAL = "max-request-journal-entries";
+  private static final String ASYNC_REQUEST_JOURNAL = "async-request-journal";
+  private static final String MAX_NOT_MATCHED_DIFFS_PER_SECOND = "max-not-matched-diffs-per-second";
   private static final String JETTY_ACCEPTOR_THREAD_COUNT = "jetty-acceptor-threads";
   private static final String PRINT_ALL_NETWORK_TRAFFIC = "print-all-network-traffic";
   private static final String JETTY_ACCEPT_QUEUE_SIZE = "jetty-accept-queue-size";
@@ -115,6 +122,7 @@ public class CommandLineOptions implements Options {
   private static final String HTTPS_CA_KEYSTORE = "ca-keystore";
   private static final String HTTPS_CA_KEYSTORE_PASSWORD = "ca-keystore-password";
   private static final String HTTPS_CA_KEYSTORE_TYPE = "ca-keystore-type";
+  private static final String PERSIST_GENERATED_CERTIFICATES = "persist-generated-certificates";
   private static final String DISABLE_OPTIMIZE_XML_FACTORIES_LOADING =
       "disable-optimize-xml-factories-loading";
   private static final String DISABLE_STRICT_HTTP_HEADERS = "disable-strict-http-headers";
@@ -125,6 +133,22 @@ public class CommandLineOptions implements Options {
   private static final String PROXY_TIMEOUT = "proxy-timeout";
 
   private static final String PROXY_PASS_THROUGH = "proxy-pass-through";
+  private static final String STATE_SNAPSHOT_FILE = "state-snapshot-file";
+  private static final String ASYNC_MAPPING_PERSISTENCE = "async-mapping-persistence";
+  private static final String COPY_ON_WRITE_STUB_STORE = "copy-on-write-stub-store";
+  private static final String REQUEST_JOURNAL_DIR = "request-journal-dir";
+  private static final String ASYNC_LOGGING = "async-logging";
+  private static final String MULTIPART_IN_MEMORY_THRESHOLD = "multipart-in-memory-threshold";
+  private static final String WEBHOOK_THREADPOOL_SIZE = "webhook-threadpool-size";
+  private static final String MAX_PENDING_WEBHOOKS = "max-pending-webhooks";
+  private static final String MAX_EVENT_STREAM_SUBSCRIBERS = "max-event-stream-subscribers";
+  private static final String DNS_CACHE_TTL_MILLIS = "dns-cache-ttl-millis";
+  private static final String DISABLE_METRICS = "disable-metrics";
+  private static final String LOGGED_REQUEST_BODY_SIZE_LIMIT = "logged-request-body-size-limit";
+  private static final String JOURNAL_SAMPLE_RATE = "journal-sample-rate";
+  private static final String JOURNAL_RETENTION = "journal-retention";
+  private static final String JOURNAL_REQUEST_HEADERS = "journal-request-headers";
+  private static final String JOURNAL_EXCLUDED_REQUEST_HEADERS = "journal-excluded-request-headers";
 
   private final OptionSet optionSet;
 
@@ -132,8 +156,12 @@ public class CommandLineOptions implements Options {
   private final FileSource fileSource;
 
   private final MappingsSource mappingsSource;
+  private final Notifier notifier;
   private final ExtensionDeclarations extensions;
+  private final HttpClientFactory httpClientFactory = new ApacheHttpClientFactory();
   private final FilenameMaker filenameMaker;
+  private final StateSnapshotFile stateSnapshotFile;
+  private final Lazy<NetworkAddressRules> proxyTargetRules = Lazy.lazy(this::buildProxyTargetRules);
 
   private String helpText;
   private Integer actualHttpPort;
@@ -225,6 +253,9 @@ public class CommandLineOptions implements Options {
         .withRequiredArg()
         .defaultsTo(".");
     optionParser.accepts(VERBOSE, "Enable verbose logging to stdout");
+    optionParser.accepts(
+        ASYNC_LOGGING,
+        "Write log messages from a background thread, dropping messages if it falls behind");
     optionParser.accepts(
         ENABLE_BROWSER_PROXYING, "Allow wiremock to be set as a browser's proxy server");
     optionParser.accepts(
@@ -244,6 +275,16 @@ public class CommandLineOptions implements Options {
             MAX_ENTRIES_REQUEST_JOURNAL,
             "Set maximum number of entries in request journal (if enabled) to discard old entries if the log becomes too large. Default: no discard")
         .withRequiredArg();
+    optionParser
+        .accepts(
+            ASYNC_REQUEST_JOURNAL,
+            "Record requests in the request journal from a background thread, after the response has been sent")
+        .availableUnless(DISABLE_REQUEST_JOURNAL);
+    optionParser
+        .accepts(
+            MAX_NOT_MATCHED_DIFFS_PER_SECOND,
+            "Maximum number of unmatched requests per second that get a full diff in the response and request journal. Default: no limit")
+        .withRequiredArg();
     optionParser
         .accepts(JETTY_ACCEPTOR_THREAD_COUNT, "Number of Jetty acceptor threads")
         .withRequiredArg();
@@ -344,6 +385,11 @@ public class CommandLineOptions implements Options {
         .availableIf(HTTPS_CA_KEYSTORE)
         .withRequiredArg()
         .defaultsTo("jks");
+    optionParser
+        .accepts(
+            PERSIST_GENERATED_CERTIFICATES,
+            "Save certificates generated for proxied HTTPS hosts to the CA keystore so they are reused after a restart")
+        .availableIf(ENABLE_BROWSER_PROXYING);
     optionParser
         .accepts(
             LOAD_RESOURCES_FROM_CLASSPATH,
@@ -374,6 +420,76 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(PROXY_PASS_THROUGH, "Flag to control browser proxy pass through")
         .withRequiredArg();
+    optionParser
+        .accepts(
+            STATE_SNAPSHOT_FILE,
+            "Path to a binary snapshot of loaded stubs, scenario states and settings, used to speed up startup. JSON mapping files that are newer than the snapshot take precedence.")
+        .withRequiredArg();
+    optionParser.accepts(
+        ASYNC_MAPPING_PERSISTENCE,
+        "Write persistent stub changes to the mappings directory on a background thread, coalescing repeated changes to the same stub");
+    optionParser.accepts(
+        COPY_ON_WRITE_STUB_STORE,
+        "Hold stubs in an immutable sorted array that is replaced on every change. Speeds up request matching at the cost of slower stub creation and removal.");
+    optionParser
+        .accepts(
+            REQUEST_JOURNAL_DIR,
+            "Directory in which to keep the request journal in segment files instead of on the heap")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            MULTIPART_IN_MEMORY_THRESHOLD,
+            "Size in bytes above which parsed multipart request parts are written to temp files instead of held in memory")
+        .withRequiredArg();
+    optionParser
+        .accepts(WEBHOOK_THREADPOOL_SIZE, "Number of threads used to send webhooks")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            MAX_PENDING_WEBHOOKS,
+            "Maximum number of webhooks that may be waiting to be sent. Further webhooks are dropped.")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            MAX_EVENT_STREAM_SUBSCRIBERS,
+            "Maximum number of clients that may stream serve events at once. Each holds a container thread while connected.")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            DNS_CACHE_TTL_MILLIS,
+            "How long DNS lookups made by the proxy and webhook clients are cached for, in milliseconds. 0 disables caching.")
+        .withRequiredArg();
+    optionParser.accepts(
+        DISABLE_METRICS, "Disable collection of the metrics exposed at /__admin/metrics");
+    optionParser
+        .accepts(
+            LOGGED_REQUEST_BODY_SIZE_LIMIT,
+            "Maximum size for request bodies stored in the request journal beyond which truncation will be applied")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            JOURNAL_SAMPLE_RATE,
+            "Proportion of requests recorded in the request journal, between 0 and 1. Defaults to 1.")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            JOURNAL_RETENTION,
+            "Which requests are recorded in the request journal: all, matched or unmatched. Defaults to all.")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            JOURNAL_REQUEST_HEADERS,
+            "Comma separated list of the only request headers recorded in the request journal")
+        .withRequiredArg()
+        .ofType(String.class)
+        .withValuesSeparatedBy(",");
+    optionParser
+        .accepts(
+            JOURNAL_EXCLUDED_REQUEST_HEADERS,
+            "Comma separated list of request headers left out of the request journal")
+        .withRequiredArg()
+        .ofType(String.class)
+        .withValuesSeparatedBy(",");
     optionParser.accepts(VERSION, "Prints wiremock version information and exits");
 
     optionParser.accepts(HELP, "Print this message").forHelp();
@@ -391,7 +507,13 @@ public class CommandLineOptions implements Options {
       fileSource = new SingleRootFileSource((String) optionSet.valueOf(ROOT_DIR));
     }
 
-    stores = new DefaultStores(fileSource);
+    stores =
+        new DefaultStores(
+            fileSource,
+            optionSet.has(COPY_ON_WRITE_STUB_STORE),
+            optionSet.has(REQUEST_JOURNAL_DIR)
+                ? Paths.get((String) optionSet.valueOf(REQUEST_JOURNAL_DIR))
+                : null);
 
     if (optionSet.has(PROXY_PASS_THROUGH)) {
       GlobalSettings newSettings =
@@ -405,8 +527,23 @@ public class CommandLineOptions implements Options {
       stores.getSettingsStore().set(newSettings);
     }
 
+    notifier =
+        optionSet.has(ASYNC_LOGGING)
+            ? new AsyncNotifier(new ConsoleNotifier(verboseLoggingEnabled()))
+            : new ConsoleNotifier(verboseLoggingEnabled());
+
     filenameMaker = new FilenameMaker(getFilenameTemplateOption());
-    mappingsSource = new JsonFileMappingsSource(fileSource.child(MAPPINGS_ROOT), filenameMaker);
+    stateSnapshotFile =
+        optionSet.has(STATE_SNAPSHOT_FILE)
+            ? new StateSnapshotFile(Paths.get((String) optionSet.valueOf(STATE_SNAPSHOT_FILE)))
+            : null;
+    MappingsSource jsonFileMappingsSource =
+        new JsonFileMappingsSource(
+            fileSource.child(MAPPINGS_ROOT), filenameMaker, stateSnapshotFile);
+    mappingsSource =
+        optionSet.has(ASYNC_MAPPING_PERSISTENCE)
+            ? new WriteBehindMappingsSource(jsonFileMappingsSource, notifier())
+            : jsonFileMappingsSource;
     buildExtensions();
 
     actualHttpPort = null;
@@ -503,7 +640,7 @@ public class CommandLineOptions implements Options {
 
   @Override
   public HttpClientFactory httpClientFactory() {
-    return new ApacheHttpClientFactory();
+    return httpClientFactory;
   }
 
   @Override
@@ -732,7 +869,7 @@ public class CommandLineOptions implements Options {
 
   @Override
   public Notifier notifier() {
-    return new ConsoleNotifier(verboseLoggingEnabled());
+    return notifier;
   }
 
   @Override
@@ -748,6 +885,18 @@ public class CommandLineOptions implements Options {
     return optionSet.has(MAX_ENTRIES_REQUEST_JOURNAL);
   }
 
+  @Override
+  public int getMaxNotMatchedDiffsPerSecond() {
+    return optionSet.has(MAX_NOT_MATCHED_DIFFS_PER_SECOND)
+        ? Integer.parseInt((String) optionSet.valueOf(MAX_NOT_MATCHED_DIFFS_PER_SECOND))
+        : 0;
+  }
+
+  @Override
+  public boolean getAsyncRequestJournalEnabled() {
+    return optionSet.has(ASYNC_REQUEST_JOURNAL);
+  }
+
   @Override
   public Optional<Integer> maxRequestJournalEntries() {
     if (specifiesMaxRequestJournalEntries()) {
@@ -803,6 +952,7 @@ public class CommandLineOptions implements Options {
       }
       map.put(HTTPS_CA_KEYSTORE, keyStoreSettings.path());
       map.put(HTTPS_CA_KEYSTORE_TYPE, keyStoreSettings.type());
+      map.put(PERSIST_GENERATED_CERTIFICATES, browserProxySettings.persistGeneratedCertificates());
     }
 
     map.put(DISABLE_BANNER, bannerDisabled());
@@ -913,6 +1063,11 @@ public class CommandLineOptions implements Options {
 
   @Override
   public NetworkAddressRules getProxyTargetRules() {
+    return proxyTargetRules.get();
+  }
+
+  // Built once, so that every client built from these options shares one DNS cache
+  private NetworkAddressRules buildProxyTargetRules() {
     DefaultNetworkAddressRules.Builder builder = NetworkAddressRules.builder();
     if (optionSet.has(ALLOW_PROXY_TARGETS)) {
       Arrays.stream(((String) optionSet.valueOf(ALLOW_PROXY_TARGETS)).split(","))
@@ -942,6 +1097,7 @@ public class CommandLineOptions implements Options {
         .trustAllProxyTargets(optionSet.has(TRUST_ALL_PROXY_TARGETS))
         .trustedProxyTargets((List<String>) optionSet.valuesOf(TRUST_PROXY_TARGET))
         .caKeyStoreSettings(keyStoreSettings)
+        .persistGeneratedCertificates(optionSet.has(PERSIST_GENERATED_CERTIFICATES))
         .build();
   }
 
@@ -982,6 +1138,77 @@ public class CommandLineOptions implements Options {
     return true;
   }
 
+  @Override
+  public int getWebhookThreadPoolSize() {
+    return optionSet.has(WEBHOOK_THREADPOOL_SIZE)
+        ? Integer.parseInt((String) optionSet.valueOf(WEBHOOK_THREADPOOL_SIZE))
+        : DEFAULT_WEBHOOK_THREADS;
+  }
+
+  @Override
+  public int getMaxPendingWebhooks() {
+    return optionSet.has(MAX_PENDING_WEBHOOKS)
+        ? Integer.parseInt((String) optionSet.valueOf(MAX_PENDING_WEBHOOKS))
+        : DEFAULT_MAX_PENDING_WEBHOOKS;
+  }
+
+  @Override
+  public int getMaxEventStreamSubscribers() {
+    return optionSet.has(MAX_EVENT_STREAM_SUBSCRIBERS)
+        ? Integer.parseInt((String) optionSet.valueOf(MAX_EVENT_STREAM_SUBSCRIBERS))
+        : DEFAULT_MAX_EVENT_STREAM_SUBSCRIBERS;
+  }
+
+  @Override
+  public long getDnsCacheTtlMillis() {
+    return optionSet.has(DNS_CACHE_TTL_MILLIS)
+        ? Long.parseLong((String) optionSet.valueOf(DNS_CACHE_TTL_MILLIS))
+        : CachingDnsResolver.DEFAULT_TTL_MILLIS;
+  }
+
+  @Override
+  public boolean getMetricsEnabled() {
+    return !optionSet.has(DISABLE_METRICS);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public JournalPolicy getJournalPolicy() {
+    JournalPolicy.Builder journalPolicy = JournalPolicy.builder();
+    if (optionSet.has(LOGGED_REQUEST_BODY_SIZE_LIMIT)) {
+      journalPolicy.maxRequestBodySize(
+          new Limit(Integer.parseInt((String) optionSet.valueOf(LOGGED_REQUEST_BODY_SIZE_LIMIT))));
+    }
+    if (optionSet.has(JOURNAL_SAMPLE_RATE)) {
+      journalPolicy.sampleRate(Double.parseDouble((String) optionSet.valueOf(JOURNAL_SAMPLE_RATE)));
+    }
+    if (optionSet.has(JOURNAL_RETENTION)) {
+      journalPolicy.retention(
+          JournalPolicy.Retention.valueOf(
+              ((String) optionSet.valueOf(JOURNAL_RETENTION)).toUpperCase(Locale.ROOT)));
+    }
+    if (optionSet.has(JOURNAL_REQUEST_HEADERS)) {
+      journalPolicy.allowedHeaders((List<String>) optionSet.valuesOf(JOURNAL_REQUEST_HEADERS));
+    }
+    if (optionSet.has(JOURNAL_EXCLUDED_REQUEST_HEADERS)) {
+      journalPolicy.deniedHeaders(
+          (List<String>) optionSet.valuesOf(JOURNAL_EXCLUDED_REQUEST_HEADERS));
+    }
+    return journalPolicy.build();
+  }
+
+  @Override
+  public int getMultipartInMemoryThreshold() {
+    return optionSet.has(MULTIPART_IN_MEMORY_THRESHOLD)
+        ? Integer.parseInt((String) optionSet.valueOf(MULTIPART_IN_MEMORY_THRESHOLD))
+        : PartParser.DEFAULT_IN_MEMORY_THRESHOLD;
+  }
+
+  @Override
+  public Optional<StateSnapshotFile> getStateSnapshotFile() {
+    return Optional.ofNullable(stateSnapshotFile);
+  }
+
   private boolean isAsynchronousResponseEnabled() {
     return optionSet.has(ASYNCHRONOUS_RESPONSE_ENABLED)
         && Boolean.parseBoolean((String) optionSet.valueOf(ASYNCHRONOUS_RESPONSE_ENABLED));
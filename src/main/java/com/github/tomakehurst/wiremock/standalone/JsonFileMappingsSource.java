@@ -21,16 +21,27 @@ import static com.github.tomakehurst.wiremock.common.Json.writePrivate;
 
 import com.github.tomakehurst.wiremock.common.*;
 import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
+import com.github.tomakehurst.wiremock.store.files.StateSnapshotFile;
+import com.github.tomakehurst.wiremock.store.files.StateSnapshotFile.MappingFileEntry;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.stubbing.StubMappingCollection;
 import com.github.tomakehurst.wiremock.stubbing.StubMappings;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.net.URI;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class JsonFileMappingsSource implements MappingsSource {
@@ -38,11 +49,18 @@ public class JsonFileMappingsSource implements MappingsSource {
   private final FileSource mappingsFileSource;
   private final Map<UUID, StubMappingFileMetadata> fileNameMap;
   private final FilenameMaker filenameMaker;
+  private final StateSnapshotFile snapshotFile;
 
   public JsonFileMappingsSource(FileSource mappingsFileSource, FilenameMaker filenameMaker) {
+    this(mappingsFileSource, filenameMaker, null);
+  }
+
+  public JsonFileMappingsSource(
+      FileSource mappingsFileSource, FilenameMaker filenameMaker, StateSnapshotFile snapshotFile) {
     this.mappingsFileSource = mappingsFileSource;
     this.filenameMaker = Objects.requireNonNullElseGet(filenameMaker, FilenameMaker::new);
-    fileNameMap = new HashMap<>();
+    this.snapshotFile = snapshotFile;
+    fileNameMap = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -52,6 +70,10 @@ public class JsonFileMappingsSource implements MappingsSource {
         save(mapping);
       }
     }
+
+    if (snapshotFile != null) {
+      writeSnapshot();
+    }
   }
 
   @Override
@@ -75,6 +97,10 @@ public class JsonFileMappingsSource implements MappingsSource {
   @Override
   public void remove(StubMapping stubMapping) {
     StubMappingFileMetadata fileMetadata = fileNameMap.get(stubMapping.getId());
+    if (fileMetadata == null) {
+      return;
+    }
+
     if (fileMetadata.multi) {
       throw new NotWritableException(
           "Stubs loaded from multi-mapping files are read-only, and therefore cannot be removed");
@@ -107,27 +133,194 @@ public class JsonFileMappingsSource implements MappingsSource {
       return;
     }
 
+    if (snapshotFile != null) {
+      loadMappingsUsingSnapshot(stubMappings);
+      return;
+    }
+
     List<TextFile> mappingFiles =
         mappingsFileSource.listFilesRecursively().stream()
             .filter(byFileExtension("json"))
             .collect(Collectors.toList());
     for (TextFile mappingFile : mappingFiles) {
+      StubMappingCollection stubCollection = readMappingFile(mappingFile);
+      addMappings(
+          mappingFile.getPath(),
+          stubCollection.isMulti(),
+          stubCollection.getMappingOrMappings(),
+          stubMappings);
+    }
+  }
+
+  private void loadMappingsUsingSnapshot(StubMappings stubMappings) {
+    StateSnapshotFile.Contents snapshot = snapshotFile.read().orElse(null);
+    Map<String, MappingFileEntry> snapshotEntries = snapshotEntriesByPath(snapshot);
+    List<MappingFile> mappingFiles = walkMappingFiles();
+
+    // Decoding is the expensive part, so do it in parallel and then add in file order
+    List<LoadedMappingFile> loadedFiles =
+        mappingFiles.parallelStream()
+            .map(mappingFile -> load(mappingFile, snapshotEntries.get(mappingFile.getPath())))
+            .collect(Collectors.toList());
+
+    boolean snapshotStale = snapshot == null || snapshotEntries.size() != mappingFiles.size();
+    List<MappingFileEntry> entries = new ArrayList<>(loadedFiles.size());
+    for (LoadedMappingFile loadedFile : loadedFiles) {
+      addMappings(
+          loadedFile.entry.getPath(),
+          loadedFile.entry.isMulti(),
+          loadedFile.mappings,
+          stubMappings);
+      entries.add(loadedFile.entry);
+      snapshotStale |= !loadedFile.fromSnapshot;
+    }
+
+    if (snapshotStale) {
+      snapshotFile.writeMappingFiles(entries);
+    }
+  }
+
+  private static LoadedMappingFile load(MappingFile mappingFile, MappingFileEntry snapshotEntry) {
+    if (mappingFile.isUpToDateWith(snapshotEntry)) {
       try {
-        StubMappingCollection stubCollection =
-            Json.read(mappingFile.readContents(), StubMappingCollection.class);
-        for (StubMapping mapping : stubCollection.getMappingOrMappings()) {
-          mapping.setDirty(false);
-          stubMappings.addMapping(mapping);
-          StubMappingFileMetadata fileMetadata =
-              new StubMappingFileMetadata(mappingFile.getPath(), stubCollection.isMulti());
-          fileNameMap.put(mapping.getId(), fileMetadata);
-        }
-      } catch (JsonException e) {
-        throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
-      } catch (IOException e) {
-        throwUnchecked(e);
+        return new LoadedMappingFile(snapshotEntry, snapshotEntry.decodeStubs(), true);
+      } catch (IOException | RuntimeException e) {
+        // Fall through and treat the JSON file as the source of truth
       }
     }
+
+    StubMappingCollection stubCollection = readMappingFile(mappingFile.textFile);
+    return new LoadedMappingFile(
+        mappingFile.toEntry(stubCollection), stubCollection.getMappingOrMappings(), false);
+  }
+
+  private void writeSnapshot() {
+    Map<String, MappingFileEntry> previousEntries =
+        snapshotEntriesByPath(snapshotFile.read().orElse(null));
+    List<MappingFileEntry> entries = new ArrayList<>();
+    for (MappingFile mappingFile : walkMappingFiles()) {
+      MappingFileEntry previousEntry = previousEntries.get(mappingFile.getPath());
+      if (mappingFile.isUpToDateWith(previousEntry)) {
+        entries.add(previousEntry);
+      } else {
+        entries.add(mappingFile.toEntry(readMappingFile(mappingFile.textFile)));
+      }
+    }
+
+    snapshotFile.writeMappingFiles(entries);
+  }
+
+  private static Map<String, MappingFileEntry> snapshotEntriesByPath(
+      StateSnapshotFile.Contents snapshot) {
+    if (snapshot == null) {
+      return Map.of();
+    }
+
+    return snapshot.getMappingFiles().stream()
+        .collect(Collectors.toMap(MappingFileEntry::getPath, Function.identity(), (a, b) -> b));
+  }
+
+  /**
+   * Lists the JSON mapping files along with their size and modification time, taken from the
+   * directory walk itself so that checking them against the snapshot needs no further file system
+   * calls. Sources outside the default file system, such as the classpath or a jar, are listed
+   * without them and so are always read from their files.
+   */
+  private List<MappingFile> walkMappingFiles() {
+    URI root = mappingsFileSource.getUri();
+    if (!"file".equals(root.getScheme())) {
+      return mappingsFileSource.listFilesRecursively().stream()
+          .filter(byFileExtension("json"))
+          .map(textFile -> new MappingFile(textFile, UNKNOWN, UNKNOWN))
+          .collect(Collectors.toList());
+    }
+
+    List<MappingFile> mappingFiles = new ArrayList<>();
+    try {
+      Files.walkFileTree(
+          Paths.get(root),
+          new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+              if (attributes.isRegularFile() && file.getFileName().toString().endsWith(".json")) {
+                mappingFiles.add(
+                    new MappingFile(
+                        new TextFile(file.toUri()),
+                        attributes.lastModifiedTime().toMillis(),
+                        attributes.size()));
+              }
+              return FileVisitResult.CONTINUE;
+            }
+          });
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+    return mappingFiles;
+  }
+
+  private static StubMappingCollection readMappingFile(TextFile mappingFile) {
+    try {
+      return Json.read(mappingFile.readContents(), StubMappingCollection.class);
+    } catch (JsonException e) {
+      throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
+    } catch (IOException e) {
+      return throwUnchecked(e, StubMappingCollection.class);
+    }
+  }
+
+  private void addMappings(
+      String path, boolean multi, List<? extends StubMapping> mappings, StubMappings stubMappings) {
+    for (StubMapping mapping : mappings) {
+      mapping.setDirty(false);
+      stubMappings.addMapping(mapping);
+      fileNameMap.put(mapping.getId(), new StubMappingFileMetadata(path, multi));
+    }
+  }
+
+  private static final long UNKNOWN = -1;
+
+  private static class MappingFile {
+    final TextFile textFile;
+    final long lastModified;
+    final long length;
+
+    MappingFile(TextFile textFile, long lastModified, long length) {
+      this.textFile = textFile;
+      this.lastModified = lastModified;
+      this.length = length;
+    }
+
+    String getPath() {
+      return textFile.getPath();
+    }
+
+    boolean isUpToDateWith(MappingFileEntry entry) {
+      return entry != null
+          && lastModified != UNKNOWN
+          && entry.isUpToDateWith(lastModified, length);
+    }
+
+    MappingFileEntry toEntry(StubMappingCollection stubCollection) {
+      return MappingFileEntry.of(
+          getPath(),
+          lastModified,
+          length,
+          stubCollection.isMulti(),
+          stubCollection.getMappingOrMappings());
+    }
+  }
+
+  private static class LoadedMappingFile {
+    final MappingFileEntry entry;
+    final List<? extends StubMapping> mappings;
+    final boolean fromSnapshot;
+
+    LoadedMappingFile(
+        MappingFileEntry entry, List<? extends StubMapping> mappings, boolean fromSnapshot) {
+      this.entry = entry;
+      this.mappings = mappings;
+      this.fromSnapshot = fromSnapshot;
+    }
   }
 
   private static class StubMappingFileMetadata {
@@ -16,6 +16,7 @@
 package com.github.tomakehurst.wiremock.standalone;
 
 import static com.github.tomakehurst.wiremock.common.AbstractFileSource.byFileExtension;
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.core.WireMockApp.FILES_ROOT;
 import static com.github.tomakehurst.wiremock.core.WireMockApp.MAPPINGS_ROOT;
 import static org.apache.commons.lang3.StringUtils.substringAfterLast;
@@ -30,42 +31,119 @@ import com.github.tomakehurst.wiremock.common.JsonException;
 import com.github.tomakehurst.wiremock.common.TextFile;
 import com.github.tomakehurst.wiremock.http.ContentTypeHeader;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.stubbing.StubImport;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.stubbing.StubMappingCollection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+/**
+ * Loads the mappings under a local root directory into a remote WireMock instance.
+ *
+ * <p>Mappings are sent as {@link StubImport} batches of up to {@link #batchSize(int)} stubs, with
+ * each batch gzip-compressed on the wire, rather than being registered one request at a time. Up to
+ * {@link #concurrency(int)} batches can be in flight at once over the client's pooled connections.
+ * Files are read as batches are filled, so only the batches in flight are held in memory.
+ *
+ * <p>Stubs within a batch keep the same relative ordering they would have if registered one by one.
+ * When more than one batch is sent concurrently, the relative ordering of stubs with the same
+ * priority in different batches is not guaranteed.
+ */
 public class RemoteMappingsLoader {
 
+  public static final int DEFAULT_BATCH_SIZE = 500;
+
   private final FileSource mappingsFileSource;
   private final FileSource filesFileSource;
   private final WireMock wireMock;
 
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private int concurrency = 1;
+  private ProgressListener progressListener = ProgressListener.NONE;
+
   public RemoteMappingsLoader(FileSource fileSource, WireMock wireMock) {
     this.mappingsFileSource = fileSource.child(MAPPINGS_ROOT);
     this.filesFileSource = fileSource.child(FILES_ROOT);
     this.wireMock = wireMock;
   }
 
+  public RemoteMappingsLoader batchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    }
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public RemoteMappingsLoader concurrency(int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be at least 1");
+    }
+    this.concurrency = concurrency;
+    return this;
+  }
+
+  public RemoteMappingsLoader progressListener(ProgressListener progressListener) {
+    this.progressListener = progressListener;
+    return this;
+  }
+
   public void load() {
     List<TextFile> mappingFiles =
         mappingsFileSource.listFilesRecursively().stream()
             .filter(byFileExtension("json"))
             .collect(Collectors.toList());
-    for (TextFile mappingFile : mappingFiles) {
-      try {
-        StubMappingCollection stubCollection =
-            Json.read(mappingFile.readContentsAsString(), StubMappingCollection.class);
-        for (StubMapping mapping : stubCollection.getMappingOrMappings()) {
+
+    BatchUploader uploader = new BatchUploader(mappingFiles.size());
+    try {
+      List<StubMapping> batch = new ArrayList<>(batchSize);
+      for (TextFile mappingFile : mappingFiles) {
+        for (StubMapping mapping : readMappings(mappingFile)) {
           convertBodyFromFileIfNecessary(mapping);
-          wireMock.register(mapping);
+          batch.add(mapping);
+          if (batch.size() >= batchSize) {
+            uploader.submit(batch);
+            batch = new ArrayList<>(batchSize);
+          }
         }
-      } catch (JsonException e) {
-        throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
+        uploader.fileRead();
+      }
+
+      if (!batch.isEmpty()) {
+        uploader.submit(batch);
       }
+
+      uploader.awaitCompletion();
+    } finally {
+      uploader.shutdown();
+    }
+  }
+
+  private static List<? extends StubMapping> readMappings(TextFile mappingFile) {
+    try {
+      return Json.read(mappingFile.readContentsAsString(), StubMappingCollection.class)
+          .getMappingOrMappings();
+    } catch (JsonException e) {
+      throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
     }
   }
 
+  private void upload(List<StubMapping> batch) {
+    // The import adds stubs last to first, so reverse the batch to end up with the same ordering
+    // as registering each stub in turn
+    List<StubMapping> mappings = new ArrayList<>(batch);
+    Collections.reverse(mappings);
+    wireMock.importStubMappings(new StubImport(mappings, StubImport.Options.DEFAULTS));
+  }
+
   private void convertBodyFromFileIfNecessary(StubMapping mapping) {
     String bodyFileName = mapping.getResponse().getBodyFileName();
     if (bodyFileName != null) {
@@ -96,4 +174,96 @@ public class RemoteMappingsLoader {
 
     return null;
   }
+
+  private class BatchUploader {
+
+    private final int totalFiles;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final List<Future<?>> uploads = new ArrayList<>();
+    private final AtomicInteger stubsUploaded = new AtomicInteger();
+    private final AtomicInteger filesRead = new AtomicInteger();
+
+    BatchUploader(int totalFiles) {
+      this.totalFiles = totalFiles;
+      this.executor =
+          concurrency > 1
+              ? Executors.newFixedThreadPool(
+                  concurrency,
+                  runnable -> {
+                    Thread thread = new Thread(runnable, "wiremock-remote-mappings-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                  })
+              : null;
+      this.inFlight = new Semaphore(concurrency);
+    }
+
+    void fileRead() {
+      filesRead.incrementAndGet();
+    }
+
+    void submit(List<StubMapping> batch) {
+      if (executor == null) {
+        uploadAndReport(batch);
+        return;
+      }
+
+      checkForFailures();
+      inFlight.acquireUninterruptibly();
+      uploads.add(
+          executor.submit(
+              () -> {
+                try {
+                  uploadAndReport(batch);
+                } finally {
+                  inFlight.release();
+                }
+              }));
+    }
+
+    private void uploadAndReport(List<StubMapping> batch) {
+      upload(batch);
+      progressListener.onProgress(
+          stubsUploaded.addAndGet(batch.size()), filesRead.get(), totalFiles);
+    }
+
+    private void checkForFailures() {
+      for (Future<?> upload : uploads) {
+        if (upload.isDone()) {
+          waitFor(upload);
+        }
+      }
+    }
+
+    void awaitCompletion() {
+      uploads.forEach(this::waitFor);
+    }
+
+    private void waitFor(Future<?> upload) {
+      try {
+        upload.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throwUnchecked(e);
+      } catch (ExecutionException e) {
+        throwUnchecked(e.getCause());
+      }
+    }
+
+    void shutdown() {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  /** Notified after each batch of stubs has been accepted by the remote instance. */
+  @FunctionalInterface
+  public interface ProgressListener {
+
+    ProgressListener NONE = (stubsUploaded, filesRead, totalFiles) -> {};
+
+    void onProgress(int stubsUploaded, int filesRead, int totalFiles);
+  }
 }
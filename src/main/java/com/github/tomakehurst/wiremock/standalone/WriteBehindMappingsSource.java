@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.standalone;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+
+import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubMappings;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps a {@link MappingsSource} so that saves and removals made via the admin API are queued and
+ * written by a single background thread rather than on the request thread.
+ *
+ * <p>Repeated writes to the same stub are coalesced, so only the latest version is written, and
+ * queued writes are applied in batches either when the batch size is reached or after a short
+ * delay. Callers needing durability can call {@link #flush()}, which blocks until everything queued
+ * so far has been written and throws if any of those writes failed. Errors from writes made in the
+ * background are also reported to the notifier as they happen, since the caller has already
+ * returned.
+ *
+ * <p>The writer thread is started when first needed and stopped by {@link #close()}.
+ */
+public class WriteBehindMappingsSource implements MappingsSource {
+
+  public static final long DEFAULT_DELAY_MILLIS = 100;
+  public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+  private final MappingsSource delegate;
+  private final Notifier notifier;
+  private final long delayMillis;
+  private final int maxBatchSize;
+
+  private final Map<UUID, PendingWrite> pending = new LinkedHashMap<>();
+  private boolean drainScheduled;
+  private ScheduledExecutorService writer;
+
+  // Only touched on the writer thread
+  private RuntimeException failure;
+
+  public WriteBehindMappingsSource(MappingsSource delegate, Notifier notifier) {
+    this(delegate, notifier, DEFAULT_DELAY_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  public WriteBehindMappingsSource(
+      MappingsSource delegate, Notifier notifier, long delayMillis, int maxBatchSize) {
+    this.delegate = delegate;
+    this.notifier = notifier;
+    this.delayMillis = delayMillis;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public void save(List<StubMapping> stubMappings) {
+    flush();
+    delegate.save(stubMappings);
+  }
+
+  @Override
+  public void save(StubMapping stubMapping) {
+    enqueue(new PendingWrite(stubMapping, false));
+  }
+
+  @Override
+  public void remove(StubMapping stubMapping) {
+    enqueue(new PendingWrite(stubMapping, true));
+  }
+
+  @Override
+  public void removeAll() {
+    synchronized (pending) {
+      pending.clear();
+    }
+    runOnWriter(delegate::removeAll);
+  }
+
+  @Override
+  public void loadMappingsInto(StubMappings stubMappings) {
+    flush();
+    delegate.loadMappingsInto(stubMappings);
+  }
+
+  @Override
+  public void flush() {
+    runOnWriter(
+        () -> {
+          drain();
+          throwPendingFailure();
+        });
+  }
+
+  @Override
+  public void close() {
+    ScheduledExecutorService stopping;
+    synchronized (pending) {
+      stopping = writer;
+      writer = null;
+    }
+
+    if (stopping != null) {
+      try {
+        stopping.submit(this::drain).get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        notifier.error("Failed to write pending stub changes", e.getCause());
+      } finally {
+        stopping.shutdownNow();
+      }
+    }
+  }
+
+  private ScheduledExecutorService writer() {
+    synchronized (pending) {
+      if (writer == null) {
+        writer =
+            Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                  Thread thread = new Thread(runnable, "wiremock-mappings-writer");
+                  thread.setDaemon(true);
+                  return thread;
+                });
+      }
+      return writer;
+    }
+  }
+
+  private void runOnWriter(Runnable work) {
+    try {
+      writer().submit(work).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throwUnchecked(e.getCause());
+    }
+  }
+
+  private void throwPendingFailure() {
+    RuntimeException pendingFailure = failure;
+    failure = null;
+    if (pendingFailure != null) {
+      throw pendingFailure;
+    }
+  }
+
+  private void enqueue(PendingWrite write) {
+    boolean drainNow;
+    synchronized (pending) {
+      pending.remove(write.stubMapping.getId());
+      pending.put(write.stubMapping.getId(), write);
+      drainNow = pending.size() >= maxBatchSize;
+      if (!drainNow && !drainScheduled) {
+        drainScheduled = true;
+        writer().schedule(this::drain, delayMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    if (drainNow) {
+      writer().execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    List<PendingWrite> batch;
+    synchronized (pending) {
+      batch = new ArrayList<>(pending.values());
+      pending.clear();
+      drainScheduled = false;
+    }
+
+    for (PendingWrite write : batch) {
+      try {
+        if (write.remove) {
+          delegate.remove(write.stubMapping);
+        } else {
+          delegate.save(write.stubMapping);
+        }
+      } catch (RuntimeException e) {
+        notifier.error(
+            "Failed to "
+                + (write.remove ? "remove" : "save")
+                + " stub "
+                + write.stubMapping.getId(),
+            e);
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+  }
+
+  private static class PendingWrite {
+    final StubMapping stubMapping;
+    final boolean remove;
+
+    PendingWrite(StubMapping stubMapping, boolean remove) {
+      this.stubMapping = stubMapping;
+      this.remove = remove;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.stubbing.SortedConcurrentMappingSet.sortedByPriorityThenReverseInsertionOrder;
+
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.wiremock.annotations.Beta;
+
+/**
+ * A stub store suited to read-heavy workloads. Stubs are held in an immutable array, pre-sorted by
+ * priority then reverse insertion order, which is swapped atomically on every change. Request
+ * matching therefore iterates a flat array with no locking or comparator calls, and never sees a
+ * half-applied edit.
+ *
+ * <p>Each change copies the whole array, so writes are O(n). Bulk operations ({@link
+ * #addAll(List)}, {@link #removeAll(List)}) publish a single new snapshot for the whole batch.
+ */
+@Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
+public class CopyOnWriteStubMappingStore implements StubMappingStore {
+
+  private static final Comparator<StubMapping> ORDER = sortedByPriorityThenReverseInsertionOrder();
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private long insertionCount;
+
+  @Override
+  public Stream<StubMapping> getAll() {
+    return Arrays.stream(snapshot.mappings);
+  }
+
+  @Override
+  public Optional<StubMapping> get(UUID id) {
+    return Optional.ofNullable(snapshot.mappingsById.get(id));
+  }
+
+  @Override
+  public synchronized void add(StubMapping stub) {
+    stub.setInsertionIndex(insertionCount++);
+
+    StubMapping[] current = snapshot.mappings;
+    int position = -Arrays.binarySearch(current, stub, ORDER) - 1;
+    StubMapping[] updated = new StubMapping[current.length + 1];
+    System.arraycopy(current, 0, updated, 0, position);
+    updated[position] = stub;
+    System.arraycopy(current, position, updated, position + 1, current.length - position);
+    snapshot = new Snapshot(updated);
+  }
+
+  @Override
+  public synchronized void addAll(List<StubMapping> stubs) {
+    for (StubMapping stub : stubs) {
+      stub.setInsertionIndex(insertionCount++);
+    }
+
+    StubMapping[] current = snapshot.mappings;
+    StubMapping[] updated = Arrays.copyOf(current, current.length + stubs.size());
+    for (int i = 0; i < stubs.size(); i++) {
+      updated[current.length + i] = stubs.get(i);
+    }
+    Arrays.sort(updated, ORDER);
+    snapshot = new Snapshot(updated);
+  }
+
+  @Override
+  public synchronized void replace(StubMapping existing, StubMapping updated) {
+    StubMapping[] current = snapshot.mappings;
+    int position = Arrays.binarySearch(current, existing, ORDER);
+    if (position < 0) {
+      return;
+    }
+
+    StubMapping[] replaced = current.clone();
+    replaced[position] = updated;
+    if (updated.comparePriorityWith(existing) != 0) {
+      Arrays.sort(replaced, ORDER);
+    }
+    snapshot = new Snapshot(replaced);
+  }
+
+  @Override
+  public synchronized void remove(StubMapping stubMapping) {
+    UUID id = stubMapping.getId();
+    if (id != null && snapshot.mappingsById.containsKey(id)) {
+      removeWhere(mapping -> id.equals(mapping.getId()));
+    } else {
+      removeWhere(mapping -> stubMapping.getRequest().equals(mapping.getRequest()));
+    }
+  }
+
+  @Override
+  public synchronized void removeAll(List<StubMapping> stubMappings) {
+    Set<UUID> ids = new HashSet<>();
+    for (StubMapping stubMapping : stubMappings) {
+      ids.add(stubMapping.getId());
+    }
+    removeWhere(mapping -> ids.contains(mapping.getId()));
+  }
+
+  private void removeWhere(Predicate<StubMapping> predicate) {
+    StubMapping[] current = snapshot.mappings;
+    StubMapping[] remaining =
+        Arrays.stream(current).filter(predicate.negate()).toArray(StubMapping[]::new);
+    if (remaining.length != current.length) {
+      snapshot = new Snapshot(remaining);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    snapshot = Snapshot.EMPTY;
+  }
+
+  private static class Snapshot {
+
+    static final Snapshot EMPTY = new Snapshot(new StubMapping[0]);
+
+    final StubMapping[] mappings;
+    final Map<UUID, StubMapping> mappingsById;
+
+    Snapshot(StubMapping[] mappings) {
+      this.mappings = mappings;
+      this.mappingsById = new HashMap<>(mappings.length * 2);
+      for (StubMapping mapping : mappings) {
+        if (mapping.getId() != null) {
+          mappingsById.put(mapping.getId(), mapping);
+        }
+      }
+    }
+  }
+}
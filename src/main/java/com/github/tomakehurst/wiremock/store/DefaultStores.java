@@ -16,7 +16,9 @@
 package com.github.tomakehurst.wiremock.store;
 
 import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.store.files.FileRequestJournalStore;
 import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
+import java.nio.file.Path;
 import org.wiremock.annotations.Beta;
 
 @Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
@@ -31,10 +33,23 @@ public class DefaultStores implements Stores {
   private final ScenariosStore scenariosStore;
 
   public DefaultStores(FileSource fileRoot) {
+    this(fileRoot, false);
+  }
+
+  public DefaultStores(FileSource fileRoot, boolean copyOnWriteStubStore) {
+    this(fileRoot, copyOnWriteStubStore, null);
+  }
+
+  public DefaultStores(
+      FileSource fileRoot, boolean copyOnWriteStubStore, Path requestJournalDirectory) {
     this.fileRoot = fileRoot;
 
-    this.stubMappingStore = new InMemoryStubMappingStore();
-    this.requestJournalStore = new InMemoryRequestJournalStore();
+    this.stubMappingStore =
+        copyOnWriteStubStore ? new CopyOnWriteStubMappingStore() : new InMemoryStubMappingStore();
+    this.requestJournalStore =
+        requestJournalDirectory != null
+            ? new FileRequestJournalStore(requestJournalDirectory)
+            : new InMemoryRequestJournalStore();
     this.settingsStore = new InMemorySettingsStore();
     this.scenariosStore = new InMemoryScenariosStore();
   }
@@ -47,6 +47,11 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
     }
   }
 
+  @Override
+  public long size() {
+    return serveEvents.size();
+  }
+
   @Override
   public Stream<UUID> getAllKeys() {
     return getAll().map(ServeEvent::getId);
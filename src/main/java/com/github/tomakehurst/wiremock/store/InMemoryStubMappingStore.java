@@ -15,10 +15,19 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import static java.util.stream.Collectors.toSet;
+
 import com.github.tomakehurst.wiremock.stubbing.SortedConcurrentMappingSet;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
@@ -26,20 +35,35 @@ import org.wiremock.annotations.Beta;
 public class InMemoryStubMappingStore implements StubMappingStore {
 
   private final SortedConcurrentMappingSet mappings = new SortedConcurrentMappingSet();
+  private final Map<UUID, StubMapping> mappingsById = new ConcurrentHashMap<>();
 
   @Override
   public Optional<StubMapping> get(UUID id) {
-    return mappings.stream().filter(stubMapping -> stubMapping.getId().equals(id)).findFirst();
+    return Optional.ofNullable(mappingsById.get(id));
   }
 
   @Override
   public void remove(StubMapping stubMapping) {
     mappings.remove(stubMapping);
+    if (stubMapping.getId() == null || mappingsById.remove(stubMapping.getId()) == null) {
+      // Removed by request pattern rather than ID, so find whichever stubs went
+      Set<StubMapping> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+      mappings.forEach(remaining::add);
+      mappingsById.values().removeIf(mapping -> !remaining.contains(mapping));
+    }
+  }
+
+  @Override
+  public void removeAll(List<StubMapping> stubMappings) {
+    Set<UUID> ids = stubMappings.stream().map(StubMapping::getId).collect(toSet());
+    mappings.removeAll(ids);
+    mappingsById.keySet().removeAll(ids);
   }
 
   @Override
   public void clear() {
     mappings.clear();
+    mappingsById.clear();
   }
 
   @Override
@@ -50,10 +74,28 @@ public class InMemoryStubMappingStore implements StubMappingStore {
   @Override
   public void add(StubMapping stubMapping) {
     mappings.add(stubMapping);
+    index(stubMapping);
+  }
+
+  @Override
+  public void addAll(List<StubMapping> stubMappings) {
+    mappings.addAll(stubMappings);
+    stubMappings.forEach(this::index);
   }
 
   @Override
   public void replace(StubMapping existing, StubMapping updated) {
-    mappings.replace(existing, updated);
+    if (mappings.replace(existing, updated)) {
+      if (!Objects.equals(existing.getId(), updated.getId())) {
+        mappingsById.remove(existing.getId(), existing);
+      }
+      index(updated);
+    }
+  }
+
+  private void index(StubMapping stubMapping) {
+    if (stubMapping.getId() != null) {
+      mappingsById.put(stubMapping.getId(), stubMapping);
+    }
   }
 }
@@ -15,7 +15,10 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import static java.util.stream.Collectors.toList;
+
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
@@ -25,7 +28,22 @@ public interface RequestJournalStore extends Store<UUID, ServeEvent> {
 
   Stream<ServeEvent> getAll();
 
+  /**
+   * All events, newest first. Implementations that keep events outside the heap may return a list
+   * that only reads each event when it is accessed, so that paging through it stays cheap.
+   */
+  default List<ServeEvent> getAllAsList() {
+    return getAll().collect(toList());
+  }
+
+  default long size() {
+    return getAllKeys().count();
+  }
+
   void add(ServeEvent event);
 
   void removeLast();
+
+  /** Releases any files or other resources held by the store. */
+  default void close() {}
 }
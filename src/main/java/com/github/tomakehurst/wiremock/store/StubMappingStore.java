@@ -47,9 +47,17 @@ public interface StubMappingStore {
 
   void add(StubMapping stub);
 
+  default void addAll(List<StubMapping> stubs) {
+    stubs.forEach(this::add);
+  }
+
   void replace(StubMapping existing, StubMapping updated);
 
   void remove(StubMapping stubMapping);
 
+  default void removeAll(List<StubMapping> stubMappings) {
+    stubMappings.forEach(this::remove);
+  }
+
   void clear();
 }
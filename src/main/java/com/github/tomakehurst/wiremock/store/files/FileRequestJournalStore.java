@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.store.RequestJournalStore;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * A request journal store that keeps serve events off the heap. Each event is serialized to JSON
+ * and appended to a segment file, leaving only its id and the record's location on the heap. Events
+ * are decoded when they are read. {@link #getAllAsList()} copies the records it covers, so it is
+ * unaffected by later changes to the journal, but decodes each one only when it is first accessed,
+ * so returning a page of a large journal only decodes that page.
+ *
+ * <p>Segments are filled in turn and a new one is started when the current one is full. Replacing
+ * an event appends a new record rather than rewriting the old one, and a segment file is closed and
+ * deleted as soon as none of its records are still in the journal.
+ *
+ * <p>The files are scratch space only: any left in the directory by a previous run are deleted when
+ * the store is created, and {@link #close()} deletes the rest along with the events they hold.
+ */
+public class FileRequestJournalStore implements RequestJournalStore {
+
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  private static final String SEGMENT_PREFIX = "journal-";
+  private static final String SEGMENT_SUFFIX = ".segment";
+
+  private final Path directory;
+  private final int segmentSize;
+
+  private final Deque<Entry> entries = new ArrayDeque<>();
+  private final Map<UUID, Entry> entriesById = new HashMap<>();
+  private final Set<Segment> segments = new HashSet<>();
+  private Segment currentSegment;
+  private int nextSegmentNumber;
+
+  public FileRequestJournalStore(Path directory) {
+    this(directory, DEFAULT_SEGMENT_SIZE);
+  }
+
+  public FileRequestJournalStore(Path directory, int segmentSize) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+    deleteSegmentFiles();
+  }
+
+  @Override
+  public void add(ServeEvent event) {
+    byte[] record = Json.toByteArray(event);
+    synchronized (this) {
+      Entry entry = new Entry(event.getId(), append(record));
+      entriesById.put(entry.id, entry);
+      entries.addFirst(entry);
+    }
+  }
+
+  @Override
+  public void put(UUID id, ServeEvent event) {
+    byte[] record = Json.toByteArray(event);
+    synchronized (this) {
+      Entry entry = entriesById.get(id);
+      if (entry != null) {
+        Location previous = entry.location;
+        entry.location = append(record);
+        release(previous);
+      }
+    }
+  }
+
+  @Override
+  public Optional<ServeEvent> get(UUID id) {
+    byte[] record;
+    synchronized (this) {
+      Entry entry = entriesById.get(id);
+      if (entry == null) {
+        return Optional.empty();
+      }
+      record = read(entry.location);
+    }
+
+    return Optional.of(decode(record));
+  }
+
+  @Override
+  public Stream<ServeEvent> getAll() {
+    return getAllAsList().stream();
+  }
+
+  @Override
+  public List<ServeEvent> getAllAsList() {
+    byte[][] records;
+    synchronized (this) {
+      records = new byte[entries.size()][];
+      int i = 0;
+      for (Entry entry : entries) {
+        records[i++] = read(entry.location);
+      }
+    }
+
+    return new DecodingList(records);
+  }
+
+  @Override
+  public synchronized Stream<UUID> getAllKeys() {
+    List<UUID> ids = new ArrayList<>(entries.size());
+    for (Entry entry : entries) {
+      ids.add(entry.id);
+    }
+    return ids.stream();
+  }
+
+  @Override
+  public synchronized long size() {
+    return entries.size();
+  }
+
+  @Override
+  public synchronized void removeLast() {
+    Entry entry = entries.pollLast();
+    if (entry != null) {
+      entriesById.remove(entry.id);
+      release(entry.location);
+    }
+  }
+
+  @Override
+  public synchronized void remove(UUID id) {
+    Entry entry = entriesById.remove(id);
+    if (entry != null) {
+      entries.removeFirstOccurrence(entry);
+      release(entry.location);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    entries.clear();
+    entriesById.clear();
+    segments.forEach(Segment::delete);
+    segments.clear();
+    currentSegment = null;
+  }
+
+  /**
+   * Discards all events and deletes their segment files. Events added afterwards start a new
+   * segment.
+   */
+  @Override
+  public void close() {
+    clear();
+  }
+
+  private Location append(byte[] bytes) {
+    if (currentSegment == null || !currentSegment.fits(bytes.length)) {
+      Segment previous = currentSegment;
+      currentSegment = newSegment(Math.max(segmentSize, bytes.length));
+      if (previous != null && previous.liveRecords == 0) {
+        delete(previous);
+      }
+    }
+
+    try {
+      return new Location(currentSegment, currentSegment.append(bytes), bytes.length);
+    } catch (IOException e) {
+      return throwUnchecked(e, Location.class);
+    }
+  }
+
+  private void release(Location location) {
+    Segment segment = location.segment;
+    segment.liveRecords--;
+    if (segment.liveRecords == 0 && segment != currentSegment) {
+      delete(segment);
+    }
+  }
+
+  private static byte[] read(Location location) {
+    try {
+      return location.segment.read(location.offset, location.length);
+    } catch (IOException e) {
+      return throwUnchecked(e, byte[].class);
+    }
+  }
+
+  private Segment newSegment(int size) {
+    Path path = directory.resolve(SEGMENT_PREFIX + nextSegmentNumber++ + SEGMENT_SUFFIX);
+    try {
+      Segment segment = new Segment(path, size);
+      segments.add(segment);
+      return segment;
+    } catch (IOException e) {
+      return throwUnchecked(e, Segment.class);
+    }
+  }
+
+  private void delete(Segment segment) {
+    segments.remove(segment);
+    segment.delete();
+  }
+
+  private void deleteSegmentFiles() {
+    try (DirectoryStream<Path> segmentFiles =
+        Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      for (Path segmentFile : segmentFiles) {
+        Files.deleteIfExists(segmentFile);
+      }
+    } catch (IOException e) {
+      notifier().error("Unable to delete request journal segments in " + directory, e);
+    }
+  }
+
+  private static ServeEvent decode(byte[] record) {
+    try {
+      return Json.read(record, ServeEvent.class);
+    } catch (IOException e) {
+      return throwUnchecked(e, ServeEvent.class);
+    }
+  }
+
+  private static class Entry {
+
+    private final UUID id;
+    private Location location;
+
+    private Entry(UUID id, Location location) {
+      this.id = id;
+      this.location = location;
+    }
+  }
+
+  private static class Location {
+
+    private final Segment segment;
+    private final long offset;
+    private final int length;
+
+    private Location(Segment segment, long offset, int length) {
+      this.segment = segment;
+      this.offset = offset;
+      this.length = length;
+      segment.liveRecords++;
+    }
+  }
+
+  private static class Segment {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int size;
+    private long writePosition;
+    private int liveRecords;
+
+    private Segment(Path path, int size) throws IOException {
+      this.path = path;
+      this.size = size;
+      this.channel =
+          FileChannel.open(
+              path,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+    }
+
+    private boolean fits(int length) {
+      return size - writePosition >= length;
+    }
+
+    private long append(byte[] bytes) throws IOException {
+      long offset = writePosition;
+      ByteBuffer source = ByteBuffer.wrap(bytes);
+      while (source.hasRemaining()) {
+        channel.write(source, offset + source.position());
+      }
+      writePosition += bytes.length;
+      return offset;
+    }
+
+    private byte[] read(long offset, int length) throws IOException {
+      ByteBuffer target = ByteBuffer.allocate(length);
+      while (target.hasRemaining()) {
+        if (channel.read(target, offset + target.position()) < 0) {
+          throw new IOException("Request journal segment " + path + " is truncated");
+        }
+      }
+      return target.array();
+    }
+
+    private void delete() {
+      try {
+        channel.close();
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        notifier().error("Unable to delete request journal segment " + path, e);
+      }
+    }
+  }
+
+  private static class DecodingList extends AbstractList<ServeEvent> implements RandomAccess {
+
+    private final byte[][] records;
+    private final ServeEvent[] events;
+
+    private DecodingList(byte[][] records) {
+      this.records = records;
+      this.events = new ServeEvent[records.length];
+    }
+
+    @Override
+    public synchronized ServeEvent get(int index) {
+      if (events[index] == null) {
+        events[index] = decode(records[index]);
+        records[index] = null;
+      }
+      return events[index];
+    }
+
+    @Override
+    public int size() {
+      return records.length;
+    }
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.global.GlobalSettings;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * A compact binary snapshot of the state loaded at startup: the contents of each mapping file
+ * (keyed by path, size and modification time), the current scenario states and the global settings.
+ * Stub mappings are held as length-prefixed, compact JSON records so that the whole file can be read
+ * in one go and its stubs decoded in parallel, without walking and re-reading the mappings
+ * directory.
+ *
+ * <p>The snapshot is only ever a cache. Callers are expected to compare each mapping file entry
+ * with the file on disk and fall back to the JSON file whenever it has changed.
+ */
+public class StateSnapshotFile {
+
+  private static final int MAGIC = 0x574D5353; // "WMSS"
+  private static final int VERSION = 1;
+
+  private final Path path;
+  private Contents contents;
+
+  public StateSnapshotFile(Path path) {
+    this.path = path;
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Returns the snapshot's contents. The file is only read the first time, after which the contents
+   * last read or written are returned.
+   */
+  public synchronized Optional<Contents> read() {
+    if (contents == null) {
+      contents = readFile();
+    }
+
+    return Optional.ofNullable(contents);
+  }
+
+  private Contents readFile() {
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+
+    try {
+      return decode(ByteBuffer.wrap(Files.readAllBytes(path)));
+    } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+      notifier().error("Ignoring unreadable state snapshot " + path + ": " + e.getMessage());
+      return null;
+    }
+  }
+
+  public synchronized void writeMappingFiles(List<MappingFileEntry> mappingFiles) {
+    Contents existing = read().orElse(Contents.EMPTY);
+    write(new Contents(mappingFiles, existing.settings, existing.scenarioStates));
+  }
+
+  public synchronized void writeState(GlobalSettings settings, Map<String, String> scenarioStates) {
+    Contents existing = read().orElse(Contents.EMPTY);
+    write(new Contents(existing.mappingFiles, settings, scenarioStates));
+  }
+
+  private void write(Contents contents) {
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path tempFile = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        encode(contents, out);
+      }
+      try {
+        Files.move(tempFile, path, REPLACE_EXISTING, ATOMIC_MOVE);
+      } catch (IOException e) {
+        Files.move(tempFile, path, REPLACE_EXISTING);
+      }
+      this.contents = contents;
+    } catch (IOException e) {
+      notifier().error("Unable to write state snapshot " + path, e);
+    }
+  }
+
+  private static void encode(Contents contents, DataOutputStream out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+
+    out.writeInt(contents.mappingFiles.size());
+    for (MappingFileEntry entry : contents.mappingFiles) {
+      writeString(out, entry.path);
+      out.writeLong(entry.lastModified);
+      out.writeLong(entry.length);
+      out.writeBoolean(entry.multi);
+      out.writeInt(entry.stubs.size());
+      for (ByteBuffer stub : entry.stubs) {
+        ByteBuffer data = stub.duplicate();
+        out.writeInt(data.remaining());
+        if (data.hasArray()) {
+          out.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else {
+          byte[] bytes = new byte[data.remaining()];
+          data.get(bytes);
+          out.write(bytes);
+        }
+      }
+    }
+
+    if (contents.settings != null) {
+      out.writeBoolean(true);
+      writeBytes(out, Json.toByteArray(contents.settings));
+    } else {
+      out.writeBoolean(false);
+    }
+
+    out.writeInt(contents.scenarioStates.size());
+    for (Map.Entry<String, String> scenarioState : contents.scenarioStates.entrySet()) {
+      writeString(out, scenarioState.getKey());
+      writeString(out, scenarioState.getValue());
+    }
+  }
+
+  private static Contents decode(ByteBuffer buffer) throws IOException {
+    if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+      throw new IllegalArgumentException("unrecognised format or version");
+    }
+
+    int mappingFileCount = buffer.getInt();
+    List<MappingFileEntry> mappingFiles = new ArrayList<>(mappingFileCount);
+    for (int i = 0; i < mappingFileCount; i++) {
+      String path = readString(buffer);
+      long lastModified = buffer.getLong();
+      long length = buffer.getLong();
+      boolean multi = buffer.get() != 0;
+      int stubCount = buffer.getInt();
+      List<ByteBuffer> stubs = new ArrayList<>(stubCount);
+      for (int j = 0; j < stubCount; j++) {
+        stubs.add(slice(buffer));
+      }
+      mappingFiles.add(new MappingFileEntry(path, lastModified, length, multi, stubs));
+    }
+
+    GlobalSettings settings = null;
+    if (buffer.get() != 0) {
+      try (InputStream in = new ByteBufferBackedInputStream(slice(buffer))) {
+        settings = Json.getObjectMapper().readValue(in, GlobalSettings.class);
+      }
+    }
+
+    int scenarioCount = buffer.getInt();
+    Map<String, String> scenarioStates = new LinkedHashMap<>();
+    for (int i = 0; i < scenarioCount; i++) {
+      scenarioStates.put(readString(buffer), readString(buffer));
+    }
+
+    return new Contents(mappingFiles, settings, scenarioStates);
+  }
+
+  private static ByteBuffer slice(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("truncated record");
+    }
+
+    ByteBuffer slice = buffer.slice();
+    slice.limit(length);
+    buffer.position(buffer.position() + length);
+    return slice;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    writeBytes(out, value.getBytes(UTF_8));
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    ByteBuffer slice = slice(buffer);
+    return UTF_8.decode(slice).toString();
+  }
+
+  public static class Contents {
+
+    static final Contents EMPTY = new Contents(List.of(), null, Map.of());
+
+    private final List<MappingFileEntry> mappingFiles;
+    private final GlobalSettings settings;
+    private final Map<String, String> scenarioStates;
+
+    public Contents(
+        List<MappingFileEntry> mappingFiles,
+        GlobalSettings settings,
+        Map<String, String> scenarioStates) {
+      this.mappingFiles = mappingFiles;
+      this.settings = settings;
+      this.scenarioStates = scenarioStates;
+    }
+
+    public List<MappingFileEntry> getMappingFiles() {
+      return mappingFiles;
+    }
+
+    public Optional<GlobalSettings> getSettings() {
+      return Optional.ofNullable(settings);
+    }
+
+    public Map<String, String> getScenarioStates() {
+      return scenarioStates;
+    }
+  }
+
+  public static class MappingFileEntry {
+
+    private final String path;
+    private final long lastModified;
+    private final long length;
+    private final boolean multi;
+    private final List<ByteBuffer> stubs;
+
+    public MappingFileEntry(
+        String path, long lastModified, long length, boolean multi, List<ByteBuffer> stubs) {
+      this.path = path;
+      this.lastModified = lastModified;
+      this.length = length;
+      this.multi = multi;
+      this.stubs = stubs;
+    }
+
+    public static MappingFileEntry of(
+        String path,
+        long lastModified,
+        long length,
+        boolean multi,
+        List<? extends StubMapping> stubs) {
+      List<ByteBuffer> encoded = new ArrayList<>(stubs.size());
+      for (StubMapping stub : stubs) {
+        encoded.add(ByteBuffer.wrap(encode(stub)));
+      }
+      return new MappingFileEntry(path, lastModified, length, multi, encoded);
+    }
+
+    private static byte[] encode(StubMapping stub) {
+      try {
+        return Json.getObjectMapper()
+            .writerWithView(Json.PrivateView.class)
+            .writeValueAsBytes(stub);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public boolean isMulti() {
+      return multi;
+    }
+
+    public boolean isUpToDateWith(long lastModified, long length) {
+      return this.lastModified == lastModified && this.length == length;
+    }
+
+    public List<StubMapping> decodeStubs() throws IOException {
+      ObjectReader reader = Json.getObjectMapper().readerFor(StubMapping.class);
+      List<StubMapping> decoded = new ArrayList<>(stubs.size());
+      for (ByteBuffer stub : stubs) {
+        try (InputStream in = new ByteBufferBackedInputStream(stub.duplicate())) {
+          decoded.add(reader.readValue(in));
+        }
+      }
+      return decoded;
+    }
+  }
+}
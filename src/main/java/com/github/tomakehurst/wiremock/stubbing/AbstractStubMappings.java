@@ -19,6 +19,10 @@ import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static com.github.tomakehurst.wiremock.common.Pair.pair;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
 import static com.github.tomakehurst.wiremock.http.ResponseDefinition.copyOf;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.PHASE_DURATION;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.PHASE_DURATION_HELP;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.TRANSFORMER_DURATION;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.TRANSFORMER_DURATION_HELP;
 import static java.util.stream.Collectors.toList;
 
 import com.github.tomakehurst.wiremock.admin.NotFoundException;
@@ -33,11 +37,14 @@ import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
+import com.github.tomakehurst.wiremock.metrics.Timer;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import com.github.tomakehurst.wiremock.store.StubMappingStore;
 import com.github.tomakehurst.wiremock.store.files.BlobStoreFileSource;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import java.util.*;
+import java.util.stream.Stream;
 
 public abstract class AbstractStubMappings implements StubMappings {
 
@@ -49,6 +56,9 @@ public abstract class AbstractStubMappings implements StubMappings {
   protected final List<StubLifecycleListener> stubLifecycleListeners;
   protected final StubMappingStore store;
 
+  private final Timer matchingTimer;
+  private final Map<String, Timer> transformerTimers = new HashMap<>();
+
   public AbstractStubMappings(
       StubMappingStore store,
       Scenarios scenarios,
@@ -57,6 +67,26 @@ public abstract class AbstractStubMappings implements StubMappings {
       Map<String, ResponseDefinitionTransformerV2> v2transformers,
       BlobStore filesBlobStore,
       List<StubLifecycleListener> stubLifecycleListeners) {
+    this(
+        store,
+        scenarios,
+        customMatchers,
+        transformers,
+        v2transformers,
+        filesBlobStore,
+        stubLifecycleListeners,
+        Metrics.DISABLED);
+  }
+
+  public AbstractStubMappings(
+      StubMappingStore store,
+      Scenarios scenarios,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Map<String, ResponseDefinitionTransformer> transformers,
+      Map<String, ResponseDefinitionTransformerV2> v2transformers,
+      BlobStore filesBlobStore,
+      List<StubLifecycleListener> stubLifecycleListeners,
+      Metrics metrics) {
 
     this.store = store;
     this.scenarios = scenarios;
@@ -65,6 +95,15 @@ public abstract class AbstractStubMappings implements StubMappings {
     this.v2transformers = v2transformers;
     this.filesFileSource = new BlobStoreFileSource(filesBlobStore);
     this.stubLifecycleListeners = stubLifecycleListeners;
+
+    this.matchingTimer = metrics.timer(PHASE_DURATION, PHASE_DURATION_HELP, "phase", "matching");
+    Stream.concat(transformers.keySet().stream(), v2transformers.keySet().stream())
+        .forEach(
+            name ->
+                transformerTimers.put(
+                    name,
+                    metrics.timer(
+                        TRANSFORMER_DURATION, TRANSFORMER_DURATION_HELP, "transformer", name)));
   }
 
   @Override
@@ -73,6 +112,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     final List<SubEvent> subEvents = new LinkedList<>();
 
+    long matchingStart = matchingTimer.start();
     StubMapping matchingMapping =
         store
             .findAllMatchingRequest(request, customMatchers, subEvents::add)
@@ -82,6 +122,7 @@ public abstract class AbstractStubMappings implements StubMappings {
                         || scenarios.mappingMatchesScenarioState(stubMapping))
             .findFirst()
             .orElse(StubMapping.NOT_CONFIGURED);
+    matchingTimer.stop(matchingStart);
 
     subEvents.forEach(initialServeEvent::appendSubEvent);
 
@@ -114,14 +155,18 @@ public abstract class AbstractStubMappings implements StubMappings {
     }
 
     ResponseDefinitionTransformer transformer = transformers.get(0);
-    ResponseDefinition newResponseDef =
-        transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)
-            ? transformer.transform(
-                request,
-                responseDefinition,
-                filesFileSource,
-                getFirstNonNull(responseDefinition.getTransformerParameters(), Parameters.empty()))
-            : responseDefinition;
+    ResponseDefinition newResponseDef = responseDefinition;
+    if (transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)) {
+      Timer timer = transformerTimer(transformer.getName());
+      long start = timer.start();
+      newResponseDef =
+          transformer.transform(
+              request,
+              responseDefinition,
+              filesFileSource,
+              getFirstNonNull(responseDefinition.getTransformerParameters(), Parameters.empty()));
+      timer.stop(start);
+    }
 
     return applyV1Transformations(
         request, newResponseDef, transformers.subList(1, transformers.size()));
@@ -137,16 +182,23 @@ public abstract class AbstractStubMappings implements StubMappings {
     }
 
     ResponseDefinitionTransformerV2 transformer = transformers.get(0);
-    ResponseDefinition newResponseDef =
-        transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)
-            ? transformer.transform(serveEvent)
-            : responseDefinition;
+    ResponseDefinition newResponseDef = responseDefinition;
+    if (transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)) {
+      Timer timer = transformerTimer(transformer.getName());
+      long start = timer.start();
+      newResponseDef = transformer.transform(serveEvent);
+      timer.stop(start);
+    }
 
     return applyV2Transformations(
         serveEvent.withResponseDefinition(newResponseDef),
         transformers.subList(1, transformers.size()));
   }
 
+  private Timer transformerTimer(String name) {
+    return transformerTimers.getOrDefault(name, Timer.DISABLED);
+  }
+
   @Override
   public void addMapping(StubMapping mapping) {
     for (StubLifecycleListener listener : stubLifecycleListeners) {
@@ -161,6 +213,20 @@ public abstract class AbstractStubMappings implements StubMappings {
     }
   }
 
+  @Override
+  public void addMappings(List<StubMapping> mappings) {
+    for (StubLifecycleListener listener : stubLifecycleListeners) {
+      listener.beforeStubsCreated(mappings);
+    }
+
+    store.addAll(mappings);
+    mappings.forEach(scenarios::onStubMappingAdded);
+
+    for (StubLifecycleListener listener : stubLifecycleListeners) {
+      listener.afterStubsCreated(mappings);
+    }
+  }
+
   @Override
   public void removeMapping(StubMapping mapping) {
     for (StubLifecycleListener listener : stubLifecycleListeners) {
@@ -175,6 +241,20 @@ public abstract class AbstractStubMappings implements StubMappings {
     }
   }
 
+  @Override
+  public void removeMappings(List<StubMapping> mappings) {
+    for (StubLifecycleListener listener : stubLifecycleListeners) {
+      listener.beforeStubsRemoved(mappings);
+    }
+
+    store.removeAll(mappings);
+    mappings.forEach(scenarios::onStubMappingRemoved);
+
+    for (StubLifecycleListener listener : stubLifecycleListeners) {
+      listener.afterStubsRemoved(mappings);
+    }
+  }
+
   @Override
   public void editMapping(StubMapping stubMapping) {
     final Optional<StubMapping> optionalExistingMapping = store.get(stubMapping.getId());
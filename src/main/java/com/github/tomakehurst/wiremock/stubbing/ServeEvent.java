@@ -30,6 +30,7 @@ import com.github.tomakehurst.wiremock.http.LoggedResponse;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.verification.JournalPolicy;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import com.google.common.base.Stopwatch;
 import java.util.*;
@@ -50,6 +51,9 @@ public class ServeEvent {
 
   private final Stopwatch stopwatch;
 
+  // The journal is handed the same event when the request is received and when it completes
+  private volatile JournalCopy journalCopy;
+
   protected ServeEvent(
       UUID id,
       LoggedRequest request,
@@ -116,6 +120,34 @@ public class ServeEvent {
         stopwatch);
   }
 
+  /**
+   * @return a copy holding only as much of the request as the policy keeps in the journal, made
+   *     once per policy and reused on later calls
+   */
+  public ServeEvent forJournal(JournalPolicy policy) {
+    if (!policy.trimsRequests()) {
+      return this;
+    }
+
+    JournalCopy copy = journalCopy;
+    if (copy == null || copy.policy != policy) {
+      copy =
+          new JournalCopy(
+              policy,
+              new ServeEvent(
+                  id,
+                  LoggedRequest.createFrom(request, policy),
+                  stubMapping,
+                  responseDefinition,
+                  response,
+                  timing,
+                  subEvents,
+                  stopwatch));
+      journalCopy = copy;
+    }
+    return copy.event;
+  }
+
   public ServeEvent withStubMapping(StubMapping stubMapping) {
     return new ServeEvent(
         id, request, stubMapping, responseDefinition, response, false, timing, subEvents);
@@ -224,4 +256,14 @@ public class ServeEvent {
         ? stubMapping.getResponse().getTransformerParameters()
         : Parameters.empty();
   }
+
+  private static class JournalCopy {
+    final JournalPolicy policy;
+    final ServeEvent event;
+
+    JournalCopy(JournalPolicy policy, ServeEvent event) {
+      this.policy = policy;
+      this.event = event;
+    }
+  }
 }
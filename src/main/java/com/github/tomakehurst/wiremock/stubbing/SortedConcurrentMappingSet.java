@@ -15,8 +15,11 @@
  */
 package com.github.tomakehurst.wiremock.stubbing;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -31,7 +34,7 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
     mappingSet = new ConcurrentSkipListSet<>(sortedByPriorityThenReverseInsertionOrder());
   }
 
-  private Comparator<StubMapping> sortedByPriorityThenReverseInsertionOrder() {
+  public static Comparator<StubMapping> sortedByPriorityThenReverseInsertionOrder() {
     return (one, two) -> {
       int priorityComparison = one.comparePriorityWith(two);
       if (priorityComparison != 0) {
@@ -56,6 +59,18 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
     mappingSet.add(mapping);
   }
 
+  public void addAll(Collection<StubMapping> mappings) {
+    long firstIndex = insertionCount.getAndAdd(mappings.size());
+    for (StubMapping mapping : mappings) {
+      mapping.setInsertionIndex(firstIndex++);
+    }
+    mappingSet.addAll(mappings);
+  }
+
+  public boolean removeAll(final Set<UUID> ids) {
+    return mappingSet.removeIf(mapping -> ids.contains(mapping.getUuid()));
+  }
+
   public boolean remove(final StubMapping mappingToRemove) {
     boolean removedByUuid =
         mappingSet.removeIf(
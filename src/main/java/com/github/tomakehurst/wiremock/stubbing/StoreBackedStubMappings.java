@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
 import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
 import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import com.github.tomakehurst.wiremock.store.StubMappingStore;
 import java.util.List;
@@ -34,6 +35,26 @@ public class StoreBackedStubMappings extends AbstractStubMappings {
       Map<String, ResponseDefinitionTransformerV2> v2transformers,
       BlobStore filesBlobStore,
       List<StubLifecycleListener> stubLifecycleListeners) {
+    this(
+        store,
+        scenarios,
+        customMatchers,
+        transformers,
+        v2transformers,
+        filesBlobStore,
+        stubLifecycleListeners,
+        Metrics.DISABLED);
+  }
+
+  public StoreBackedStubMappings(
+      StubMappingStore store,
+      Scenarios scenarios,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Map<String, ResponseDefinitionTransformer> transformers,
+      Map<String, ResponseDefinitionTransformerV2> v2transformers,
+      BlobStore filesBlobStore,
+      List<StubLifecycleListener> stubLifecycleListeners,
+      Metrics metrics) {
     super(
         store,
         scenarios,
@@ -41,6 +62,7 @@ public class StoreBackedStubMappings extends AbstractStubMappings {
         transformers,
         v2transformers,
         filesBlobStore,
-        stubLifecycleListeners);
+        stubLifecycleListeners,
+        metrics);
   }
 }
@@ -26,8 +26,16 @@ public interface StubMappings {
 
   void addMapping(StubMapping mapping);
 
+  default void addMappings(List<StubMapping> mappings) {
+    mappings.forEach(this::addMapping);
+  }
+
   void removeMapping(StubMapping mapping);
 
+  default void removeMappings(List<StubMapping> mappings) {
+    mappings.forEach(this::removeMapping);
+  }
+
   void editMapping(StubMapping stubMapping);
 
   void reset();
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import com.github.tomakehurst.wiremock.common.Timing;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit counts and serve times per stub, kept independently of the request journal so that they are
+ * still available when the journal is disabled. Each stub's figures are held in {@link LongAdder}s
+ * and accumulators, so recording a hit never blocks other request threads, even when they are all
+ * hitting the same stub.
+ */
+public class StubStatistics implements ServeEventListener {
+
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder unmatched = new LongAdder();
+
+  @Override
+  public String getName() {
+    return "stub-statistics";
+  }
+
+  @Override
+  public void afterComplete(ServeEvent serveEvent, Parameters parameters) {
+    record(serveEvent);
+  }
+
+  public void record(ServeEvent serveEvent) {
+    StubMapping stubMapping = serveEvent.getStubMapping();
+    if (!serveEvent.getWasMatched() || stubMapping == null || stubMapping.getId() == null) {
+      unmatched.increment();
+      return;
+    }
+
+    Timing timing = serveEvent.getTiming();
+    Integer serveTime = timing != null ? timing.getServeTime() : null;
+    entries
+        .computeIfAbsent(stubMapping.getId(), id -> new Entry())
+        .record(System.currentTimeMillis(), serveTime != null ? serveTime : 0);
+  }
+
+  public StubStats get(UUID id) {
+    Entry entry = entries.get(id);
+    return entry != null ? entry.snapshot(id) : StubStats.none(id);
+  }
+
+  public long getUnmatched() {
+    return unmatched.sum();
+  }
+
+  public void remove(UUID id) {
+    entries.remove(id);
+  }
+
+  public void reset() {
+    entries.clear();
+    unmatched.reset();
+  }
+
+  private static class Entry {
+    final LongAdder hits = new LongAdder();
+    final LongAdder totalServeTimeMillis = new LongAdder();
+    final LongAccumulator maxServeTimeMillis = new LongAccumulator(Math::max, 0);
+    final LongAccumulator lastHitMillis = new LongAccumulator(Math::max, 0);
+
+    void record(long nowMillis, long serveTimeMillis) {
+      hits.increment();
+      totalServeTimeMillis.add(serveTimeMillis);
+      maxServeTimeMillis.accumulate(serveTimeMillis);
+      lastHitMillis.accumulate(nowMillis);
+    }
+
+    StubStats snapshot(UUID id) {
+      long lastHit = lastHitMillis.get();
+      return new StubStats(
+          id,
+          hits.sum(),
+          lastHit > 0 ? new Date(lastHit) : null,
+          totalServeTimeMillis.sum(),
+          maxServeTimeMillis.get());
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Date;
+import java.util.UUID;
+
+/** A snapshot of how often a stub has been matched and how long its responses took to serve. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StubStats {
+
+  private final UUID id;
+  private final long hits;
+  private final Date lastHit;
+  private final long totalServeTimeMillis;
+  private final long maxServeTimeMillis;
+
+  @JsonCreator
+  public StubStats(
+      @JsonProperty("id") UUID id,
+      @JsonProperty("hits") long hits,
+      @JsonProperty("lastHit") Date lastHit,
+      @JsonProperty("totalServeTimeMillis") long totalServeTimeMillis,
+      @JsonProperty("maxServeTimeMillis") long maxServeTimeMillis) {
+    this.id = id;
+    this.hits = hits;
+    this.lastHit = lastHit;
+    this.totalServeTimeMillis = totalServeTimeMillis;
+    this.maxServeTimeMillis = maxServeTimeMillis;
+  }
+
+  public static StubStats none(UUID id) {
+    return new StubStats(id, 0, null, 0, 0);
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public long getHits() {
+    return hits;
+  }
+
+  public Date getLastHit() {
+    return lastHit;
+  }
+
+  public long getTotalServeTimeMillis() {
+    return totalServeTimeMillis;
+  }
+
+  public long getMaxServeTimeMillis() {
+    return maxServeTimeMillis;
+  }
+
+  @JsonProperty(value = "meanServeTimeMillis", access = JsonProperty.Access.READ_ONLY)
+  public long getMeanServeTimeMillis() {
+    return hits > 0 ? totalServeTimeMillis / hits : 0;
+  }
+}
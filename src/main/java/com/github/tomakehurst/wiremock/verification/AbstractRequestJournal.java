@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.matching.RequestPattern.withReques
 import static java.util.stream.Collectors.toList;
 
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
@@ -56,6 +57,25 @@ public abstract class AbstractRequestJournal implements RequestJournal {
     return (int) getRequests().filter(thatMatch(requestPattern, customMatchers)).count();
   }
 
+  @Override
+  public int[] countRequestsMatching(List<RequestPattern> requestPatterns) {
+    List<Predicate<Request>> matchers =
+        requestPatterns.stream()
+            .map(requestPattern -> thatMatch(requestPattern, customMatchers))
+            .collect(toList());
+    int[] counts = new int[matchers.size()];
+    getRequests()
+        .forEach(
+            request -> {
+              for (int i = 0; i < counts.length; i++) {
+                if (matchers.get(i).test(request)) {
+                  counts[i]++;
+                }
+              }
+            });
+    return counts;
+  }
+
   @Override
   public List<LoggedRequest> getRequestsMatching(RequestPattern requestPattern) {
     List<LoggedRequest> loggedRequests =
@@ -103,7 +123,7 @@ public abstract class AbstractRequestJournal implements RequestJournal {
 
   @Override
   public List<ServeEvent> getAllServeEvents() {
-    return store.getAll().collect(toList());
+    return store.getAllAsList();
   }
 
   @Override
@@ -116,13 +136,18 @@ public abstract class AbstractRequestJournal implements RequestJournal {
     store.clear();
   }
 
+  @Override
+  public void close() {
+    store.close();
+  }
+
   private Stream<LoggedRequest> getRequests() {
     return store.getAll().map(ServeEvent::getRequest);
   }
 
   private void removeOldEntries() {
     if (maxEntries != null) {
-      while (store.getAllKeys().count() > maxEntries) {
+      while (store.size() > maxEntries) {
         store.removeLast();
       }
     }
@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Wraps a {@link RequestJournal} so that recording served requests happens on a background thread
+ * instead of on the request thread before the response is sent.
+ *
+ * <p>Serve events are handed to the appender via a bounded queue. If the queue is full the request
+ * thread waits for space rather than dropping the event, so the journal stays complete. Every read,
+ * reset and removal first waits until everything queued before it has been appended, so
+ * verification sees all requests whose responses have been sent.
+ *
+ * <p>The appender thread is started by the first event and stopped by {@link #close()}, which
+ * queues a stop marker behind any pending events and waits for the thread to reach it. An event
+ * recorded after closing starts it again.
+ */
+public class AsyncRequestJournal implements RequestJournal {
+
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 10_000;
+
+  private static final Runnable STOP = () -> {};
+
+  private final RequestJournal delegate;
+  private final BlockingQueue<Runnable> queue;
+  private volatile Thread appender;
+
+  public AsyncRequestJournal(RequestJournal delegate) {
+    this(delegate, DEFAULT_MAX_QUEUE_SIZE);
+  }
+
+  public AsyncRequestJournal(RequestJournal delegate, int maxQueueSize) {
+    this.delegate = delegate;
+    this.queue = new ArrayBlockingQueue<>(maxQueueSize);
+  }
+
+  @Override
+  public void requestReceived(ServeEvent serveEvent) {
+    enqueue(() -> delegate.requestReceived(serveEvent));
+  }
+
+  @Override
+  public void serveCompleted(ServeEvent serveEvent) {
+    enqueue(() -> delegate.serveCompleted(serveEvent));
+  }
+
+  /** Blocks until every serve event enqueued before this call has been appended. */
+  public void flush() {
+    Thread currentAppender = appender;
+    if (currentAppender == null) {
+      drainIfStopped();
+      return;
+    }
+    if (Thread.currentThread() == currentAppender) {
+      return;
+    }
+
+    CountDownLatch flushed = new CountDownLatch(1);
+    enqueue(flushed::countDown);
+
+    boolean interrupted = false;
+    while (true) {
+      try {
+        flushed.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public int countRequestsMatching(RequestPattern requestPattern) {
+    flush();
+    return delegate.countRequestsMatching(requestPattern);
+  }
+
+  @Override
+  public int[] countRequestsMatching(List<RequestPattern> requestPatterns) {
+    flush();
+    return delegate.countRequestsMatching(requestPatterns);
+  }
+
+  @Override
+  public List<LoggedRequest> getRequestsMatching(RequestPattern requestPattern) {
+    flush();
+    return delegate.getRequestsMatching(requestPattern);
+  }
+
+  @Override
+  public List<ServeEvent> getAllServeEvents() {
+    flush();
+    return delegate.getAllServeEvents();
+  }
+
+  @Override
+  public Optional<ServeEvent> getServeEvent(UUID id) {
+    flush();
+    return delegate.getServeEvent(id);
+  }
+
+  @Override
+  public void reset() {
+    flush();
+    delegate.reset();
+  }
+
+  @Override
+  public void removeEvent(UUID eventId) {
+    flush();
+    delegate.removeEvent(eventId);
+  }
+
+  @Override
+  public List<ServeEvent> removeEventsMatching(RequestPattern requestPattern) {
+    flush();
+    return delegate.removeEventsMatching(requestPattern);
+  }
+
+  @Override
+  public List<ServeEvent> removeServeEventsForStubsMatchingMetadata(
+      StringValuePattern metadataPattern) {
+    flush();
+    return delegate.removeServeEventsForStubsMatchingMetadata(metadataPattern);
+  }
+
+  /** Appends everything queued so far, then stops the appender thread. */
+  @Override
+  public synchronized void close() {
+    Thread stopping = appender;
+    if (stopping != null) {
+      putUninterruptibly(STOP);
+      joinUninterruptibly(stopping);
+      appender = null;
+    }
+
+    // Anything queued behind the stop marker by a request thread that saw the old appender
+    drain();
+    delegate.close();
+  }
+
+  private void startAppenderIfStopped() {
+    if (appender == null) {
+      synchronized (this) {
+        if (appender == null) {
+          Thread thread = new Thread(this::appendLoop, "wiremock-journal-appender");
+          thread.setDaemon(true);
+          appender = thread;
+          thread.start();
+        }
+      }
+    }
+  }
+
+  private void enqueue(Runnable work) {
+    startAppenderIfStopped();
+    putUninterruptibly(work);
+
+    // The appender may have been stopped after this thread started it or saw it running
+    if (appender == null) {
+      drainIfStopped();
+    }
+  }
+
+  private synchronized void drainIfStopped() {
+    if (appender == null) {
+      drain();
+    }
+  }
+
+  private void drain() {
+    Runnable work;
+    while ((work = queue.poll()) != null) {
+      run(work);
+    }
+  }
+
+  private void putUninterruptibly(Runnable work) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        queue.put(work);
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void joinUninterruptibly(Thread thread) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        thread.join();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void appendLoop() {
+    while (true) {
+      Runnable work;
+      try {
+        work = queue.take();
+      } catch (InterruptedException e) {
+        continue;
+      }
+
+      if (work == STOP) {
+        return;
+      }
+      run(work);
+    }
+  }
+
+  private static void run(Runnable work) {
+    try {
+      work.run();
+    } catch (Exception e) {
+      notifier().error("Failed to record request in the request journal", e);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.client.CountMatchingStrategy;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import java.util.List;
+
+/**
+ * A list of request patterns to be counted against the request journal in a single pass. Each
+ * pattern may carry the count it is expected to match, in which case the server also decides
+ * whether it passed and returns near misses for those that did not.
+ */
+public class BatchVerification {
+
+  private final List<Item> verifications;
+
+  @JsonCreator
+  public BatchVerification(@JsonProperty("verifications") List<Item> verifications) {
+    this.verifications = verifications;
+  }
+
+  public List<Item> getVerifications() {
+    return verifications;
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class Item {
+
+    private final RequestPattern requestPattern;
+    private final CountMatchingStrategy count;
+
+    @JsonCreator
+    public Item(
+        @JsonProperty("requestPattern") RequestPattern requestPattern,
+        @JsonProperty("count") CountMatchingStrategy count) {
+      this.requestPattern = requestPattern;
+      this.count = count;
+    }
+
+    public RequestPattern getRequestPattern() {
+      return requestPattern;
+    }
+
+    /** The expected count, or null if the caller will evaluate the count itself. */
+    public CountMatchingStrategy getCount() {
+      return count;
+    }
+  }
+}
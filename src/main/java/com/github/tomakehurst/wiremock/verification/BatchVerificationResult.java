@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static java.util.Collections.emptyList;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public class BatchVerificationResult extends JournalBasedResult {
+
+  private final List<Item> results;
+
+  @JsonCreator
+  public BatchVerificationResult(
+      @JsonProperty("results") List<Item> results,
+      @JsonProperty("requestJournalDisabled") boolean requestJournalDisabled) {
+    super(requestJournalDisabled);
+    this.results = results;
+  }
+
+  public static BatchVerificationResult withResults(List<Item> results) {
+    return new BatchVerificationResult(results, false);
+  }
+
+  public static BatchVerificationResult withRequestJournalDisabled() {
+    return new BatchVerificationResult(emptyList(), true);
+  }
+
+  public List<Item> getResults() {
+    return results;
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class Item {
+
+    private final int count;
+    private final Boolean matched;
+    private final List<NearMiss> nearMisses;
+
+    @JsonCreator
+    public Item(
+        @JsonProperty("count") int count,
+        @JsonProperty("matched") Boolean matched,
+        @JsonProperty("nearMisses") List<NearMiss> nearMisses) {
+      this.count = count;
+      this.matched = matched;
+      this.nearMisses = nearMisses;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    /** Whether the count was as expected, or null if no expected count was given. */
+    public Boolean getMatched() {
+      return matched;
+    }
+
+    /** Near misses for a failed verification that matched no requests at all, otherwise null. */
+    public List<NearMiss> getNearMisses() {
+      return nearMisses;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import com.github.tomakehurst.wiremock.common.Limit;
+import com.github.tomakehurst.wiremock.common.Metadata;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which serve events are kept in the request journal and how much of each request is kept.
+ * Events can be sampled, restricted to matched or unmatched requests, or excluded per stub by
+ * setting the {@value #EXCLUDE_FROM_JOURNAL} metadata attribute to true. Retained requests can have
+ * their bodies truncated and their headers filtered by allow and deny lists.
+ *
+ * <p>Sampling is decided from the serve event ID, so the same event is always either kept or
+ * dropped however many times the policy is asked.
+ */
+public class JournalPolicy {
+
+  public static final String EXCLUDE_FROM_JOURNAL = "excludeFromJournal";
+
+  public static final JournalPolicy DEFAULT = builder().build();
+
+  private static final int SAMPLE_BUCKETS = 10_000;
+
+  public enum Retention {
+    ALL,
+    MATCHED,
+    UNMATCHED
+  }
+
+  private final double sampleRate;
+  private final Retention retention;
+  private final Limit maxRequestBodySize;
+  private final Set<String> allowedHeaders;
+  private final Set<String> deniedHeaders;
+
+  private JournalPolicy(
+      double sampleRate,
+      Retention retention,
+      Limit maxRequestBodySize,
+      Set<String> allowedHeaders,
+      Set<String> deniedHeaders) {
+    this.sampleRate = sampleRate;
+    this.retention = retention;
+    this.maxRequestBodySize = maxRequestBodySize;
+    this.allowedHeaders = allowedHeaders;
+    this.deniedHeaders = deniedHeaders;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public boolean shouldRecord(ServeEvent serveEvent) {
+    StubMapping stubMapping = serveEvent.getStubMapping();
+    Metadata metadata = stubMapping != null ? stubMapping.getMetadata() : null;
+    if (metadata != null && Boolean.TRUE.equals(metadata.getBoolean(EXCLUDE_FROM_JOURNAL, false))) {
+      return false;
+    }
+
+    boolean matched = !serveEvent.isNoExactMatch();
+    if ((retention == Retention.MATCHED && !matched)
+        || (retention == Retention.UNMATCHED && matched)) {
+      return false;
+    }
+
+    if (sampleRate >= 1) {
+      return true;
+    }
+    return Math.floorMod(serveEvent.getId().hashCode(), SAMPLE_BUCKETS)
+        < sampleRate * SAMPLE_BUCKETS;
+  }
+
+  /**
+   * @return true if retained requests are stored with less than their full body or headers
+   */
+  public boolean trimsRequests() {
+    return !maxRequestBodySize.isUnlimited() || allowedHeaders != null || !deniedHeaders.isEmpty();
+  }
+
+  public boolean allowsHeader(String name) {
+    String key = name.toLowerCase(Locale.ROOT);
+    return (allowedHeaders == null || allowedHeaders.contains(key)) && !deniedHeaders.contains(key);
+  }
+
+  public double getSampleRate() {
+    return sampleRate;
+  }
+
+  public Retention getRetention() {
+    return retention;
+  }
+
+  public Limit getMaxRequestBodySize() {
+    return maxRequestBodySize;
+  }
+
+  public static class Builder {
+
+    private double sampleRate = 1;
+    private Retention retention = Retention.ALL;
+    private Limit maxRequestBodySize = Limit.UNLIMITED;
+    private Set<String> allowedHeaders;
+    private Set<String> deniedHeaders = Set.of();
+
+    /**
+     * @param sampleRate the proportion of serve events to keep, between 0 and 1
+     */
+    public Builder sampleRate(double sampleRate) {
+      if (sampleRate < 0 || sampleRate > 1) {
+        throw new IllegalArgumentException("Journal sample rate must be between 0 and 1");
+      }
+      this.sampleRate = sampleRate;
+      return this;
+    }
+
+    public Builder retention(Retention retention) {
+      this.retention = retention;
+      return this;
+    }
+
+    public Builder maxRequestBodySize(Limit maxRequestBodySize) {
+      this.maxRequestBodySize = maxRequestBodySize;
+      return this;
+    }
+
+    /**
+     * @param allowedHeaders the only request headers to keep, or null to keep all but those denied
+     */
+    public Builder allowedHeaders(Collection<String> allowedHeaders) {
+      this.allowedHeaders = allowedHeaders != null ? lowerCase(allowedHeaders) : null;
+      return this;
+    }
+
+    public Builder deniedHeaders(Collection<String> deniedHeaders) {
+      this.deniedHeaders = lowerCase(deniedHeaders);
+      return this;
+    }
+
+    private static Set<String> lowerCase(Collection<String> headerNames) {
+      return headerNames.stream()
+          .map(name -> name.trim().toLowerCase(Locale.ROOT))
+          .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public JournalPolicy build() {
+      return new JournalPolicy(
+          sampleRate, retention, maxRequestBodySize, allowedHeaders, deniedHeaders);
+    }
+  }
+}
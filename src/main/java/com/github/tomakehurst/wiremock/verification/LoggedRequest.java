@@ -26,8 +26,12 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import com.fasterxml.jackson.annotation.*;
 import com.github.tomakehurst.wiremock.common.Dates;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.Lazy;
+import com.github.tomakehurst.wiremock.common.Limit;
 import com.github.tomakehurst.wiremock.common.Urls;
 import com.github.tomakehurst.wiremock.http.*;
+import com.github.tomakehurst.wiremock.http.multipart.PartParser;
+import com.github.tomakehurst.wiremock.http.multipart.PartParsingRequest;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.*;
@@ -49,7 +53,8 @@ public class LoggedRequest implements Request {
   private final byte[] body;
   private final boolean isBrowserProxyRequest;
   private final Date loggedDate;
-  private final Collection<Part> multiparts;
+  private final Lazy<Collection<Part>> multiparts;
+  private final PartParser partParser;
   private final String protocol;
 
   public static LoggedRequest createFrom(Request request) {
@@ -66,9 +71,78 @@ public class LoggedRequest implements Request {
         request.isBrowserProxyRequest(),
         new Date(),
         request.getBody(),
-        request.getParts(),
+        partsDerivedFromBody(request) ? null : request.getParts(),
         request.getProtocol(),
-        request.formParameters());
+        request.formParameters(),
+        partParserFor(request));
+  }
+
+  /**
+   * Copies a request for the journal, truncating its body and filtering its headers as the policy
+   * requires. Multipart parts and form parameters are dropped along with a truncated body, since
+   * they could no longer be parsed from it.
+   */
+  public static LoggedRequest createFrom(Request request, JournalPolicy policy) {
+    if (!policy.trimsRequests()) {
+      return request instanceof LoggedRequest ? (LoggedRequest) request : createFrom(request);
+    }
+
+    byte[] body = request.getBody();
+    Limit maxBodySize = policy.getMaxRequestBodySize();
+    boolean truncated = body != null && maxBodySize.isExceededBy(body.length);
+
+    HttpHeaders headers = request.getHeaders();
+    if (headers != null) {
+      List<HttpHeader> retainedHeaders = new ArrayList<>();
+      for (HttpHeader header : headers.all()) {
+        if (policy.allowsHeader(header.key())) {
+          retainedHeaders.add(header);
+        }
+      }
+      headers = new HttpHeaders(retainedHeaders);
+    }
+
+    Collection<Part> parts;
+    if (truncated) {
+      parts = Collections.emptyList();
+    } else if (partsDerivedFromBody(request) || request instanceof LoggedRequest) {
+      parts = null;
+    } else {
+      parts = request.getParts();
+    }
+
+    return new LoggedRequest(
+        request.getScheme(),
+        request.getHost(),
+        request.getPort(),
+        request.getUrl(),
+        request.getAbsoluteUrl(),
+        request.getMethod(),
+        request.getClientIp(),
+        headers,
+        policy.allowsHeader("Cookie") ? request.getCookies() : Collections.emptyMap(),
+        request.isBrowserProxyRequest(),
+        request instanceof LoggedRequest ? ((LoggedRequest) request).getLoggedDate() : new Date(),
+        truncated ? Arrays.copyOf(body, maxBodySize.getValue()) : body,
+        parts,
+        request.getProtocol(),
+        truncated ? Collections.emptyMap() : request.formParameters(),
+        partParserFor(request));
+  }
+
+  // Parts of a servlet request are parsed from nothing but its body and headers, so they can be
+  // parsed on demand from the copies held here instead of for every request up front
+  private static boolean partsDerivedFromBody(Request request) {
+    return request instanceof PartParsingRequest;
+  }
+
+  private static PartParser partParserFor(Request request) {
+    if (request instanceof PartParsingRequest) {
+      return ((PartParsingRequest) request).getPartParser();
+    }
+    return request instanceof LoggedRequest
+        ? ((LoggedRequest) request).partParser
+        : PartParser.DEFAULT;
   }
 
   @JsonCreator
@@ -100,7 +174,8 @@ public class LoggedRequest implements Request {
         decodeBase64(bodyAsBase64),
         multiparts,
         protocol,
-        new HashMap<>());
+        new HashMap<>(),
+        PartParser.DEFAULT);
   }
 
   private LoggedRequest(
@@ -118,7 +193,8 @@ public class LoggedRequest implements Request {
       byte[] body,
       Collection<Part> multiparts,
       String protocol,
-      Map<String, FormParameter> formParameters) {
+      Map<String, FormParameter> formParameters,
+      PartParser partParser) {
     this.url = url;
 
     this.absoluteUrl = absoluteUrl;
@@ -142,7 +218,10 @@ public class LoggedRequest implements Request {
     this.formParameters = formParameters;
     this.isBrowserProxyRequest = isBrowserProxyRequest;
     this.loggedDate = loggedDate;
-    this.multiparts = multiparts;
+    this.partParser = partParser;
+    this.multiparts =
+        Lazy.lazy(
+            () -> multiparts != null || !isMultipartContentType() ? multiparts : parseParts());
     this.protocol = protocol;
   }
 
@@ -308,23 +387,33 @@ public class LoggedRequest implements Request {
   @JsonIgnore
   @Override
   public boolean isMultipart() {
-    return (multiparts != null && !multiparts.isEmpty());
+    Collection<Part> parts = multiparts.get();
+    return (parts != null && !parts.isEmpty());
+  }
+
+  // Matches the servlet request, which has no parts rather than an empty collection of them
+  private Collection<Part> parseParts() {
+    Collection<Part> parts = partParser.parse(this);
+    return parts.isEmpty() ? null : parts;
+  }
+
+  private boolean isMultipartContentType() {
+    String contentType = getHeader(ContentTypeHeader.KEY);
+    return body != null && contentType != null && contentType.contains("multipart/");
   }
 
   @JsonIgnore
   @Override
   public Collection<Part> getParts() {
-    return multiparts;
+    return multiparts.get();
   }
 
   @JsonIgnore
   @Override
   public Part getPart(final String name) {
-    return (multiparts != null && name != null)
-        ? multiparts.stream()
-            .filter(input -> (name.equals(input.getName())))
-            .findFirst()
-            .orElse(null)
+    Collection<Part> parts = getParts();
+    return (parts != null && name != null)
+        ? parts.stream().filter(input -> (name.equals(input.getName()))).findFirst().orElse(null)
         : null;
   }
 }
@@ -26,6 +26,10 @@ public interface RequestJournal {
 
   int countRequestsMatching(RequestPattern requestPattern);
 
+  default int[] countRequestsMatching(List<RequestPattern> requestPatterns) {
+    return requestPatterns.stream().mapToInt(this::countRequestsMatching).toArray();
+  }
+
   List<LoggedRequest> getRequestsMatching(RequestPattern requestPattern);
 
   List<ServeEvent> getAllServeEvents();
@@ -43,4 +47,10 @@ public interface RequestJournal {
   List<ServeEvent> removeEventsMatching(RequestPattern requestPattern);
 
   List<ServeEvent> removeServeEventsForStubsMatchingMetadata(StringValuePattern metadataPattern);
+
+  /**
+   * Records anything still pending and releases any background resources. Events recorded
+   * afterwards are still accepted.
+   */
+  default void close() {}
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Wraps a {@link RequestJournal} so that only serve events selected by a {@link JournalPolicy} are
+ * recorded, each holding a copy of the request trimmed according to the policy.
+ *
+ * <p>The policy is applied here rather than when the serve event is created, because request
+ * matching, serve event listeners and webhooks all still need the full request. The trimmed copy is
+ * made once per event, when it is received, and reused when the serve completes.
+ */
+public class SelectiveRequestJournal implements RequestJournal {
+
+  private final RequestJournal delegate;
+  private final JournalPolicy policy;
+
+  public SelectiveRequestJournal(RequestJournal delegate, JournalPolicy policy) {
+    this.delegate = delegate;
+    this.policy = policy;
+  }
+
+  @Override
+  public void requestReceived(ServeEvent serveEvent) {
+    if (policy.shouldRecord(serveEvent)) {
+      delegate.requestReceived(serveEvent.forJournal(policy));
+    }
+  }
+
+  @Override
+  public void serveCompleted(ServeEvent serveEvent) {
+    if (policy.shouldRecord(serveEvent)) {
+      delegate.serveCompleted(serveEvent.forJournal(policy));
+    }
+  }
+
+  @Override
+  public int countRequestsMatching(RequestPattern requestPattern) {
+    return delegate.countRequestsMatching(requestPattern);
+  }
+
+  @Override
+  public int[] countRequestsMatching(List<RequestPattern> requestPatterns) {
+    return delegate.countRequestsMatching(requestPatterns);
+  }
+
+  @Override
+  public List<LoggedRequest> getRequestsMatching(RequestPattern requestPattern) {
+    return delegate.getRequestsMatching(requestPattern);
+  }
+
+  @Override
+  public List<ServeEvent> getAllServeEvents() {
+    return delegate.getAllServeEvents();
+  }
+
+  @Override
+  public Optional<ServeEvent> getServeEvent(UUID id) {
+    return delegate.getServeEvent(id);
+  }
+
+  @Override
+  public void reset() {
+    delegate.reset();
+  }
+
+  @Override
+  public void removeEvent(UUID eventId) {
+    delegate.removeEvent(eventId);
+  }
+
+  @Override
+  public List<ServeEvent> removeEventsMatching(RequestPattern requestPattern) {
+    return delegate.removeEventsMatching(requestPattern);
+  }
+
+  @Override
+  public List<ServeEvent> removeServeEventsForStubsMatchingMetadata(
+      StringValuePattern metadataPattern) {
+    return delegate.removeServeEventsForStubsMatchingMetadata(metadataPattern);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import com.github.tomakehurst.wiremock.core.Options;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes each completed serve event to any number of subscribers, so that they can observe traffic
+ * as it happens instead of repeatedly polling the request journal.
+ *
+ * <p>Every subscription has its own bounded buffer and optional request pattern filter. Publishing
+ * never blocks the request thread: if a subscriber falls behind and its buffer is full, further
+ * events are dropped for that subscriber and counted. The number of subscribers is capped, since
+ * each streaming connection holds a server thread for as long as it stays open.
+ */
+public class ServeEventBroadcaster implements ServeEventListener {
+
+  public static final int DEFAULT_BUFFER_SIZE = 1000;
+
+  private static final ServeEvent CLOSED =
+      new ServeEvent(new UUID(0, 0), null, null, null, null, false, null, null);
+
+  private final Map<String, RequestMatcherExtension> customMatchers;
+  private final int maxSubscribers;
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  public ServeEventBroadcaster(Map<String, RequestMatcherExtension> customMatchers) {
+    this(customMatchers, Options.DEFAULT_MAX_EVENT_STREAM_SUBSCRIBERS);
+  }
+
+  public ServeEventBroadcaster(
+      Map<String, RequestMatcherExtension> customMatchers, int maxSubscribers) {
+    this.customMatchers = customMatchers;
+    this.maxSubscribers = maxSubscribers;
+  }
+
+  @Override
+  public String getName() {
+    return "serve-event-broadcaster";
+  }
+
+  @Override
+  public void afterComplete(ServeEvent serveEvent, Parameters parameters) {
+    for (Subscription subscription : subscriptions) {
+      subscription.offer(serveEvent);
+    }
+  }
+
+  /**
+   * @param filter only events whose request matches are delivered, or all events if null
+   * @return the new subscription, or empty if the maximum number of subscribers is already reached
+   */
+  public synchronized Optional<Subscription> subscribe(RequestPattern filter, int bufferSize) {
+    if (subscriptions.size() >= maxSubscribers) {
+      return Optional.empty();
+    }
+
+    Subscription subscription = new Subscription(filter, bufferSize);
+    subscriptions.add(subscription);
+    return Optional.of(subscription);
+  }
+
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /** Ends every open subscription, e.g. so that streaming connections finish on shutdown. */
+  public void closeAll() {
+    subscriptions.forEach(Subscription::close);
+  }
+
+  public class Subscription implements AutoCloseable {
+
+    private final RequestPattern filter;
+    private final BlockingQueue<ServeEvent> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed;
+
+    private Subscription(RequestPattern filter, int bufferSize) {
+      this.filter = filter;
+      this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    private void offer(ServeEvent serveEvent) {
+      if (filter != null && !filter.match(serveEvent.getRequest(), customMatchers).isExactMatch()) {
+        return;
+      }
+
+      if (!buffer.offer(serveEvent)) {
+        dropped.incrementAndGet();
+      }
+    }
+
+    /**
+     * Waits up to the given time for the next event.
+     *
+     * @return the next event, or null if none arrived in time
+     * @throws IllegalStateException if the subscription has been closed
+     */
+    public ServeEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+      if (closed) {
+        throw new IllegalStateException("Subscription is closed");
+      }
+
+      ServeEvent serveEvent = buffer.poll(timeout, unit);
+      if (serveEvent == CLOSED) {
+        throw new IllegalStateException("Subscription is closed");
+      }
+      return serveEvent;
+    }
+
+    public boolean isClosed() {
+      return closed;
+    }
+
+    /** The number of events discarded so far because this subscriber's buffer was full. */
+    public long getDroppedCount() {
+      return dropped.get();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      subscriptions.remove(this);
+      buffer.clear();
+      buffer.offer(CLOSED);
+    }
+  }
+}
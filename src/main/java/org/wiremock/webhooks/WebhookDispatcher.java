@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.webhooks;
+
+import static com.github.tomakehurst.wiremock.core.Options.DEFAULT_MAX_PENDING_WEBHOOKS;
+import static com.github.tomakehurst.wiremock.core.Options.DEFAULT_WEBHOOK_THREADS;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.PHASE_DURATION;
+import static com.github.tomakehurst.wiremock.metrics.Metrics.PHASE_DURATION_HELP;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.metrics.Metrics;
+import com.github.tomakehurst.wiremock.metrics.Timer;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs webhook calls on a fixed number of threads, with a limit on how many may be pending
+ * (delayed, queued or in flight) at once. Webhooks beyond the limit are dropped and counted rather
+ * than being allowed to pile up in memory. Connections to each target are reused by the pooled HTTP
+ * client the calls are made with.
+ *
+ * <p>The threads are started on first use and stopped by {@link #shutdown()}, which drops any
+ * webhooks still pending. Dispatching again after a shutdown starts new threads, so the dispatcher
+ * survives a server restart.
+ */
+public class WebhookDispatcher {
+
+  private static final String WEBHOOKS_PENDING = "wiremock_webhooks_pending";
+  private static final String WEBHOOKS_TOTAL = "wiremock_webhooks_total";
+  private static final String WEBHOOKS_TOTAL_HELP = "Webhooks finished or dropped, by outcome";
+
+  private final int threads;
+  private final int maxPending;
+  private ScheduledExecutorService delayScheduler;
+  private ThreadPoolExecutor executor;
+
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicLong completed = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong totalLatencyMillis = new AtomicLong();
+  private final AtomicLong maxLatencyMillis = new AtomicLong();
+  private final Timer timer;
+
+  public WebhookDispatcher() {
+    this(DEFAULT_WEBHOOK_THREADS, DEFAULT_MAX_PENDING_WEBHOOKS);
+  }
+
+  public WebhookDispatcher(int threads, int maxPending) {
+    this(threads, maxPending, Metrics.DISABLED);
+  }
+
+  public WebhookDispatcher(int threads, int maxPending, Metrics metrics) {
+    this.threads = threads;
+    this.maxPending = maxPending;
+
+    this.timer = metrics.timer(PHASE_DURATION, PHASE_DURATION_HELP, "phase", "webhook");
+    metrics.gauge(WEBHOOKS_PENDING, "Webhooks delayed, queued or in flight", pending::get);
+    metrics.counterFunction(
+        WEBHOOKS_TOTAL, WEBHOOKS_TOTAL_HELP, completed::get, "outcome", "completed");
+    metrics.counterFunction(WEBHOOKS_TOTAL, WEBHOOKS_TOTAL_HELP, failed::get, "outcome", "failed");
+    metrics.counterFunction(
+        WEBHOOKS_TOTAL, WEBHOOKS_TOTAL_HELP, dropped::get, "outcome", "dropped");
+  }
+
+  /**
+   * Runs the call after the given delay.
+   *
+   * @return false if the webhook was dropped because too many are already pending
+   */
+  public boolean dispatch(WebhookCall call, long delayMillis) {
+    if (pending.incrementAndGet() > maxPending) {
+      pending.decrementAndGet();
+      dropped.incrementAndGet();
+      return false;
+    }
+
+    if (delayMillis > 0) {
+      delayScheduler()
+          .schedule(() -> executor().execute(() -> run(call)), delayMillis, MILLISECONDS);
+    } else {
+      executor().execute(() -> run(call));
+    }
+    return true;
+  }
+
+  private void run(WebhookCall call) {
+    long start = System.nanoTime();
+    try {
+      call.run();
+      completed.incrementAndGet();
+    } catch (Exception e) {
+      failed.incrementAndGet();
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      timer.record(elapsed);
+      long latency = TimeUnit.NANOSECONDS.toMillis(elapsed);
+      totalLatencyMillis.addAndGet(latency);
+      maxLatencyMillis.accumulateAndGet(latency, Math::max);
+      pending.decrementAndGet();
+    }
+  }
+
+  public Stats getStats() {
+    long completedCount = completed.get();
+    long failedCount = failed.get();
+    long finished = completedCount + failedCount;
+    return new Stats(
+        pending.get(),
+        completedCount,
+        failedCount,
+        dropped.get(),
+        finished > 0 ? totalLatencyMillis.get() / finished : 0,
+        maxLatencyMillis.get());
+  }
+
+  private synchronized ScheduledExecutorService delayScheduler() {
+    if (delayScheduler == null) {
+      delayScheduler =
+          Executors.newSingleThreadScheduledExecutor(daemonThreads("wiremock-webhook-scheduler"));
+    }
+    return delayScheduler;
+  }
+
+  private synchronized ThreadPoolExecutor executor() {
+    if (executor == null) {
+      executor =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              60,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              daemonThreads("wiremock-webhook"));
+      executor.allowCoreThreadTimeOut(true);
+    }
+    return executor;
+  }
+
+  public synchronized void shutdown() {
+    if (delayScheduler != null) {
+      discard(delayScheduler.shutdownNow());
+      delayScheduler = null;
+    }
+    if (executor != null) {
+      discard(executor.shutdownNow());
+      executor = null;
+    }
+  }
+
+  private void discard(List<Runnable> neverRun) {
+    pending.addAndGet(-neverRun.size());
+    dropped.addAndGet(neverRun.size());
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** A webhook call. Throwing counts the call as failed. */
+  @FunctionalInterface
+  public interface WebhookCall {
+    void run() throws Exception;
+  }
+
+  public static class Stats {
+
+    private final int pending;
+    private final long completed;
+    private final long failed;
+    private final long dropped;
+    private final long meanLatencyMillis;
+    private final long maxLatencyMillis;
+
+    public Stats(
+        @JsonProperty("pending") int pending,
+        @JsonProperty("completed") long completed,
+        @JsonProperty("failed") long failed,
+        @JsonProperty("dropped") long dropped,
+        @JsonProperty("meanLatencyMillis") long meanLatencyMillis,
+        @JsonProperty("maxLatencyMillis") long maxLatencyMillis) {
+      this.pending = pending;
+      this.completed = completed;
+      this.failed = failed;
+      this.dropped = dropped;
+      this.meanLatencyMillis = meanLatencyMillis;
+      this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+    public int getPending() {
+      return pending;
+    }
+
+    public long getCompleted() {
+      return completed;
+    }
+
+    public long getFailed() {
+      return failed;
+    }
+
+    public long getDropped() {
+      return dropped;
+    }
+
+    public long getMeanLatencyMillis() {
+      return meanLatencyMillis;
+    }
+
+    public long getMaxLatencyMillis() {
+      return maxLatencyMillis;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.webhooks;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Identifies a compiled webhook template in the {@link
+ * com.github.tomakehurst.wiremock.extension.responsetemplating.TemplateEngine} cache. The template
+ * content is part of the key so that edited stubs, or definitions altered by a {@link
+ * WebhookTransformer}, never pick up a stale template.
+ */
+class WebhookTemplateCacheKey {
+
+  enum WebhookElement {
+    URL,
+    METHOD,
+    HEADER,
+    BODY
+  }
+
+  private final UUID stubId;
+  private final WebhookElement element;
+  private final String name;
+  private final Integer index;
+  private final String content;
+
+  static WebhookTemplateCacheKey forUrl(UUID stubId, String content) {
+    return new WebhookTemplateCacheKey(stubId, WebhookElement.URL, null, null, content);
+  }
+
+  static WebhookTemplateCacheKey forMethod(UUID stubId, String content) {
+    return new WebhookTemplateCacheKey(stubId, WebhookElement.METHOD, null, null, content);
+  }
+
+  static WebhookTemplateCacheKey forHeader(
+      UUID stubId, String headerName, int valueIndex, String content) {
+    return new WebhookTemplateCacheKey(
+        stubId, WebhookElement.HEADER, headerName, valueIndex, content);
+  }
+
+  static WebhookTemplateCacheKey forBody(UUID stubId, String content) {
+    return new WebhookTemplateCacheKey(stubId, WebhookElement.BODY, null, null, content);
+  }
+
+  private WebhookTemplateCacheKey(
+      UUID stubId, WebhookElement element, String name, Integer index, String content) {
+    this.stubId = stubId;
+    this.element = element;
+    this.name = name;
+    this.index = index;
+    this.content = content;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    WebhookTemplateCacheKey that = (WebhookTemplateCacheKey) o;
+    return Objects.equals(stubId, that.stubId)
+        && element == that.element
+        && Objects.equals(name, that.name)
+        && Objects.equals(index, that.index)
+        && content.equals(that.content);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(stubId, element, name, index, content);
+  }
+
+  @Override
+  public String toString() {
+    return "WebhookTemplateCacheKey{"
+        + "stubId="
+        + stubId
+        + ", element="
+        + element
+        + ", name='"
+        + name
+        + '\''
+        + ", index="
+        + index
+        + '}';
+  }
+}
@@ -16,48 +16,96 @@
 package org.wiremock.webhooks;
 
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ObjectUtils.firstNonNull;
 
+import com.github.tomakehurst.wiremock.admin.Router;
 import com.github.tomakehurst.wiremock.common.*;
 import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
 import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.extension.PostServeAction;
 import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
 import com.github.tomakehurst.wiremock.extension.WireMockServices;
 import com.github.tomakehurst.wiremock.extension.responsetemplating.RequestTemplateModel;
 import com.github.tomakehurst.wiremock.extension.responsetemplating.TemplateEngine;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.http.client.HttpClient;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.*;
 import java.util.concurrent.ScheduledExecutorService;
 
 @SuppressWarnings("deprecation") // maintaining PostServeAction for backwards compatibility
-public class Webhooks extends PostServeAction implements ServeEventListener {
+public class Webhooks extends PostServeAction
+    implements ServeEventListener, AdminApiExtension, StubLifecycleListener {
 
-  private final ScheduledExecutorService scheduler;
+  private final WebhookDispatcher dispatcher;
   private final HttpClient httpClient;
   private final List<WebhookTransformer> transformers;
   private final TemplateEngine templateEngine;
 
   public Webhooks(
       WireMockServices wireMockServices,
-      ScheduledExecutorService scheduler,
+      WebhookDispatcher dispatcher,
       List<WebhookTransformer> transformers) {
 
-    this.scheduler = scheduler;
+    this.dispatcher = dispatcher;
     this.httpClient = wireMockServices.getDefaultHttpClient();
     this.transformers = transformers;
     this.templateEngine = wireMockServices.getTemplateEngine();
   }
 
+  /**
+   * @deprecated webhooks are now dispatched by a {@link WebhookDispatcher}, so the scheduler is not
+   *     used. Use {@link #Webhooks(WireMockServices, WebhookDispatcher, List)} instead.
+   */
+  @Deprecated
+  public Webhooks(
+      WireMockServices wireMockServices,
+      ScheduledExecutorService scheduler,
+      List<WebhookTransformer> transformers) {
+    this(wireMockServices, new WebhookDispatcher(), transformers);
+  }
+
   @Override
   public String getName() {
     return "webhook";
   }
 
+  @Override
+  public void contributeAdminApiRoutes(Router router) {
+    router.add(
+        GET,
+        "/webhooks/stats",
+        (admin, serveEvent, pathParams) -> ResponseDefinition.okForJson(dispatcher.getStats()));
+  }
+
+  public WebhookDispatcher.Stats getStats() {
+    return dispatcher.getStats();
+  }
+
+  public void shutdown() {
+    dispatcher.shutdown();
+  }
+
+  @Override
+  public void afterStubRemoved(StubMapping stub) {
+    templateEngine.invalidateCache();
+  }
+
+  @Override
+  public void afterStubsRemoved(List<StubMapping> stubs) {
+    templateEngine.invalidateCache();
+  }
+
+  @Override
+  public void afterStubsReset() {
+    templateEngine.invalidateCache();
+  }
+
   @Override
   public void afterComplete(ServeEvent serveEvent, Parameters parameters) {
     triggerWebhook(serveEvent, parameters);
@@ -87,41 +135,51 @@ public class Webhooks extends PostServeAction implements ServeEventListener {
     }
 
     final WebhookDefinition finalDefinition = definition;
-    scheduler.schedule(
-        () -> {
-          try {
-            Response response = httpClient.execute(request);
-            notifier.info(
-                String.format(
-                    "Webhook %s request to %s returned status %s\n\n%s",
-                    finalDefinition.getMethod(),
-                    finalDefinition.getUrl(),
-                    response.getStatus(),
-                    response.getBodyAsString()));
-          } catch (ProhibitedNetworkAddressException e) {
-            notifier.error(
-                String.format(
-                    "The target webhook address %s specified by stub %s is denied in WireMock's configuration.",
-                    finalDefinition.getUrl(),
-                    firstNonNull(
-                        serveEvent.getStubMapping().getName(),
-                        serveEvent.getStubMapping().getId(),
-                        "<no name or id>")));
-          } catch (Exception e) {
-            notifier.error(
-                String.format(
-                    "Failed to fire webhook %s %s",
-                    finalDefinition.getMethod(), finalDefinition.getUrl()),
-                e);
-          }
-        },
-        finalDefinition.getDelaySampleMillis(),
-        MILLISECONDS);
+    boolean accepted =
+        dispatcher.dispatch(
+            () -> {
+              try {
+                Response response = httpClient.execute(request);
+                notifier.info(
+                    String.format(
+                        "Webhook %s request to %s returned status %s\n\n%s",
+                        finalDefinition.getMethod(),
+                        finalDefinition.getUrl(),
+                        response.getStatus(),
+                        response.getBodyAsString()));
+              } catch (ProhibitedNetworkAddressException e) {
+                notifier.error(
+                    String.format(
+                        "The target webhook address %s specified by stub %s is denied in WireMock's configuration.",
+                        finalDefinition.getUrl(),
+                        firstNonNull(
+                            serveEvent.getStubMapping().getName(),
+                            serveEvent.getStubMapping().getId(),
+                            "<no name or id>")));
+                throw e;
+              } catch (Exception e) {
+                notifier.error(
+                    String.format(
+                        "Failed to fire webhook %s %s",
+                        finalDefinition.getMethod(), finalDefinition.getUrl()),
+                    e);
+                throw e;
+              }
+            },
+            finalDefinition.getDelaySampleMillis());
+
+    if (!accepted) {
+      notifier.error(
+          String.format(
+              "Dropped webhook %s %s because too many webhooks are pending",
+              finalDefinition.getMethod(), finalDefinition.getUrl()));
+    }
   }
 
   private WebhookDefinition applyTemplating(
       WebhookDefinition webhookDefinition, ServeEvent serveEvent) {
 
+    final UUID stubId = serveEvent.getStubMapping().getId();
     final Map<String, Object> model = new HashMap<>();
     model.put(
         "parameters",
@@ -132,29 +190,50 @@ public class Webhooks extends PostServeAction implements ServeEventListener {
 
     WebhookDefinition renderedWebhookDefinition =
         webhookDefinition
-            .withUrl(renderTemplate(model, webhookDefinition.getUrl()))
-            .withMethod(renderTemplate(model, webhookDefinition.getMethod()))
+            .withUrl(
+                renderTemplate(
+                    model,
+                    WebhookTemplateCacheKey.forUrl(stubId, webhookDefinition.getUrl()),
+                    webhookDefinition.getUrl()))
+            .withMethod(
+                renderTemplate(
+                    model,
+                    WebhookTemplateCacheKey.forMethod(stubId, webhookDefinition.getMethod()),
+                    webhookDefinition.getMethod()))
             .withHeaders(
                 webhookDefinition.getHeaders().all().stream()
-                    .map(
-                        header ->
-                            new HttpHeader(
-                                header.key(),
-                                header.values().stream()
-                                    .map(value -> renderTemplate(model, value))
-                                    .collect(toList())))
+                    .map(header -> renderHeader(model, stubId, header))
                     .collect(toList()));
 
     if (webhookDefinition.getBody() != null) {
       renderedWebhookDefinition =
-          webhookDefinition.withBody(renderTemplate(model, webhookDefinition.getBody()));
+          webhookDefinition.withBody(
+              renderTemplate(
+                  model,
+                  WebhookTemplateCacheKey.forBody(stubId, webhookDefinition.getBody()),
+                  webhookDefinition.getBody()));
     }
 
     return renderedWebhookDefinition;
   }
 
-  private String renderTemplate(Object context, String value) {
-    return templateEngine.getUncachedTemplate(value).apply(context);
+  private HttpHeader renderHeader(Object context, UUID stubId, HttpHeader header) {
+    List<String> values = header.values();
+    List<String> renderedValues = new ArrayList<>(values.size());
+    for (int i = 0; i < values.size(); i++) {
+      String value = values.get(i);
+      renderedValues.add(
+          renderTemplate(
+              context, WebhookTemplateCacheKey.forHeader(stubId, header.key(), i, value), value));
+    }
+    return new HttpHeader(header.key(), renderedValues);
+  }
+
+  private String renderTemplate(Object context, WebhookTemplateCacheKey key, String value) {
+    if (value == null) {
+      return null;
+    }
+    return templateEngine.getTemplate(key, value).apply(context);
   }
 
   private static Request buildRequest(WebhookDefinition definition) {
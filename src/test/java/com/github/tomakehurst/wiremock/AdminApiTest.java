@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.core.WireMockApp.FILES_ROOT;
 import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static com.github.tomakehurst.wiremock.testsupport.WireMatchers.equalsMultiLine;
 import static java.util.Arrays.asList;
+import static net.javacrumbs.jsonunit.JsonMatchers.jsonNodeAbsent;
 import static net.javacrumbs.jsonunit.JsonMatchers.jsonPartEquals;
 import static net.javacrumbs.jsonunit.JsonMatchers.jsonPartMatches;
 import static org.apache.hc.core5.http.ContentType.TEXT_PLAIN;
@@ -547,6 +548,52 @@ public class AdminApiTest extends AcceptanceTestBase {
             "errors[0].title", "Scenario my-scenario does not support state non-existent-state"));
   }
 
+  @Test
+  public void verifiesSeveralRequestPatternsInOneCall() {
+    testClient.get("/verify/one");
+    testClient.get("/verify/one");
+    testClient.get("/verify/two");
+
+    WireMockResponse response =
+        testClient.postJson(
+            "/__admin/requests/verify",
+            "{\n"
+                + "  \"verifications\": [\n"
+                + "    { \"requestPattern\": { \"url\": \"/verify/one\" },\n"
+                + "      \"count\": { \"mode\": \"EQUAL_TO\", \"expected\": 2 } },\n"
+                + "    { \"requestPattern\": { \"url\": \"/verify/two\" },\n"
+                + "      \"count\": { \"mode\": \"EQUAL_TO\", \"expected\": 5 } },\n"
+                + "    { \"requestPattern\": { \"url\": \"/verify/thre\" },\n"
+                + "      \"count\": { \"mode\": \"EQUAL_TO\", \"expected\": 1 } },\n"
+                + "    { \"requestPattern\": { \"url\": \"/verify/one\" } }\n"
+                + "  ]\n"
+                + "}");
+
+    assertThat(response.statusCode(), is(200));
+    String body = response.content();
+    assertThat(body, jsonPartEquals("requestJournalDisabled", false));
+    assertThat(body, jsonPartEquals("results[0].count", 2));
+    assertThat(body, jsonPartEquals("results[0].matched", true));
+    assertThat(body, jsonNodeAbsent("results[0].nearMisses"));
+    assertThat(body, jsonPartEquals("results[1].count", 1));
+    assertThat(body, jsonPartEquals("results[1].matched", false));
+    assertThat(body, jsonNodeAbsent("results[1].nearMisses"));
+    assertThat(body, jsonPartEquals("results[2].count", 0));
+    assertThat(body, jsonPartEquals("results[2].matched", false));
+    assertThat(body, jsonPartMatches("results[2].nearMisses", hasSize(greaterThan(0))));
+    assertThat(body, jsonPartEquals("results[3].count", 2));
+    assertThat(body, jsonNodeAbsent("results[3].matched"));
+  }
+
+  @Test
+  public void returnsBadEntityStatusWhenVerificationsAreMissing() {
+    WireMockResponse response = testClient.postJson("/__admin/requests/verify", "{}");
+
+    assertThat(response.statusCode(), is(422));
+    assertThat(
+        response.content(), jsonPartEquals("errors[0].source.pointer", "\"/verifications\""));
+  }
+
   @Test
   public void defaultsUnspecifiedStubMappingAttributes() {
     WireMockResponse response = testClient.postJson("/__admin/mappings", "{}");
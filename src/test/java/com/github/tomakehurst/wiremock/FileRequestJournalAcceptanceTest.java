@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileRequestJournalAcceptanceTest {
+
+  @TempDir Path journalDirectory;
+
+  WireMockServer wm;
+  WireMockTestClient testClient;
+
+  @BeforeEach
+  public void init() {
+    wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .requestJournalDirectory(journalDirectory.toString())
+                .maxRequestJournalEntries(100));
+    wm.start();
+    testClient = new WireMockTestClient(wm.port());
+  }
+
+  @AfterEach
+  public void stop() {
+    wm.stop();
+  }
+
+  @Test
+  public void verifiesAndPagesThroughRequestsHeldInSegmentFiles() {
+    wm.stubFor(get(urlPathMatching("/journalled/.*")).willReturn(ok()));
+
+    IntStream.range(0, 150).forEach(i -> testClient.get("/journalled/" + i));
+
+    wm.verify(100, getRequestedFor(urlPathMatching("/journalled/.*")));
+    assertThat(wm.getAllServeEvents().get(0).getRequest().getUrl(), is("/journalled/149"));
+    assertThat(
+        testClient.get("/__admin/requests?limit=2").content(),
+        containsString("\"url\" : \"/journalled/148\""));
+  }
+
+  @Test
+  public void deletesSegmentFilesWhenTheServerIsStopped() throws IOException {
+    testClient.get("/before-stop");
+
+    wm.stop();
+
+    try (Stream<Path> files = Files.list(journalDirectory)) {
+      assertThat(files.count(), is(0L));
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import org.junit.jupiter.api.Test;
+
+public class MetricsAcceptanceTest extends AcceptanceTestBase {
+
+  @Test
+  public void exposesRequestCountsAndPhaseTimingsInPrometheusFormat() {
+    stubFor(
+        get("/metered").willReturn(ok("{{request.path}}").withTransformers("response-template")));
+
+    testClient.get("/metered");
+    testClient.get("/not-stubbed");
+
+    WireMockResponse response = testClient.get("/__admin/metrics");
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.firstHeader("Content-Type"), startsWith("text/plain; version=0.0.4"));
+    String metrics = response.content();
+    assertThat(metrics, containsString("# TYPE wiremock_requests_total counter"));
+    assertThat(metrics, containsString("wiremock_requests_total{matched=\"false\"} 1"));
+    assertThat(metrics, containsString("# TYPE wiremock_phase_duration_seconds summary"));
+    assertThat(
+        metrics, containsString("wiremock_phase_duration_seconds_count{phase=\"matching\"}"));
+    assertThat(
+        metrics, containsString("wiremock_phase_duration_seconds{phase=\"rendering\",quantile="));
+    assertThat(
+        metrics,
+        containsString(
+            "wiremock_transformer_duration_seconds_count{transformer=\"response-template\"} 1"));
+    assertThat(metrics, containsString("wiremock_stub_mappings "));
+  }
+
+  @Test
+  public void rendersNothingWhenMetricsAreDisabled() {
+    WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort().disableMetrics());
+    server.start();
+    try {
+      WireMockTestClient client = new WireMockTestClient(server.port());
+      client.get("/anything");
+
+      WireMockResponse response = client.get("/__admin/metrics");
+
+      assertThat(response.statusCode(), is(200));
+      assertThat(response.content(), is(""));
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  public void exposesDnsCacheHitsAndMissesForProxiedRequests() {
+    WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort());
+    server.start();
+    try {
+      server.stubFor(get("/target").willReturn(ok("from target")));
+      server.stubFor(
+          get("/proxied")
+              .willReturn(
+                  aResponse().proxiedFrom("http://localhost:" + server.port() + "/target")));
+      WireMockTestClient client = new WireMockTestClient(server.port());
+      client.get("/proxied");
+      client.get("/proxied");
+
+      String metrics = client.get("/__admin/metrics").content();
+
+      assertThat(metrics, containsString("wiremock_dns_cache_lookups_total{result=\"miss\"} 1"));
+      assertThat(metrics, containsString("wiremock_dns_cache_lookups_total{result=\"hit\"} 1"));
+      assertThat(metrics, containsString("wiremock_dns_cache_entries 1"));
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  public void timesRenderingAndTransformingSeparatelyAndReportsJournalAndCacheSizes() {
+    WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort());
+    server.start();
+    try {
+      server.stubFor(
+          get("/templated")
+              .willReturn(ok("{{request.path}}").withTransformers("response-template")));
+      WireMockTestClient client = new WireMockTestClient(server.port());
+      client.get("/templated");
+      client.get("/templated");
+
+      String metrics = client.get("/__admin/metrics").content();
+
+      assertThat(
+          metrics, containsString("wiremock_phase_duration_seconds_count{phase=\"rendering\"} 2"));
+      assertThat(
+          metrics,
+          containsString("wiremock_phase_duration_seconds_count{phase=\"transforming\"} 2"));
+      assertThat(metrics, containsString("wiremock_request_journal_entries 2"));
+      assertThat(metrics, containsString("wiremock_template_cache_lookups_total{result=\"miss\"}"));
+      assertThat(metrics, containsString("wiremock_template_cache_lookups_total{result=\"hit\"}"));
+    } finally {
+      server.stop();
+    }
+  }
+}
@@ -40,6 +40,9 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.junit.jupiter.api.AfterEach;
@@ -147,6 +150,20 @@ public class NotMatchedPageAcceptanceTest {
         is("No response could be served as there are no stub mappings in this WireMock instance."));
   }
 
+  @Test
+  public void rendersAShortMessageInsteadOfADiffOnceTheRateLimitIsExceeded() {
+    configure(wireMockConfig().dynamicPort().maxNotMatchedDiffsPerSecond(1));
+    stubFor(get("/right").willReturn(ok()));
+
+    List<String> bodies =
+        IntStream.range(0, 3)
+            .mapToObj(i -> testClient.get("/wrong").content())
+            .collect(Collectors.toList());
+
+    assertThat(bodies, hasItem(containsString("Request was not matched")));
+    assertThat(bodies, hasItem(containsString("/right")));
+  }
+
   @Test
   public void supportsCustomNoMatchRenderer() {
     configure(
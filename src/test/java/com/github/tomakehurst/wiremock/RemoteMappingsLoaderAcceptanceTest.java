@@ -22,8 +22,11 @@ import static org.hamcrest.Matchers.is;
 
 import com.github.tomakehurst.wiremock.admin.model.SingleStubMappingResult;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.standalone.RemoteMappingsLoader;
 import java.io.File;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -106,4 +109,27 @@ public class RemoteMappingsLoaderAcceptanceTest extends AcceptanceTestBase {
         testClient.get("/todo/items").content(),
         is("<items><item>Buy milk</item><item>Cancel newspaper subscription</item></items>"));
   }
+
+  @Test
+  public void loadsMappingsInConcurrentBatchesAndReportsProgress() {
+    int stubCountBefore = wmClient.allStubMappings().getMappings().size();
+    AtomicInteger lastStubsUploaded = new AtomicInteger();
+    AtomicInteger totalFiles = new AtomicInteger();
+
+    new RemoteMappingsLoader(new SingleRootFileSource(rootDir), wmClient)
+        .batchSize(2)
+        .concurrency(3)
+        .progressListener(
+            (stubsUploaded, filesRead, total) -> {
+              lastStubsUploaded.accumulateAndGet(stubsUploaded, Math::max);
+              totalFiles.set(total);
+            })
+        .load();
+
+    int stubsLoaded = wmClient.allStubMappings().getMappings().size() - stubCountBefore;
+    assertThat(lastStubsUploaded.get(), is(stubsLoaded));
+    assertThat(totalFiles.get(), is(7));
+    assertThat(testClient.get("/remote-load/1").content(), is("Remote load 1"));
+    assertThat(testClient.get("/text-file").content(), is("Some text"));
+  }
 }
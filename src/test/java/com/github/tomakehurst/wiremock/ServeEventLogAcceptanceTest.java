@@ -21,8 +21,10 @@ import static com.github.tomakehurst.wiremock.testsupport.WireMatchers.hasExactl
 import static com.github.tomakehurst.wiremock.testsupport.WireMatchers.isToday;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 import com.github.tomakehurst.wiremock.admin.model.ServeEventQuery;
 import com.github.tomakehurst.wiremock.client.WireMock;
@@ -34,6 +36,11 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.testsupport.MappingJsonSamples;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
 import java.text.ParseException;
 import java.util.Date;
 import java.util.List;
@@ -48,6 +55,74 @@ public class ServeEventLogAcceptanceTest extends AcceptanceTestBase {
 
   static Stubbing dsl = wireMockServer;
 
+  @Test
+  public void streamsServeEventsAsRequestsComplete() throws Exception {
+    HttpURLConnection connection = openEventStream("GET", null);
+    try (BufferedReader events =
+        new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8))) {
+      assertThat(events.readLine(), is(": connected"));
+
+      testClient.get("/streamed/one");
+
+      String event = readNextEvent(events);
+      assertThat(event, containsString("event: serveEvent"));
+      assertThat(event, containsString("/streamed/one"));
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  @Test
+  public void streamsOnlyServeEventsMatchingThePostedRequestPattern() throws Exception {
+    HttpURLConnection connection =
+        openEventStream("POST", "{ \"method\": \"GET\", \"url\": \"/streamed/wanted\" }");
+    try (BufferedReader events =
+        new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8))) {
+      assertThat(events.readLine(), is(": connected"));
+
+      testClient.get("/streamed/unwanted");
+      testClient.get("/streamed/wanted");
+
+      String event = readNextEvent(events);
+      assertThat(event, containsString("/streamed/wanted"));
+      assertThat(event, not(containsString("/streamed/unwanted")));
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  private static HttpURLConnection openEventStream(String method, String requestPatternJson)
+      throws Exception {
+    HttpURLConnection connection =
+        (HttpURLConnection)
+            new URL("http://localhost:" + wireMockServer.port() + "/__admin/requests/stream")
+                .openConnection();
+    connection.setRequestMethod(method);
+    connection.setReadTimeout(5000);
+    if (requestPatternJson != null) {
+      connection.setDoOutput(true);
+      try (OutputStream out = connection.getOutputStream()) {
+        out.write(requestPatternJson.getBytes(UTF_8));
+      }
+    }
+    return connection;
+  }
+
+  private static String readNextEvent(BufferedReader events) throws Exception {
+    StringBuilder event = new StringBuilder();
+    String line;
+    while ((line = events.readLine()) != null) {
+      if (line.isEmpty()) {
+        if (event.length() > 0) {
+          return event.toString();
+        }
+      } else if (!line.startsWith(":")) {
+        event.append(line).append('\n');
+      }
+    }
+    return event.toString();
+  }
+
   @Test
   public void returnsRecordedRequestsMatchingOnMethodAndExactUrl() throws Exception {
     testClient.get("/return/this");
@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.testsupport.TestHttpHeader.withHeader;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -63,6 +64,29 @@ public class StubRequestLoggingAcceptanceTest extends AcceptanceTestBase {
     assertThat(notifier.infoMessages.size(), is(0));
   }
 
+  @Test
+  public void logsTheFullRequestAsynchronouslyWhenTheJournalKeepsATrimmedCopy() {
+    TestNotifier notifier = new TestNotifier();
+    WireMockServer wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .notifier(notifier)
+                .asyncLogging(true)
+                .excludeJournalRequestHeaders("X-Secret"));
+    wm.start();
+    testClient = new WireMockTestClient(wm.port());
+
+    wm.stubFor(get("/log-me").willReturn(ok("body")));
+
+    testClient.get("/log-me", withHeader("X-Secret", "shh"));
+    wm.stop();
+
+    assertThat(notifier.infoMessages.size(), is(1));
+    assertThat(notifier.infoMessages.get(0), containsString("X-Secret: [shh]"));
+    assertThat(wm.getAllServeEvents().get(0).getRequest().containsHeader("X-Secret"), is(false));
+  }
+
   public static class TestNotifier implements Notifier {
 
     final List<String> infoMessages = new ArrayList<>();
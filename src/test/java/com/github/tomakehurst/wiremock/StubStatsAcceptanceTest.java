@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.StubImport.stubImport;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.github.tomakehurst.wiremock.admin.model.ListStubStatsResult;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubStats;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class StubStatsAcceptanceTest {
+
+  @RegisterExtension
+  public WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(wireMockConfig().dynamicPort().disableRequestJournal())
+          .configureStaticDsl(true)
+          .failOnUnmatchedRequests(false)
+          .build();
+
+  WireMockTestClient testClient;
+
+  @BeforeEach
+  public void init() {
+    testClient = new WireMockTestClient(wm.getPort());
+  }
+
+  @Test
+  public void countsHitsPerStubWhenTheJournalIsDisabled() {
+    StubMapping hit = stubFor(get("/hit").willReturn(ok()));
+    StubMapping notHit = stubFor(get("/not-hit").willReturn(ok()));
+
+    testClient.get("/hit");
+    testClient.get("/hit");
+    testClient.get("/nothing-here");
+
+    StubStats hitStats = getSingleStubStats(hit.getId());
+    assertThat(hitStats.getHits(), is(2L));
+    assertThat(hitStats.getLastHit(), notNullValue());
+    assertThat(
+        hitStats.getTotalServeTimeMillis(), greaterThanOrEqualTo(hitStats.getMaxServeTimeMillis()));
+
+    StubStats notHitStats = getSingleStubStats(notHit.getId());
+    assertThat(notHitStats.getHits(), is(0L));
+    assertThat(notHitStats.getLastHit(), nullValue());
+
+    ListStubStatsResult all = listAllStubStats();
+    assertThat(all.getStats(), hasSize(2));
+    assertThat(all.getUnmatched(), is(1L));
+  }
+
+  @Test
+  public void resettingRequestsClearsStats() {
+    StubMapping stub = stubFor(get("/hit").willReturn(ok()));
+    testClient.get("/hit");
+
+    resetAllRequests();
+
+    assertThat(getSingleStubStats(stub.getId()).getHits(), is(0L));
+  }
+
+  @Test
+  public void stubsDeletedByAnImportLoseTheirStats() {
+    UUID id = UUID.randomUUID();
+    stubFor(get("/deleted").withId(id).willReturn(ok()));
+    testClient.get("/deleted");
+
+    importStubs(
+        stubImport().stub(get("/kept").willReturn(ok())).deleteAllExistingStubsNotInImport());
+    stubFor(get("/deleted").withId(id).willReturn(ok()));
+
+    assertThat(getSingleStubStats(id).getHits(), is(0L));
+  }
+
+  @Test
+  public void stubsRemovedByRequestPatternLoseTheirStats() {
+    UUID id = UUID.randomUUID();
+    stubFor(get("/removed").withId(id).willReturn(ok()));
+    testClient.get("/removed");
+
+    removeStub(get("/removed"));
+    stubFor(get("/removed").withId(id).willReturn(ok()));
+
+    assertThat(getSingleStubStats(id).getHits(), is(0L));
+  }
+
+  @Test
+  public void returnsNotFoundForAnUnknownStub() {
+    assertThat(
+        testClient.get("/__admin/mappings/" + UUID.randomUUID() + "/stats").statusCode(), is(404));
+  }
+}
@@ -33,6 +33,8 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.github.tomakehurst.wiremock.client.CountMatchingMode;
+import com.github.tomakehurst.wiremock.client.CountMatchingStrategy;
 import com.github.tomakehurst.wiremock.client.VerificationException;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.extension.Parameters;
@@ -69,6 +71,57 @@ public class VerificationAcceptanceTest {
       verify(getRequestedFor(urlEqualTo("/this/got/requested?query")));
     }
 
+    @Test
+    public void verifiesSeveralRequestPatternsInOneBatch() {
+      testClient.get("/batch/one");
+      testClient.get("/batch/two");
+      testClient.get("/batch/two");
+
+      verify(
+          verifications()
+              .verify(getRequestedFor(urlEqualTo("/batch/one")))
+              .verify(2, getRequestedFor(urlEqualTo("/batch/two")))
+              .verify(lessThan(1), postRequestedFor(urlEqualTo("/batch/one")))
+              .verify(
+                  new CountMatchingStrategy(
+                      new CountMatchingMode() {
+                        @Override
+                        public String getFriendlyName() {
+                          return "Odd";
+                        }
+
+                        @Override
+                        public boolean test(Integer actual, Integer expected) {
+                          return actual % 2 == 1;
+                        }
+                      },
+                      0),
+                  anyRequestedFor(urlMatching("/batch/.*"))));
+    }
+
+    @Test
+    public void reportsEveryFailureInABatch() {
+      testClient.get("/batch/one");
+      testClient.get("/batch/two");
+
+      VerificationException exception =
+          assertThrows(
+              VerificationException.class,
+              () ->
+                  verify(
+                      verifications()
+                          .verify(getRequestedFor(urlEqualTo("/batch/one")))
+                          .verify(3, getRequestedFor(urlEqualTo("/batch/two")))
+                          .verify(getRequestedFor(urlEqualTo("/batch/three")))));
+
+      assertThat(
+          exception.getMessage(),
+          allOf(
+              containsString("2 of 3 verifications failed"),
+              containsString("Expected exactly 3 requests matching"),
+              containsString("No requests exactly matched. Most similar request was:")));
+    }
+
     @Test
     public void anyRequestedForMatchesAnyHttpMethod() {
       testClient.get("/this/got/requested?query");
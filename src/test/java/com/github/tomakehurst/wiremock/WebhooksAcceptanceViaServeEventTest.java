@@ -248,6 +248,35 @@ public class WebhooksAcceptanceViaServeEventTest {
     assertThat(request.getBodyAsString(), is("Tom"));
   }
 
+  @Test
+  public void rendersCachedTemplatesAgainstEachTriggeringRequest() throws Exception {
+    latch = new CountDownLatch(2);
+    rule.stubFor(
+        post(urlPathEqualTo("/templating"))
+            .willReturn(ok())
+            .withServeEventListener(
+                "webhook",
+                webhook()
+                    .withMethod(POST)
+                    .withUrl(
+                        targetServer.baseUrl()
+                            + "{{{jsonPath originalRequest.body '$.callbackPath'}}}")
+                    .withHeader("X-Name", "{{jsonPath originalRequest.body '$.name'}}")
+                    .withBody("{{jsonPath originalRequest.body '$.name'}}")));
+
+    client.postJson("/templating", "{ \"callbackPath\": \"/callback/1\", \"name\": \"Tom\" }");
+    client.postJson("/templating", "{ \"callbackPath\": \"/callback/2\", \"name\": \"Sam\" }");
+
+    waitForRequestToTargetServer();
+
+    LoggedRequest first = targetServer.findAll(postRequestedFor(urlEqualTo("/callback/1"))).get(0);
+    LoggedRequest second = targetServer.findAll(postRequestedFor(urlEqualTo("/callback/2"))).get(0);
+    assertThat(first.header("X-Name").firstValue(), is("Tom"));
+    assertThat(first.getBodyAsString(), is("Tom"));
+    assertThat(second.header("X-Name").firstValue(), is("Sam"));
+    assertThat(second.getBodyAsString(), is("Sam"));
+  }
+
   @Test
   public void appliesTemplatingToUrlMethodHeadersAndBodyViaJSON() throws Exception {
     client.postJson(
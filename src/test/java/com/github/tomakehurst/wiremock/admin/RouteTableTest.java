@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin;
+
+import static com.github.tomakehurst.wiremock.admin.RequestSpec.requestSpec;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.ANY;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.DELETE;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.PUT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.github.tomakehurst.wiremock.admin.tasks.RootTask;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class RouteTableTest {
+
+  @Test
+  public void findsTheSameTaskAsSearchingTheRoutesInOrder() {
+    Map<RequestSpec, AdminTask> routes = new LinkedHashMap<>();
+    routes.put(requestSpec(GET, "/"), new RootTask());
+    routes.put(requestSpec(GET, "/mappings"), new RootTask());
+    routes.put(requestSpec(POST, "/mappings/remove"), new RootTask());
+    routes.put(requestSpec(GET, "/mappings/{id}"), new RootTask());
+    routes.put(requestSpec(DELETE, "/mappings/{id}"), new RootTask());
+    routes.put(requestSpec(GET, "/mappings/special"), new RootTask());
+    routes.put(requestSpec(PUT, "/files/**"), new RootTask());
+    routes.put(requestSpec(PUT, "/scenarios/{name}/state"), new RootTask());
+    routes.put(requestSpec(ANY, "/things/{id}"), new RootTask());
+    routes.put(requestSpec(GET, "/things/{id}-{version}"), new RootTask());
+    routes.put(requestSpec(GET, "/things/latest"), new RootTask());
+    routes.put(requestSpec(GET, "/certs/wiremock-ca.crt"), new RootTask());
+    routes.put(requestSpec(POST, "/**"), new RootTask());
+    RouteTable routeTable = new RouteTable(routes);
+
+    List<String> paths =
+        List.of(
+            "",
+            "/",
+            "/mappings",
+            "/mappings/",
+            "/mappings/remove",
+            "/mappings/special",
+            "/mappings/abc-123",
+            "/mappings/abc/def",
+            "/files",
+            "/files/",
+            "/files/a/b/c.json",
+            "/scenarios/my-scenario/state",
+            "/scenarios//state",
+            "/things/1",
+            "/things/1-2",
+            "/things/latest",
+            "/certs/wiremock-ca.crt",
+            "/certs/wiremock-ca.crtx",
+            "/nothing/here");
+
+    for (RequestMethod method : List.of(GET, POST, PUT, DELETE)) {
+      for (String path : paths) {
+        AdminTask expected =
+            routes.entrySet().stream()
+                .filter(entry -> entry.getKey().matches(method, path))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+
+        AdminTask actual = routeTable.find(method, path);
+
+        if (expected == null) {
+          assertThat(method + " " + path, actual, nullValue());
+        } else {
+          assertThat(method + " " + path, actual, sameInstance(expected));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void prefersTheFirstRegisteredRouteWhenSeveralMatch() {
+    AdminTask variable = new RootTask();
+    AdminTask literal = new RootTask();
+    Map<RequestSpec, AdminTask> routes = new LinkedHashMap<>();
+    routes.put(requestSpec(GET, "/requests/{id}"), variable);
+    routes.put(requestSpec(GET, "/requests/unmatched"), literal);
+
+    RouteTable routeTable = new RouteTable(routes);
+
+    assertThat(routeTable.find(GET, "/requests/unmatched"), is(variable));
+  }
+}
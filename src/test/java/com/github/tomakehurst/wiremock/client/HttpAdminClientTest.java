@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock.client;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.admin.model.GetScenariosResult;
@@ -91,4 +92,20 @@ public class HttpAdminClientTest {
     client.resetAll();
     server.stop();
   }
+
+  @Test
+  public void closingOneClientLeavesOthersUsable() {
+    var server = new WireMockServer(options().dynamicPort());
+    server.start();
+    var closed = new HttpAdminClient("localhost", server.port());
+    var open = new HttpAdminClient("localhost", server.port());
+    closed.resetAll();
+
+    closed.close();
+
+    open.resetAll();
+    assertThatThrownBy(closed::resetAll).isInstanceOf(Exception.class);
+    open.close();
+    server.stop();
+  }
 }
@@ -18,13 +18,18 @@ package com.github.tomakehurst.wiremock.client;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyOrNullString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -135,4 +140,29 @@ public class WireMockClientAcceptanceTest {
     assertThat(responseGet.statusCode(), is(404));
     assertThat(responseHead.statusCode(), is(404));
   }
+
+  @Test
+  void registersVerifiesFindsAndResetsAsynchronously() {
+    WireMock wireMock = WireMock.create().port(wireMockServer.port()).build();
+
+    CompletableFuture.allOf(
+            IntStream.range(0, 20)
+                .mapToObj(i -> wireMock.registerAsync(get("/async/" + i).willReturn(ok())))
+                .toArray(CompletableFuture[]::new))
+        .join();
+
+    IntStream.range(0, 20)
+        .forEach(i -> assertThat(testClient.get("/async/" + i).statusCode(), is(200)));
+
+    wireMock.verifyThatAsync(getRequestedFor(urlEqualTo("/async/3"))).join();
+    assertThat(wireMock.findAsync(getRequestedFor(urlMatching("/async/.*"))).join().size(), is(20));
+
+    wireMock.resetRequestsAsync().join();
+
+    CompletionException thrown =
+        assertThrows(
+            CompletionException.class,
+            () -> wireMock.verifyThatAsync(getRequestedFor(urlEqualTo("/async/3"))).join());
+    assertThat(thrown.getCause(), instanceOf(VerificationException.class));
+  }
 }
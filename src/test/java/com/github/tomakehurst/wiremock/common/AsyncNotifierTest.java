@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.testsupport.TestNotifier;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class AsyncNotifierTest {
+
+  TestNotifier delegate = new TestNotifier();
+
+  @Test
+  public void writesMessagesInOrderOnceFlushed() {
+    AsyncNotifier notifier = new AsyncNotifier(delegate);
+
+    notifier.info("one");
+    notifier.info(() -> "two");
+    notifier.error("three");
+    notifier.flush();
+
+    assertThat(delegate.getInfoMessages(), contains("one", "two"));
+    assertThat(delegate.getErrorMessages(), contains("three"));
+  }
+
+  @Test
+  public void buildsLazyMessagesOffTheCallingThread() {
+    AsyncNotifier notifier = new AsyncNotifier(delegate);
+    Thread caller = Thread.currentThread();
+
+    notifier.info(() -> "built on caller: " + (Thread.currentThread() == caller));
+    notifier.flush();
+
+    assertThat(delegate.getInfoMessages(), contains("built on caller: false"));
+  }
+
+  @Test
+  public void closeWritesPendingMessagesAndStopsTheWriterThread() {
+    AsyncNotifier notifier = new AsyncNotifier(delegate);
+    AtomicReference<Thread> writer = new AtomicReference<>();
+
+    notifier.info(
+        () -> {
+          writer.set(Thread.currentThread());
+          return "before close";
+        });
+    notifier.close();
+
+    assertThat(delegate.getInfoMessages(), contains("before close"));
+    assertThat(writer.get().isAlive(), is(false));
+
+    notifier.info("after close");
+    notifier.close();
+
+    assertThat(delegate.getInfoMessages(), contains("before close", "after close"));
+  }
+
+  @Test
+  public void dropsMessagesWhenQueueIsFull() throws Exception {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AsyncNotifier notifier = new AsyncNotifier(delegate, 2);
+
+    notifier.info(
+        () -> {
+          blocked.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return "slow";
+        });
+    blocked.await();
+
+    notifier.info("queued 1");
+    notifier.info("queued 2");
+    notifier.info("dropped");
+    release.countDown();
+    notifier.flush();
+
+    assertThat(notifier.getDroppedCount(), is(1L));
+    assertThat(delegate.getInfoMessages(), contains("slow", "queued 1", "queued 2"));
+    assertThat(delegate.getErrorMessages().size(), greaterThan(0));
+  }
+}
@@ -18,6 +18,11 @@ package com.github.tomakehurst.wiremock.common;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 public class NetworkAddressRulesTest {
@@ -92,4 +97,80 @@ public class NetworkAddressRulesTest {
     assertThat(rules.isAllowed("10.1.1.3"), is(false));
     assertThat(rules.isAllowed("10.1.1.4"), is(false));
   }
+
+  @Test
+  void matchesDomainWildcardsAgainstWholeHostName() {
+    NetworkAddressRules rules =
+        NetworkAddressRules.builder()
+            .allow("*.example.com")
+            .allow("exact.example.org")
+            .allow("api-*.example.net")
+            .deny("secret.example.com")
+            .deny("*.internal.example.com")
+            .build();
+
+    assertThat(rules.isAllowed("www.example.com"), is(true));
+    assertThat(rules.isAllowed("a.b.example.com"), is(true));
+    assertThat(rules.isAllowed("example.com"), is(false));
+    assertThat(rules.isAllowed(".example.com"), is(false));
+    assertThat(rules.isAllowed("wwwexample.com"), is(false));
+    assertThat(rules.isAllowed("secret.example.com"), is(false));
+    assertThat(rules.isAllowed("db.internal.example.com"), is(false));
+    assertThat(rules.isAllowed("internal.example.com"), is(true));
+    assertThat(rules.isAllowed("exact.example.org"), is(true));
+    assertThat(rules.isAllowed("other.example.org"), is(false));
+    assertThat(rules.isAllowed("api-1.example.net"), is(true));
+    assertThat(rules.isAllowed("www.example.net"), is(false));
+  }
+
+  @Test
+  void treatsNonCanonicalAddressesAsHostNames() {
+    NetworkAddressRules rules = NetworkAddressRules.builder().deny("10.1.1.1").build();
+
+    assertThat(rules.isAllowed("10.1.1.1"), is(false));
+    assertThat(rules.isAllowed("010.1.1.1"), is(true));
+    assertThat(rules.isAllowed("10.1.1.1.1"), is(true));
+    assertThat(rules.isAllowed("10.1.1.256"), is(true));
+  }
+
+  @Test
+  void largeRuleSetsGiveTheSameAnswersAsCheckingEachRuleInTurn() {
+    Random random = new Random(42);
+    Set<NetworkAddressRange> allowed = new HashSet<>();
+    Set<NetworkAddressRange> denied = new HashSet<>();
+    NetworkAddressRules.Builder builder = NetworkAddressRules.builder();
+    for (int i = 0; i < 500; i++) {
+      String start = "10." + random.nextInt(256) + "." + random.nextInt(256) + ".0";
+      String range = start + "-" + start.substring(0, start.length() - 1) + random.nextInt(256);
+      String single = "10." + random.nextInt(256) + "." + random.nextInt(256) + ".1";
+      String domain = "*.team" + random.nextInt(300) + ".example.com";
+      String host = "host" + random.nextInt(300) + ".example.com";
+      builder.allow(range).allow(domain).deny(single).deny(host);
+      allowed.add(NetworkAddressRange.of(range));
+      allowed.add(NetworkAddressRange.of(domain));
+      denied.add(NetworkAddressRange.of(single));
+      denied.add(NetworkAddressRange.of(host));
+    }
+    NetworkAddressRules rules = builder.build();
+
+    List<String> candidates = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      candidates.add(
+          "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(4));
+      candidates.add("x.team" + random.nextInt(400) + ".example.com");
+      candidates.add("host" + random.nextInt(400) + ".team" + random.nextInt(400) + ".example.com");
+    }
+
+    for (String candidate : candidates) {
+      boolean isIp = candidate.startsWith("10.");
+      boolean expected =
+          allowed.stream()
+                  .filter(rule -> isIp != (rule instanceof NetworkAddressRange.DomainNameWildcard))
+                  .anyMatch(rule -> rule.isIncluded(candidate))
+              && denied.stream()
+                  .filter(rule -> isIp != (rule instanceof NetworkAddressRange.DomainNameWildcard))
+                  .noneMatch(rule -> rule.isIncluded(candidate));
+      assertThat(candidate, rules.isAllowed(candidate), is(expected));
+    }
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension.webhooks;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.wiremock.webhooks.WebhookDispatcher;
+
+public class WebhookDispatcherTest {
+
+  WebhookDispatcher dispatcher = new WebhookDispatcher(1, 2);
+
+  @AfterEach
+  public void shutdown() {
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void dropsWebhooksBeyondTheMaximumPending() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+
+    assertThat(dispatcher.dispatch(release::await, 0), is(true));
+    assertThat(dispatcher.dispatch(() -> {}, 0), is(true));
+    assertThat(dispatcher.dispatch(() -> {}, 0), is(false));
+
+    assertThat(dispatcher.getStats().getPending(), is(2));
+    assertThat(dispatcher.getStats().getDropped(), is(1L));
+
+    release.countDown();
+    await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getStats().getCompleted() == 2);
+    assertThat(dispatcher.getStats().getPending(), is(0));
+    assertThat(dispatcher.dispatch(() -> {}, 0), is(true));
+  }
+
+  @Test
+  public void countsFailedCalls() {
+    dispatcher.dispatch(
+        () -> {
+          throw new RuntimeException("boom");
+        },
+        0);
+    dispatcher.dispatch(() -> {}, 10);
+
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () ->
+                dispatcher.getStats().getFailed() == 1
+                    && dispatcher.getStats().getCompleted() == 1);
+  }
+
+  @Test
+  public void dropsPendingWebhooksOnShutdownAndRunsNewOnesAfterwards() {
+    dispatcher.dispatch(() -> {}, 60_000);
+
+    dispatcher.shutdown();
+
+    assertThat(dispatcher.getStats().getPending(), is(0));
+    assertThat(dispatcher.getStats().getDropped(), is(1L));
+
+    assertThat(dispatcher.dispatch(() -> {}, 0), is(true));
+    await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getStats().getCompleted() == 1);
+  }
+}
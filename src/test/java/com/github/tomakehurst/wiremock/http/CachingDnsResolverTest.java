@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.common.NetworkAddressRules;
+import com.github.tomakehurst.wiremock.common.ProhibitedNetworkAddressException;
+import com.google.common.base.Ticker;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.impl.InMemoryDnsResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingDnsResolverTest {
+
+  InMemoryDnsResolver dns = new InMemoryDnsResolver();
+  AtomicInteger lookups = new AtomicInteger();
+  AtomicLong nanos = new AtomicLong();
+
+  CachingDnsResolver resolver;
+
+  @BeforeEach
+  void init() throws Exception {
+    dns.add("allowed.example.com", InetAddress.getByName("10.1.1.2"));
+    dns.add("denied.example.com", InetAddress.getByName("10.1.1.1"));
+
+    DnsResolver countingDns =
+        new DnsResolver() {
+          @Override
+          public InetAddress[] resolve(String host) throws UnknownHostException {
+            lookups.incrementAndGet();
+            return dns.resolve(host);
+          }
+
+          @Override
+          public String resolveCanonicalHostname(String host) throws UnknownHostException {
+            return dns.resolveCanonicalHostname(host);
+          }
+        };
+
+    NetworkAddressRules rules = NetworkAddressRules.builder().deny("10.1.1.1").build();
+    Ticker ticker =
+        new Ticker() {
+          @Override
+          public long read() {
+            return nanos.get();
+          }
+        };
+
+    resolver =
+        new CachingDnsResolver(
+            new NetworkAddressRulesAdheringDnsResolver(countingDns, rules), 1000, 10, ticker);
+  }
+
+  @Test
+  void resolvesEachHostOnceWithinTheTtl() throws Exception {
+    InetAddress[] first = resolver.resolve("allowed.example.com");
+    InetAddress[] second = resolver.resolve("allowed.example.com");
+
+    assertThat(second).isEqualTo(first).isEqualTo(dns.resolve("allowed.example.com"));
+    assertThat(lookups.get()).isEqualTo(1);
+  }
+
+  @Test
+  void cachesProhibitedDecision() {
+    assertThatThrownBy(() -> resolver.resolve("denied.example.com"))
+        .isInstanceOf(ProhibitedNetworkAddressException.class);
+    assertThatThrownBy(() -> resolver.resolve("denied.example.com"))
+        .isInstanceOf(ProhibitedNetworkAddressException.class);
+
+    assertThat(lookups.get()).isEqualTo(1);
+  }
+
+  @Test
+  void resolvesAgainOnceTheTtlHasPassed() throws Exception {
+    resolver.resolve("allowed.example.com");
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+    resolver.resolve("allowed.example.com");
+
+    assertThat(lookups.get()).isEqualTo(2);
+  }
+
+  @Test
+  void doesNotCacheFailedLookups() {
+    assertThatThrownBy(() -> resolver.resolve("unknown.example.com"))
+        .isInstanceOf(UnknownHostException.class);
+    assertThatThrownBy(() -> resolver.resolve("unknown.example.com"))
+        .isInstanceOf(UnknownHostException.class);
+
+    assertThat(lookups.get()).isEqualTo(2);
+    assertThat(resolver.getStats().getSize()).isZero();
+  }
+
+  @Test
+  void reportsHitsAndMisses() throws Exception {
+    resolver.resolve("allowed.example.com");
+    resolver.resolve("allowed.example.com");
+    resolver.resolve("allowed.example.com");
+
+    CachingDnsResolver.Stats stats = resolver.getStats();
+    assertThat(stats.getHits()).isEqualTo(2);
+    assertThat(stats.getMisses()).isEqualTo(1);
+    assertThat(stats.getHitRate()).isEqualTo(2.0 / 3);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.ssl;
+
+import static com.github.tomakehurst.wiremock.testsupport.TestFiles.KEY_STORE_WITH_CA_PATH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import com.github.tomakehurst.wiremock.common.Source;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.net.ssl.SNIHostName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+@DisabledForJreRange(
+    min = JRE.JAVA_17,
+    disabledReason = "does not support generating certificates at runtime")
+public class DynamicKeyStoreTest {
+
+  @Test
+  public void generatesOnlyOneCertificatePerHostForConcurrentRequests() throws Exception {
+    DynamicKeyStore dynamicKeyStore = new DynamicKeyStore(x509KeyStore(loadKeyStore()));
+    SNIHostName hostName = new SNIHostName("example.com");
+    Set<PrivateKey> keys = ConcurrentHashMap.newKeySet();
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures =
+        IntStream.range(0, 8)
+            .mapToObj(
+                i ->
+                    executor.submit(
+                        () -> {
+                          start.await();
+                          dynamicKeyStore.generateCertificateIfNecessary("RSA", hostName);
+                          keys.add(dynamicKeyStore.getPrivateKey("example.com"));
+                          return null;
+                        }))
+            .collect(Collectors.toList());
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    assertThat(keys, hasSize(1));
+  }
+
+  @Test
+  public void generatesEllipticCurveCertificates() throws Exception {
+    DynamicKeyStore dynamicKeyStore = new DynamicKeyStore(x509KeyStore(loadKeyStore()));
+
+    dynamicKeyStore.generateCertificateIfNecessary("EC", new SNIHostName("example.com"));
+
+    assertThat(dynamicKeyStore.getPrivateKey("example.com").getAlgorithm(), is("EC"));
+  }
+
+  @Test
+  public void savesGeneratedCertificatesWhenPersistenceIsEnabled() throws Exception {
+    CountDownLatch saved = new CountDownLatch(1);
+    Source<KeyStore> persistTo =
+        new Source<>() {
+          @Override
+          public KeyStore load() {
+            return null;
+          }
+
+          @Override
+          public void save(KeyStore item) {
+            saved.countDown();
+          }
+
+          @Override
+          public boolean exists() {
+            return true;
+          }
+        };
+    KeyStore keyStore = loadKeyStore();
+    DynamicKeyStore dynamicKeyStore = new DynamicKeyStore(x509KeyStore(keyStore), persistTo);
+
+    dynamicKeyStore.generateCertificateIfNecessary("RSA", new SNIHostName("example.com"));
+
+    assertThat(saved.await(10, TimeUnit.SECONDS), is(true));
+    assertThat(keyStore.getCertificate("example.com"), notNullValue());
+  }
+
+  private static X509KeyStore x509KeyStore(KeyStore keyStore) throws Exception {
+    return new X509KeyStore(keyStore, "password".toCharArray());
+  }
+
+  private static KeyStore loadKeyStore() throws Exception {
+    KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    try (InputStream in = new FileInputStream(KEY_STORE_WITH_CA_PATH)) {
+      keyStore.load(in, "password".toCharArray());
+    }
+    return keyStore;
+  }
+}
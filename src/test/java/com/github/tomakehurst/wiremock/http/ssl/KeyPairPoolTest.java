@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.ssl;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class KeyPairPoolTest {
+
+  @Test
+  public void replacesPairsTakenFromThePool() throws Exception {
+    KeyPairPool pool = new KeyPairPool(2, "EC");
+    await().atMost(Duration.ofSeconds(10)).until(() -> pool.available("EC") == 2);
+
+    KeyPair pair = pool.take("EC");
+
+    assertThat(pair.getPrivate().getAlgorithm(), is("EC"));
+    await().atMost(Duration.ofSeconds(10)).until(() -> pool.available("EC") == 2);
+  }
+
+  @Test
+  public void generatesOnTheCallingThreadWhenThePoolIsEmpty() throws Exception {
+    KeyPairPool pool = new KeyPairPool(0);
+
+    KeyPair pair = pool.take("EC");
+
+    assertThat(pair, notNullValue());
+    assertThat(pool.available("EC"), is(0));
+  }
+
+  @Test
+  public void keepsHandingOutPairsAfterBeingClosed() throws Exception {
+    KeyPairPool pool = new KeyPairPool(2);
+    pool.close();
+
+    KeyPair pair = pool.take("EC");
+
+    assertThat(pair, notNullValue());
+    assertThat(pool.available("EC"), is(0));
+  }
+}
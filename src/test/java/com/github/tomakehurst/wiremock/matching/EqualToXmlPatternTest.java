@@ -30,8 +30,13 @@ import static org.xmlunit.diff.ComparisonType.SCHEMA_LOCATION;
 import com.github.tomakehurst.wiremock.common.*;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.github.tomakehurst.wiremock.testsupport.WireMatchers;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -59,6 +64,43 @@ public class EqualToXmlPatternTest {
     LocalNotifier.set(null);
   }
 
+  @Test
+  public void reusesParsedRequestBodyAcrossPatternsWithoutMixingUpBodies() {
+    EqualToXmlPattern thingOne = new EqualToXmlPattern("<thing>one</thing>");
+    EqualToXmlPattern thingTwo = new EqualToXmlPattern("<thing>two</thing>");
+    String bodyOne = "<!-- first --><thing>one</thing>";
+    String bodyTwo = "<thing>\n  two\n</thing>";
+
+    assertTrue(thingOne.match(bodyOne).isExactMatch());
+    assertFalse(thingTwo.match(bodyOne).isExactMatch());
+    assertThat(thingTwo.match(bodyOne).getDistance(), greaterThan(0.0));
+
+    assertFalse(thingOne.match(bodyTwo).isExactMatch());
+    assertTrue(thingTwo.match(bodyTwo).isExactMatch());
+    assertThat(thingTwo.match(bodyTwo).getDistance(), is(0.0));
+  }
+
+  @Test
+  public void matchesCorrectlyWhenUsedFromSeveralThreadsAtOnce() throws Exception {
+    EqualToXmlPattern pattern = new EqualToXmlPattern("<things><thing>one</thing></things>");
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 400; i++) {
+        boolean matching = i % 2 == 0;
+        String body = "<things><thing>" + (matching ? "one" : "two") + "</thing></things>";
+        results.add(executor.submit(() -> pattern.match(body).isExactMatch() == matching));
+      }
+
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void returnsNoMatchAnd1DistanceWhenActualIsNull() {
     EqualToXmlPattern pattern =
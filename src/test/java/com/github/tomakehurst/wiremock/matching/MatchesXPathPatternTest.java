@@ -115,6 +115,41 @@ public class MatchesXPathPatternTest {
     assertTrue(match.isExactMatch());
   }
 
+  @Test
+  public void reusesCompiledNamespacedXPathAcrossSoapEnvelopes() {
+    StringValuePattern pattern =
+        new MatchesXPathPattern(
+            "/soap:Envelope/soap:Body/m:GetPrice/m:Item/text()",
+            Map.of(
+                "soap", "http://www.w3.org/2003/05/soap-envelope", "m", "https://www.example.org"),
+            WireMock.equalTo("Apples"));
+
+    assertTrue(pattern.match(soapEnvelope("Apples")).isExactMatch());
+    assertFalse(pattern.match(soapEnvelope("Pears")).isExactMatch());
+    assertTrue(pattern.match(soapEnvelope("Apples")).isExactMatch());
+  }
+
+  @Test
+  public void matchesSoapEnvelopeByLocalNamesWithoutNamespaces() {
+    StringValuePattern pattern =
+        WireMock.matchingXPath("/Envelope/Body/GetPrice/Item/text()", WireMock.equalTo("Apples"));
+
+    assertTrue(pattern.match(soapEnvelope("Apples")).isExactMatch());
+    assertFalse(pattern.match(soapEnvelope("Pears")).isExactMatch());
+  }
+
+  private static String soapEnvelope(String item) {
+    return "<soap:Envelope xmlns:soap=\"http://www.w3.org/2003/05/soap-envelope\">\n"
+        + "  <soap:Body>\n"
+        + "    <m:GetPrice xmlns:m=\"https://www.example.org\">\n"
+        + "      <m:Item>"
+        + item
+        + "</m:Item>\n"
+        + "    </m:GetPrice>\n"
+        + "  </soap:Body>\n"
+        + "</soap:Envelope>";
+  }
+
   @Test
   public void matchesAgainstValuePatternWhenSingleElementReturnedFromXPath() {
     String xml = "<outer>\n" + "    <inner>stuff</inner>\n" + "</outer>";
@@ -165,6 +165,18 @@ public class MultiValuePatternTest {
             .isExactMatch());
   }
 
+  @Test
+  public void matchesCaseInsensitiveEqualToAgainstOneOfSeveralHeaderValues() {
+    assertTrue(
+        MultiValuePattern.of(equalToIgnoreCase("Required-Value"))
+            .match(httpHeader("any-key", "other-value", "required-value"))
+            .isExactMatch());
+    assertFalse(
+        MultiValuePattern.of(equalTo("Required-Value"))
+            .match(httpHeader("any-key", "other-value", "required-value"))
+            .isExactMatch());
+  }
+
   @Test
   public void correctlyRendersEqualToAsJson() throws Exception {
     String actual = Json.write(MultiValuePattern.of(equalTo("something")));
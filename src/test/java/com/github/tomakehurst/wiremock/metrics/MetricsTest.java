@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MetricsTest {
+
+  @Test
+  public void histogramQuantilesAreWithinBucketPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 10_000; i++) {
+      histogram.record(i * 1000);
+    }
+
+    assertThat(histogram.getCount(), is(10_000L));
+    assertThat((double) histogram.getValueAtQuantile(0.5), closeTo(5_000_000, 5_000_000 * 0.04));
+    assertThat((double) histogram.getValueAtQuantile(0.99), closeTo(9_900_000, 9_900_000 * 0.04));
+    assertThat(histogram.getMax(), is(10_000_000L));
+  }
+
+  @Test
+  public void returnsTheSameCounterForTheSameNameAndLabels() {
+    Metrics metrics = new Metrics();
+
+    Counter counter = metrics.counter("things_total", "Things", "kind", "a");
+
+    assertThat(metrics.counter("things_total", "Things", "kind", "a"), sameInstance(counter));
+  }
+
+  @Test
+  public void rendersCountersGaugesAndTimers() {
+    Metrics metrics = new Metrics();
+    metrics.counter("things_total", "Things", "kind", "a").increment();
+    metrics.gauge("level", "Level", () -> 2.5);
+    metrics.timer("work_seconds", "Work", "phase", "x").record(2_000_000_000L);
+
+    String text = metrics.renderPrometheusText();
+
+    assertThat(text, containsString("# HELP things_total Things\n# TYPE things_total counter\n"));
+    assertThat(text, containsString("things_total{kind=\"a\"} 1\n"));
+    assertThat(text, containsString("level 2.5\n"));
+    assertThat(text, containsString("# TYPE work_seconds summary\n"));
+    assertThat(text, containsString("work_seconds_sum{phase=\"x\"} 2\n"));
+    assertThat(text, containsString("work_seconds_count{phase=\"x\"} 1\n"));
+  }
+
+  @Test
+  public void rejectsRegisteringTheSameNameWithADifferentType() {
+    Metrics metrics = new Metrics();
+    metrics.counter("things", "Things");
+
+    assertThrows(IllegalArgumentException.class, () -> metrics.timer("things", "Things"));
+  }
+
+  @Test
+  public void disabledMetricsRenderNothing() {
+    Metrics.DISABLED.counter("things_total", "Things").increment();
+    Metrics.DISABLED.timer("work_seconds", "Work").record(1000);
+
+    assertThat(Metrics.DISABLED.renderPrometheusText(), is(""));
+  }
+}
@@ -41,6 +41,7 @@ import com.github.tomakehurst.wiremock.http.trafficlistener.ConsoleNotifyingWire
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.security.Authenticator;
+import com.github.tomakehurst.wiremock.verification.JournalPolicy;
 import java.util.Collections;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -742,6 +743,24 @@ public class CommandLineOptionsTest {
     assertThat(limit.isExceededBy(Integer.MAX_VALUE), is(false));
   }
 
+  @Test
+  void journalPolicy() {
+    CommandLineOptions options =
+        new CommandLineOptions(
+            "--journal-sample-rate", "0.5",
+            "--journal-retention", "unmatched",
+            "--logged-request-body-size-limit", "100",
+            "--journal-excluded-request-headers", "Authorization,Cookie");
+
+    JournalPolicy policy = options.getJournalPolicy();
+
+    assertThat(policy.getSampleRate(), is(0.5));
+    assertThat(policy.getRetention(), is(JournalPolicy.Retention.UNMATCHED));
+    assertThat(policy.getMaxRequestBodySize().isExceededBy(101), is(true));
+    assertThat(policy.allowsHeader("authorization"), is(false));
+    assertThat(policy.allowsHeader("Accept"), is(true));
+  }
+
   @Test
   void proxyTargetRules() {
     CommandLineOptions options =
@@ -758,6 +777,13 @@ public class CommandLineOptionsTest {
     assertThat(proxyTargetRules.isAllowed("localhost"), is(false));
   }
 
+  @Test
+  void proxyTargetRulesAreBuiltOnce() {
+    CommandLineOptions options = new CommandLineOptions("--deny-proxy-targets", "10.1.1.1");
+
+    assertThat(options.getProxyTargetRules(), sameInstance(options.getProxyTargetRules()));
+  }
+
   @Test
   void proxyTimeout() {
     CommandLineOptions options = new CommandLineOptions("--proxy-timeout", "5000");
@@ -29,6 +29,7 @@ import com.github.tomakehurst.wiremock.common.ClasspathFileSource;
 import com.github.tomakehurst.wiremock.common.NotWritableException;
 import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
 import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
+import com.github.tomakehurst.wiremock.store.files.StateSnapshotFile;
 import com.github.tomakehurst.wiremock.stubbing.InMemoryStubMappings;
 import com.github.tomakehurst.wiremock.stubbing.StoreBackedStubMappings;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
@@ -95,6 +96,19 @@ public class JsonFileMappingsSourceTest {
     assertThat(mappingRequestUrls, is(asList("/second_test", "/test")));
   }
 
+  @Test
+  public void loadsMappingsViaClasspathFileSourceWithStateSnapshot() {
+    ClasspathFileSource fileSource = new ClasspathFileSource("jar-filesource");
+    StateSnapshotFile snapshotFile = new StateSnapshotFile(tempDir.toPath().resolve("wm.snapshot"));
+    JsonFileMappingsSource source =
+        new JsonFileMappingsSource(fileSource, new FilenameMaker(), snapshotFile);
+    StoreBackedStubMappings stubMappings = new InMemoryStubMappings();
+
+    source.loadMappingsInto(stubMappings);
+
+    assertThat(stubMappings.getAll(), hasSize(2));
+  }
+
   @Test
   public void stubMappingFilesAreWrittenWithInsertionIndex() throws Exception {
     JsonFileMappingsSource source =
@@ -201,4 +215,47 @@ public class JsonFileMappingsSourceTest {
 
     assertThat(stubMappingFile.exists(), is(false));
   }
+
+  @Test
+  public void loadsMappingsFromStateSnapshotWhenMappingFilesAreUnchanged() throws Exception {
+    configureWithSingleMappingFile();
+    StateSnapshotFile snapshotFile = new StateSnapshotFile(tempDir.toPath().resolve("wm.snapshot"));
+    loadWithSnapshot(snapshotFile);
+    assertThat(snapshotFile.read().isPresent(), is(true));
+
+    // Same size and timestamp as the original, so the snapshot is considered up to date
+    long lastModified = stubMappingFile.lastModified();
+    String contents = FileUtils.readFileToString(stubMappingFile, UTF_8);
+    FileUtils.writeStringToFile(stubMappingFile, contents.replace("/single/1", "/single/2"), UTF_8);
+    stubMappingFile.setLastModified(lastModified);
+
+    StoreBackedStubMappings reloaded = loadWithSnapshot(snapshotFile);
+
+    assertThat(reloaded.getAll(), hasSize(1));
+    assertThat(reloaded.getAll().get(0).getRequest().getUrl(), is("/single/1"));
+  }
+
+  @Test
+  public void prefersMappingFileOverStateSnapshotWhenFileHasChanged() throws Exception {
+    configureWithSingleMappingFile();
+    StateSnapshotFile snapshotFile = new StateSnapshotFile(tempDir.toPath().resolve("wm.snapshot"));
+    loadWithSnapshot(snapshotFile);
+
+    String contents = FileUtils.readFileToString(stubMappingFile, UTF_8);
+    FileUtils.writeStringToFile(
+        stubMappingFile, contents.replace("/single/1", "/single/changed"), UTF_8);
+    stubMappingFile.setLastModified(stubMappingFile.lastModified() + 10_000);
+
+    StoreBackedStubMappings reloaded = loadWithSnapshot(snapshotFile);
+
+    assertThat(reloaded.getAll(), hasSize(1));
+    assertThat(reloaded.getAll().get(0).getRequest().getUrl(), is("/single/changed"));
+  }
+
+  private StoreBackedStubMappings loadWithSnapshot(StateSnapshotFile snapshotFile) {
+    StoreBackedStubMappings mappings = new InMemoryStubMappings();
+    new JsonFileMappingsSource(new SingleRootFileSource(tempDir), new FilenameMaker(), snapshotFile)
+        .loadMappingsInto(mappings);
+    return mappings;
+  }
 }
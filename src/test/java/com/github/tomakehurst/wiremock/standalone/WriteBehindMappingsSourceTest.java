@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.standalone;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.tomakehurst.wiremock.common.NotWritableException;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.testsupport.TestNotifier;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+public class WriteBehindMappingsSourceTest {
+
+  MappingsSource delegate;
+  WriteBehindMappingsSource source;
+
+  @BeforeEach
+  public void init() {
+    delegate = mock(MappingsSource.class);
+    source = new WriteBehindMappingsSource(delegate, new TestNotifier(), 60_000, 1000);
+  }
+
+  @Test
+  public void coalescesRepeatedSavesOfTheSameStubUntilFlushed() {
+    StubMapping stub = get("/one").willReturn(ok()).build();
+
+    source.save(stub);
+    source.save(stub);
+    source.save(stub);
+    verify(delegate, never()).save(any(StubMapping.class));
+
+    source.flush();
+
+    verify(delegate, times(1)).save(stub);
+  }
+
+  @Test
+  public void removalSupersedesPendingSave() {
+    StubMapping stub = get("/one").willReturn(ok()).build();
+
+    source.save(stub);
+    source.remove(stub);
+    source.flush();
+
+    verify(delegate, never()).save(any(StubMapping.class));
+    verify(delegate).remove(stub);
+  }
+
+  @Test
+  public void writesBatchOnceMaxBatchSizeIsReached() {
+    source = new WriteBehindMappingsSource(delegate, new TestNotifier(), 60_000, 2);
+    StubMapping one = get("/one").willReturn(ok()).build();
+    StubMapping two = get("/two").willReturn(ok()).build();
+
+    source.save(one);
+    source.save(two);
+
+    verify(delegate, timeout(5000)).save(one);
+    verify(delegate, timeout(5000)).save(two);
+  }
+
+  @Test
+  public void flushesPendingWritesBeforeSavingAll() {
+    StubMapping stub = get("/one").willReturn(ok()).build();
+    List<StubMapping> all = List.of(stub);
+
+    source.save(stub);
+    source.save(all);
+
+    InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).save(stub);
+    inOrder.verify(delegate).save(all);
+  }
+
+  @Test
+  public void flushReportsWritesThatFailed() {
+    StubMapping stub = get("/one").willReturn(ok()).build();
+    doThrow(new NotWritableException("read-only")).when(delegate).save(stub);
+
+    source.save(stub);
+
+    assertThrows(NotWritableException.class, source::flush);
+    source.flush();
+  }
+
+  @Test
+  public void closeWritesPendingChangesAndLaterWritesStillSucceed() {
+    StubMapping one = get("/one").willReturn(ok()).build();
+    StubMapping two = get("/two").willReturn(ok()).build();
+
+    source.save(one);
+    source.close();
+    verify(delegate).save(one);
+
+    source.save(two);
+    source.flush();
+    verify(delegate).save(two);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class CopyOnWriteStubMappingStoreTest {
+
+  CopyOnWriteStubMappingStore store = new CopyOnWriteStubMappingStore();
+
+  @Test
+  public void returnsStubsInPriorityThenReverseInsertionOrder() {
+    StubMapping one = aStub("/1", 3);
+    StubMapping two = aStub("/2", 1);
+    StubMapping three = aStub("/3", 3);
+    StubMapping four = aStub("/4", null);
+
+    store.add(one);
+    store.add(two);
+    store.addAll(List.of(three, four));
+
+    assertThat(store.getAll().collect(toList()), contains(two, three, one, four));
+  }
+
+  @Test
+  public void findsStubsById() {
+    StubMapping stub = aStub("/1", null);
+    store.add(stub);
+
+    assertThat(store.get(stub.getId()).get(), is(stub));
+  }
+
+  @Test
+  public void replacesStubAndReordersWhenPriorityChanges() {
+    StubMapping one = aStub("/1", 5);
+    StubMapping two = aStub("/2", 5);
+    store.add(one);
+    store.add(two);
+
+    StubMapping updated = aStub("/1-updated", 1);
+    updated.setId(one.getId());
+    updated.setInsertionIndex(one.getInsertionIndex());
+    store.replace(one, updated);
+
+    assertThat(store.getAll().collect(toList()), contains(updated, two));
+    assertThat(store.get(one.getId()).get(), is(updated));
+  }
+
+  @Test
+  public void removesStubsByIdOrRequestPattern() {
+    StubMapping one = aStub("/1", null);
+    StubMapping two = aStub("/2", null);
+    StubMapping three = aStub("/3", null);
+    store.addAll(List.of(one, two, three));
+
+    store.remove(one);
+    store.remove(aStub("/2", null));
+
+    assertThat(store.getAll().collect(toList()), contains(three));
+    assertThat(store.get(two.getId()).isPresent(), is(false));
+  }
+
+  @Test
+  public void removesBatchOfStubs() {
+    StubMapping one = aStub("/1", null);
+    StubMapping two = aStub("/2", null);
+    store.addAll(List.of(one, two));
+
+    store.removeAll(List.of(one, two));
+
+    assertThat(store.getAll().collect(toList()), is(empty()));
+  }
+
+  private static StubMapping aStub(String url, Integer priority) {
+    return get(url).atPriority(priority).willReturn(ok()).build();
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileRequestJournalStoreTest {
+
+  @TempDir Path directory;
+
+  FileRequestJournalStore store;
+
+  @BeforeEach
+  public void init() {
+    store = new FileRequestJournalStore(directory, 4096);
+  }
+
+  @Test
+  public void readsBackEventsNewestFirst() {
+    ServeEvent one = unmatched("/one");
+    ServeEvent two = unmatched("/two");
+
+    store.add(one);
+    store.add(two);
+
+    assertThat(urls(store.getAll()), contains("/two", "/one"));
+    assertThat(store.get(one.getId()).get().getRequest().getUrl(), is("/one"));
+    assertThat(store.getAllKeys().collect(toList()), contains(two.getId(), one.getId()));
+    assertThat(store.size(), is(2L));
+  }
+
+  @Test
+  public void replacesExistingEventsOnly() {
+    ServeEvent event = unmatched("/original");
+    store.add(event);
+
+    store.put(event.getId(), event.withResponseDefinition(ResponseDefinition.ok()));
+    store.put(unmatched("/absent").getId(), unmatched("/absent"));
+
+    assertThat(store.size(), is(1L));
+    assertThat(store.get(event.getId()).get().getWasMatched(), is(true));
+  }
+
+  @Test
+  public void rotatesSegmentsAndDeletesThemOnceTheirEventsAreRemoved() throws IOException {
+    IntStream.range(0, 50).forEach(i -> store.add(unmatched("/rotated/" + i)));
+    assertThat(segmentCount(), greaterThan(1L));
+
+    IntStream.range(0, 49).forEach(i -> store.removeLast());
+
+    assertThat(segmentCount(), is(1L));
+    assertThat(urls(store.getAll()), contains("/rotated/49"));
+  }
+
+  @Test
+  public void decodesOnlyTheEventsThatAreRead() throws IOException {
+    IntStream.range(0, 50).forEach(i -> store.add(unmatched("/lazy/" + i)));
+    Path oldestSegment = directory.resolve("journal-0.segment");
+    Files.write(oldestSegment, new byte[(int) Files.size(oldestSegment)]);
+
+    List<ServeEvent> all = store.getAllAsList();
+
+    assertThat(all.size(), is(50));
+    assertThat(urls(all.subList(5, 7).stream()), contains("/lazy/44", "/lazy/43"));
+    assertThrows(JsonException.class, () -> all.get(49));
+  }
+
+  @Test
+  public void listsAreUnaffectedByLaterChangesToTheJournal() {
+    IntStream.range(0, 50).forEach(i -> store.add(unmatched("/listed/" + i)));
+    List<ServeEvent> all = store.getAllAsList();
+
+    store.clear();
+
+    assertThat(all.get(49).getRequest().getUrl(), is("/listed/0"));
+    assertThat(all.get(49), sameInstance(all.get(49)));
+  }
+
+  @Test
+  public void clearRemovesAllEventsAndSegments() throws IOException {
+    IntStream.range(0, 50).forEach(i -> store.add(unmatched("/cleared/" + i)));
+
+    store.clear();
+
+    assertThat(store.size(), is(0L));
+    assertThat(segmentCount(), is(0L));
+
+    store.add(unmatched("/after"));
+    assertThat(urls(store.getAll()), contains("/after"));
+  }
+
+  @Test
+  public void closeDeletesAllSegmentsAndAcceptsNewEventsAfterwards() throws IOException {
+    IntStream.range(0, 50).forEach(i -> store.add(unmatched("/closed/" + i)));
+
+    store.close();
+
+    assertThat(store.size(), is(0L));
+    assertThat(segmentCount(), is(0L));
+
+    store.add(unmatched("/reopened"));
+    assertThat(urls(store.getAll()), contains("/reopened"));
+  }
+
+  private long segmentCount() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  private static List<String> urls(Stream<ServeEvent> serveEvents) {
+    return serveEvents.map(serveEvent -> serveEvent.getRequest().getUrl()).collect(toList());
+  }
+
+  private static ServeEvent unmatched(String url) {
+    return ServeEvent.ofUnmatched(
+        createFrom(aRequest(url).withUrl(url).build()), ResponseDefinition.notConfigured());
+  }
+}
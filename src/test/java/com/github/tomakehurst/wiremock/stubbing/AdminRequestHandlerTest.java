@@ -24,6 +24,7 @@ import static com.github.tomakehurst.wiremock.testsupport.WireMatchers.equalToJs
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -39,6 +40,8 @@ import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.security.NoAuthenticator;
 import com.github.tomakehurst.wiremock.testsupport.MockHttpResponder;
+import com.github.tomakehurst.wiremock.verification.BatchVerification;
+import com.github.tomakehurst.wiremock.verification.BatchVerificationResult;
 import com.github.tomakehurst.wiremock.verification.VerificationResult;
 import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
@@ -128,6 +131,28 @@ public class AdminRequestHandlerTest {
         equalToJson("{ \"count\": 5, \"requestJournalDisabled\" : false}"));
   }
 
+  @Test
+  public void shouldReportADisabledJournalWhenVerifyingRequests() {
+    Mockito.when(admin.verifyRequests(any(BatchVerification.class)))
+        .thenReturn(BatchVerificationResult.withRequestJournalDisabled());
+
+    handler.handle(
+        aRequest()
+            .withUrl("/requests/verify")
+            .withMethod(POST)
+            .withBody(
+                "{ \"verifications\": [ { \"requestPattern\": " + REQUEST_PATTERN_SAMPLE + " } ] }")
+            .build(),
+        httpResponder,
+        null);
+    Response response = httpResponder.response;
+
+    assertThat(response.getStatus(), is(HTTP_OK));
+    assertThat(
+        response.getBodyAsString(),
+        equalToJson("{ \"results\": [], \"requestJournalDisabled\" : true }"));
+  }
+
   private static final String GLOBAL_SETTINGS_JSON =
       "{												\n" + "	\"fixedDelay\": 2000						\n" + "}												";
 
@@ -25,6 +25,8 @@ import static org.hamcrest.Matchers.is;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -134,6 +136,31 @@ public class SortedConcurrentMappingSetTest {
     assertThat(it.hasNext(), is(false));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void addsBatchInTheSameOrderAsIndividualAdds() {
+    mappingSet.add(aMapping(1, "/existing"));
+    mappingSet.addAll(List.of(aMapping(1, "/batch/1"), aMapping(1, "/batch/2")));
+
+    assertThat(
+        mappingSet,
+        hasExactly(requestUrlIs("/batch/2"), requestUrlIs("/batch/1"), requestUrlIs("/existing")));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void removesBatchById() {
+    StubMapping one = aMapping(1, "/1");
+    StubMapping two = aMapping(1, "/2");
+    StubMapping three = aMapping(1, "/3");
+    mappingSet.addAll(List.of(one, two, three));
+
+    boolean result = mappingSet.removeAll(Set.of(one.getId(), three.getId()));
+
+    assertThat(result, is(true));
+    assertThat(mappingSet, hasExactly(requestUrlIs("/2")));
+  }
+
   private StubMapping aMapping(Integer priority, String url) {
     RequestPattern requestPattern = newRequestPattern(ANY, urlEqualTo(url)).build();
     StubMapping mapping = new StubMapping(requestPattern, new ResponseDefinition());
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.matching.RequestPattern.everything;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class AsyncRequestJournalTest {
+
+  @Test
+  public void readsSeeEveryEventRecordedBeforeThem() {
+    RequestJournal journal =
+        new AsyncRequestJournal(new InMemoryRequestJournal(null, Collections.emptyMap()), 10);
+
+    IntStream.range(0, 100)
+        .forEach(
+            i ->
+                journal.requestReceived(
+                    ServeEvent.of(
+                        createFrom(aRequest("log" + i).withUrl("/logging/" + i).build()))));
+
+    assertThat(journal.countRequestsMatching(everything()), is(100));
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlEqualTo("/logging/99")).build()), is(1));
+  }
+
+  @Test
+  public void resetClearsEventsStillQueued() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    RequestJournal blocking =
+        new InMemoryRequestJournal(null, Collections.emptyMap()) {
+          @Override
+          public void requestReceived(ServeEvent serveEvent) {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            super.requestReceived(serveEvent);
+          }
+        };
+    RequestJournal journal = new AsyncRequestJournal(blocking);
+
+    journal.requestReceived(ServeEvent.of(createFrom(aRequest("one").withUrl("/one").build())));
+    journal.requestReceived(ServeEvent.of(createFrom(aRequest("two").withUrl("/two").build())));
+    release.countDown();
+    journal.reset();
+
+    assertThat(journal.getAllServeEvents().size(), is(0));
+  }
+
+  @Test
+  public void closeRecordsQueuedEventsAndStopsTheAppenderThread() {
+    List<Thread> appenders = new CopyOnWriteArrayList<>();
+    RequestJournal recordingThreads =
+        new InMemoryRequestJournal(null, Collections.emptyMap()) {
+          @Override
+          public void requestReceived(ServeEvent serveEvent) {
+            appenders.add(Thread.currentThread());
+            super.requestReceived(serveEvent);
+          }
+        };
+    RequestJournal journal = new AsyncRequestJournal(recordingThreads);
+
+    journal.requestReceived(ServeEvent.of(createFrom(aRequest("one").withUrl("/one").build())));
+    journal.close();
+
+    assertThat(journal.getAllServeEvents().size(), is(1));
+    assertThat(appenders.get(0).isAlive(), is(false));
+
+    journal.requestReceived(ServeEvent.of(createFrom(aRequest("two").withUrl("/two").build())));
+    journal.close();
+
+    assertThat(journal.getAllServeEvents().size(), is(2));
+    assertThat(appenders.get(1).isAlive(), is(false));
+  }
+
+  @Test
+  public void closeLetsTheEventBeingAppendedFinishWithoutInterruptingIt() throws Exception {
+    CountDownLatch appending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean interrupted = new AtomicBoolean();
+    RequestJournal blocking =
+        new InMemoryRequestJournal(null, Collections.emptyMap()) {
+          @Override
+          public void requestReceived(ServeEvent serveEvent) {
+            appending.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              interrupted.set(true);
+            }
+            super.requestReceived(serveEvent);
+          }
+        };
+    RequestJournal journal = new AsyncRequestJournal(blocking);
+
+    journal.requestReceived(ServeEvent.of(createFrom(aRequest("one").withUrl("/one").build())));
+    appending.await();
+    Thread closing = new Thread(journal::close);
+    closing.start();
+    closing.join(200);
+    release.countDown();
+    closing.join();
+
+    assertThat(interrupted.get(), is(false));
+    assertThat(journal.getAllServeEvents().size(), is(1));
+  }
+}
@@ -27,6 +27,7 @@ import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,24 @@ public class InMemoryRequestJournalTest {
         journal.countRequestsMatching(getRequestedFor(urlEqualTo("/logging2")).build()), is(1));
   }
 
+  @Test
+  public void countsSeveralRequestPatternsInOnePass() {
+    RequestJournal journal = new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS);
+
+    journal.requestReceived(serveEvent1);
+    journal.requestReceived(serveEvent1);
+    journal.requestReceived(serveEvent2);
+
+    int[] counts =
+        journal.countRequestsMatching(
+            List.of(
+                getRequestedFor(urlEqualTo("/logging1")).build(),
+                getRequestedFor(urlEqualTo("/logging3")).build(),
+                everything()));
+
+    assertThat(counts, is(new int[] {2, 0, 3}));
+  }
+
   @Test
   public void resettingTheJournalClearsAllEntries() throws Exception {
     LoggedRequest loggedRequest = createFrom(aRequest().withUrl("/for/logging").build());
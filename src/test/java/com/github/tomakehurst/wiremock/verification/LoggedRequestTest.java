@@ -26,11 +26,15 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.common.Dates;
+import com.github.tomakehurst.wiremock.common.Encoding;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.http.Cookie;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.multipart.PartParser;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -207,4 +211,52 @@ public class LoggedRequestTest {
     assertEquals("test-param-2", req.queryParameter("test-param-2").key());
     assertEquals("value-2", req.queryParameter("test-param-2").firstValue());
   }
+
+  @Test
+  public void parsesMultipartBodyOnDemandWhenPartsWereNotCaptured() {
+    String body =
+        "--BOUNDARY\r\n"
+            + "Content-Disposition: form-data; name=\"text\"\r\n"
+            + "\r\n"
+            + "hello\r\n"
+            + "--BOUNDARY--\r\n";
+    LoggedRequest loggedRequest =
+        new LoggedRequest(
+            "/multipart",
+            "http://localhost:8080/multipart",
+            POST,
+            "127.0.0.1",
+            new HttpHeaders(httpHeader("Content-Type", "multipart/form-data; boundary=BOUNDARY")),
+            Map.of(),
+            false,
+            new Date(),
+            Encoding.encodeBase64(body.getBytes()),
+            null,
+            null,
+            "HTTP/1.1");
+
+    assertTrue(loggedRequest.isMultipart());
+    assertThat(loggedRequest.getPart("text").getBody().asString(), is("hello"));
+  }
+
+  @Test
+  public void parsesMultipartPartsAboveInMemoryThresholdViaTempFile() {
+    String body =
+        "--BOUNDARY\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"file.txt\"\r\n"
+            + "\r\n"
+            + "0123456789abcdef\r\n"
+            + "--BOUNDARY--\r\n";
+    Collection<Request.Part> parts =
+        new PartParser(4)
+            .parse(
+                aRequest()
+                    .withMethod(POST)
+                    .withUrl("/multipart")
+                    .withHeader("Content-Type", "multipart/form-data; boundary=BOUNDARY")
+                    .withBody(body)
+                    .build());
+
+    assertThat(parts.iterator().next().getBody().asString(), is("0123456789abcdef"));
+  }
 }
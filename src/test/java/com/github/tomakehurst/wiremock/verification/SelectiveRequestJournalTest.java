@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.common.Metadata.metadata;
+import static com.github.tomakehurst.wiremock.matching.RequestPattern.everything;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.github.tomakehurst.wiremock.common.Limit;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class SelectiveRequestJournalTest {
+
+  @Test
+  public void recordsRoughlyTheSampledProportionOfEvents() {
+    RequestJournal journal = journalWith(JournalPolicy.builder().sampleRate(0.25).build());
+
+    IntStream.range(0, 4000).forEach(i -> record(journal, unmatched("/sampled/" + i)));
+
+    assertThat(
+        journal.countRequestsMatching(everything()), allOf(greaterThan(800), lessThan(1200)));
+  }
+
+  @Test
+  public void keepsOnlyMatchedEventsWhenRetentionIsMatched() {
+    RequestJournal journal =
+        journalWith(JournalPolicy.builder().retention(JournalPolicy.Retention.MATCHED).build());
+
+    record(journal, unmatched("/unmatched"));
+    record(journal, matched("/matched", get("/matched").willReturn(ok()).build()));
+
+    List<ServeEvent> serveEvents = journal.getAllServeEvents();
+    assertThat(serveEvents.size(), is(1));
+    assertThat(serveEvents.get(0).getRequest().getUrl(), is("/matched"));
+  }
+
+  @Test
+  public void leavesOutEventsForStubsExcludedByMetadata() {
+    RequestJournal journal = journalWith(JournalPolicy.DEFAULT);
+    StubMapping excluded =
+        get("/excluded")
+            .willReturn(ok())
+            .withMetadata(metadata().attr(JournalPolicy.EXCLUDE_FROM_JOURNAL, true))
+            .build();
+
+    record(journal, matched("/excluded", excluded));
+    record(journal, matched("/included", get("/included").willReturn(ok()).build()));
+
+    assertThat(journal.countRequestsMatching(everything()), is(1));
+  }
+
+  @Test
+  public void truncatesBodiesAndFiltersHeadersOfRecordedRequests() {
+    RequestJournal journal =
+        journalWith(
+            JournalPolicy.builder()
+                .maxRequestBodySize(new Limit(5))
+                .deniedHeaders(List.of("Authorization"))
+                .build());
+
+    record(
+        journal,
+        ServeEvent.of(
+            createFrom(
+                aRequest("trimmed")
+                    .withUrl("/trimmed")
+                    .withHeader("Authorization", "secret")
+                    .withHeader("X-Kept", "yes")
+                    .withBody("0123456789")
+                    .build())));
+
+    LoggedRequest request = journal.getAllServeEvents().get(0).getRequest();
+    assertThat(request.getBodyAsString(), is("01234"));
+    assertThat(request.getHeader("Authorization"), nullValue());
+    assertThat(request.getHeader("X-Kept"), is("yes"));
+  }
+
+  @Test
+  public void recordsOnlyAllowedHeadersWhenAnAllowListIsGiven() {
+    RequestJournal journal =
+        journalWith(JournalPolicy.builder().allowedHeaders(List.of("x-kept")).build());
+
+    record(
+        journal,
+        ServeEvent.of(
+            createFrom(
+                aRequest("allowed")
+                    .withUrl("/allowed")
+                    .withHeader("X-Kept", "yes")
+                    .withHeader("X-Dropped", "no")
+                    .build())));
+
+    LoggedRequest request = journal.getAllServeEvents().get(0).getRequest();
+    assertThat(request.getHeader("X-Kept"), is("yes"));
+    assertThat(request.getHeader("X-Dropped"), nullValue());
+  }
+
+  @Test
+  public void trimsEachRequestOnlyOnce() {
+    RequestJournal journal =
+        journalWith(JournalPolicy.builder().deniedHeaders(List.of("Authorization")).build());
+    ServeEvent serveEvent =
+        ServeEvent.of(
+            createFrom(
+                aRequest("once").withUrl("/once").withHeader("Authorization", "secret").build()));
+
+    journal.requestReceived(serveEvent);
+    LoggedRequest received = journal.getAllServeEvents().get(0).getRequest();
+    journal.serveCompleted(serveEvent);
+
+    assertThat(journal.getAllServeEvents().get(0).getRequest(), sameInstance(received));
+  }
+
+  private static RequestJournal journalWith(JournalPolicy policy) {
+    return new SelectiveRequestJournal(
+        new InMemoryRequestJournal(null, Collections.emptyMap()), policy);
+  }
+
+  private static void record(RequestJournal journal, ServeEvent serveEvent) {
+    journal.requestReceived(serveEvent);
+    journal.serveCompleted(serveEvent);
+  }
+
+  private static ServeEvent unmatched(String url) {
+    return ServeEvent.of(createFrom(aRequest(url).withUrl(url).build()));
+  }
+
+  private static ServeEvent matched(String url, StubMapping stubMapping) {
+    return unmatched(url)
+        .withStubMapping(stubMapping)
+        .withResponseDefinition(ResponseDefinition.ok());
+  }
+}
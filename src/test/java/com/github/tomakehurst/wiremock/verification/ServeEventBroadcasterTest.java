@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2024 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class ServeEventBroadcasterTest {
+
+  ServeEventBroadcaster broadcaster = new ServeEventBroadcaster(Collections.emptyMap());
+
+  @Test
+  public void deliversOnlyEventsMatchingTheSubscriptionFilter() throws Exception {
+    ServeEventBroadcaster.Subscription all = broadcaster.subscribe(null, 10).get();
+    ServeEventBroadcaster.Subscription filtered =
+        broadcaster.subscribe(getRequestedFor(urlEqualTo("/wanted")).build(), 10).get();
+
+    publish("/unwanted");
+    publish("/wanted");
+
+    assertThat(all.poll(0, MILLISECONDS).getRequest().getUrl(), is("/unwanted"));
+    assertThat(all.poll(0, MILLISECONDS).getRequest().getUrl(), is("/wanted"));
+    assertThat(filtered.poll(0, MILLISECONDS).getRequest().getUrl(), is("/wanted"));
+    assertThat(filtered.poll(0, MILLISECONDS), nullValue());
+  }
+
+  @Test
+  public void dropsAndCountsEventsBeyondASlowSubscribersBuffer() throws Exception {
+    ServeEventBroadcaster.Subscription subscription = broadcaster.subscribe(null, 2).get();
+
+    publish("/1");
+    publish("/2");
+    publish("/3");
+    publish("/4");
+
+    assertThat(subscription.getDroppedCount(), is(2L));
+    assertThat(subscription.poll(0, MILLISECONDS).getRequest().getUrl(), is("/1"));
+    assertThat(subscription.poll(0, MILLISECONDS).getRequest().getUrl(), is("/2"));
+    assertThat(subscription.poll(0, MILLISECONDS), nullValue());
+  }
+
+  @Test
+  public void closingASubscriptionWakesAWaitingPollerAndUnsubscribes() throws Exception {
+    ServeEventBroadcaster.Subscription subscription = broadcaster.subscribe(null, 10).get();
+    new Thread(broadcaster::closeAll).start();
+
+    assertThrows(IllegalStateException.class, () -> subscription.poll(5000, MILLISECONDS));
+    assertThat(broadcaster.getSubscriberCount(), is(0));
+  }
+
+  @Test
+  public void refusesSubscribersBeyondTheMaximumUntilOneCloses() {
+    ServeEventBroadcaster capped = new ServeEventBroadcaster(Collections.emptyMap(), 1);
+    ServeEventBroadcaster.Subscription first = capped.subscribe(null, 10).get();
+
+    assertThat(capped.subscribe(null, 10).isPresent(), is(false));
+
+    first.close();
+    assertThat(capped.subscribe(null, 10).isPresent(), is(true));
+  }
+
+  private void publish(String url) {
+    broadcaster.afterComplete(
+        ServeEvent.of(aRequest().withMethod(GET).withUrl(url).build()), Parameters.empty());
+  }
+}